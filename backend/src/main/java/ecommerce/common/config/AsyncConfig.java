@@ -0,0 +1,127 @@
+package ecommerce.common.config;
+
+import ecommerce.infrastructure.executor.InstrumentedThreadPoolTaskExecutor;
+import ecommerce.infrastructure.executor.InstrumentedVirtualThreadTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ * 작업 종류별로 실행기를 분리하고, 큐 길이와 거부 정책을 제한
+ *
+ * - notificationExecutor: 알림 전달 (큐가 차면 호출 스레드에서 실행)
+ * - outboxDispatchExecutor: 아웃박스 디스패치 (스레드 1개, 깨우기 1건만 대기, 넘치면 버리고 주기 폴링이 처리)
+ * - cacheWarmingExecutor: 캐시 워밍 (최선 노력, 큐가 차면 버림)
+ * - sseExecutor: 알림 스트림 구독 메시지 처리/SSE 전송 (큐가 차면 거부, 다음 이벤트/하트비트 때 재시도)
+ * - batchJobExecutor: 이벤트로 시작되는 장시간 배치 작업 (큐가 차면 거부, 요청 측에서 나중에 재시도)
+ * - externalApiExecutor: 외부 API 호출 (큐가 차면 거부하여 호출 측에서 실패 처리)
+ *   executors.external-api.virtual-threads=true 이면 가상 스레드 실행기 사용 (JDK 21 이상)
+ *
+ * 종료 시 실행 중/대기 중인 작업이 끝날 때까지 await-termination-seconds 만큼 기다림
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final Executor notificationExecutor;
+
+    public AsyncConfig(@Lazy @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    @Value("${executors.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean
+    public InstrumentedThreadPoolTaskExecutor notificationExecutor(
+            @Value("${executors.notification.core-size:4}") int coreSize,
+            @Value("${executors.notification.max-size:8}") int maxSize,
+            @Value("${executors.notification.queue-capacity:500}") int queueCapacity) {
+        return threadPool("notification", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 커밋 직후 깨우기가 요청 스레드에서 디스패치를 실행하지 않도록 호출 측으로 넘기지 않고 버림
+     */
+    @Bean
+    public InstrumentedThreadPoolTaskExecutor outboxDispatchExecutor() {
+        return threadPool("outbox-dispatch", 1, 1, 1, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean
+    public InstrumentedThreadPoolTaskExecutor cacheWarmingExecutor(
+            @Value("${executors.cache-warming.core-size:2}") int coreSize,
+            @Value("${executors.cache-warming.max-size:2}") int maxSize,
+            @Value("${executors.cache-warming.queue-capacity:100}") int queueCapacity) {
+        return threadPool("cache-warming", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean
+    public InstrumentedThreadPoolTaskExecutor sseExecutor(
+            @Value("${executors.sse.core-size:4}") int coreSize,
+            @Value("${executors.sse.max-size:8}") int maxSize,
+            @Value("${executors.sse.queue-capacity:50000}") int queueCapacity) {
+        return threadPool("sse", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public InstrumentedThreadPoolTaskExecutor batchJobExecutor(
+            @Value("${executors.batch-job.core-size:2}") int coreSize,
+            @Value("${executors.batch-job.max-size:2}") int maxSize,
+            @Value("${executors.batch-job.queue-capacity:20}") int queueCapacity) {
+        return threadPool("batch-job", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "externalApiExecutor")
+    @ConditionalOnProperty(name = "executors.external-api.virtual-threads", havingValue = "false", matchIfMissing = true)
+    public InstrumentedThreadPoolTaskExecutor externalApiThreadPoolExecutor(
+            @Value("${executors.external-api.core-size:8}") int coreSize,
+            @Value("${executors.external-api.max-size:16}") int maxSize,
+            @Value("${executors.external-api.queue-capacity:100}") int queueCapacity) {
+        return threadPool("external-api", coreSize, maxSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "externalApiExecutor")
+    @ConditionalOnProperty(name = "executors.external-api.virtual-threads", havingValue = "true")
+    public InstrumentedVirtualThreadTaskExecutor externalApiVirtualThreadExecutor(
+            @Value("${executors.external-api.max-concurrency:200}") int maxConcurrency) {
+        return new InstrumentedVirtualThreadTaskExecutor("external-api", maxConcurrency, awaitTerminationSeconds * 1000L);
+    }
+
+    /**
+     * 실행기를 지정하지 않은 @Async 는 알림 실행기 사용 (기본 SimpleAsyncTaskExecutor 의 무제한 스레드 생성 방지)
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return notificationExecutor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 실패: method={}, 에러={}", method.getName(), ex.getMessage(), ex);
+    }
+
+    private InstrumentedThreadPoolTaskExecutor threadPool(String name, int coreSize, int maxSize, int queueCapacity,
+                                                          RejectedExecutionHandler rejectionPolicy) {
+        InstrumentedThreadPoolTaskExecutor executor = new InstrumentedThreadPoolTaskExecutor(name);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return executor;
+    }
+}
@@ -1,6 +1,7 @@
 package ecommerce.common.config;
 
 import ecommerce.common.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +40,8 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         // ===== PUBLIC (인증 불필요) =====
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/", "/health", "/error").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
@@ -53,7 +56,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/api/categories/**").hasRole("ADMIN")
                         .requestMatchers("/api/coupons/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/notifications").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/notifications/broadcasts").hasRole("ADMIN")
                         .requestMatchers("/internal/seed").hasRole("ADMIN")
+                        .requestMatchers("/internal/batch/**").hasRole("ADMIN")
+                        .requestMatchers("/internal/executors/**").hasRole("ADMIN")
+                        .requestMatchers("/internal/benchmark/**").hasRole("ADMIN")
 
                         // ===== SELLER 관련 (순서 중요!) =====
                         // 판매자 등록은 USER도 가능
@@ -45,10 +45,16 @@ public enum ErrorCode {
     DUPLICATE_NOTIFICATION_REQUEST(HttpStatus.CONFLICT, "DUPLICATE_NOTIFICATION_REQUEST", "이미 재입고 알림을 신청하셨습니다"),
     STATE_CONFLICT(HttpStatus.CONFLICT, "STATE_CONFLICT", "리소스 상태 충돌"),
     INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "INSUFFICIENT_STOCK", "재고가 부족합니다"),
+    COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "COUPON_ALREADY_ISSUED", "이미 발급받은 쿠폰입니다"),
+    COUPON_NOT_AVAILABLE(HttpStatus.CONFLICT, "COUPON_NOT_AVAILABLE", "이미 사용했거나 만료된 쿠폰입니다"),
+    COUPON_SOLD_OUT(HttpStatus.CONFLICT, "COUPON_SOLD_OUT", "쿠폰이 모두 소진되었습니다"),
 
     // 422 Unprocessable Entity
     UNPROCESSABLE_ENTITY(HttpStatus.UNPROCESSABLE_ENTITY, "UNPROCESSABLE_ENTITY", "처리할 수 없는 요청"),
     INVALID_ORDER_STATUS(HttpStatus.UNPROCESSABLE_ENTITY, "INVALID_ORDER_STATUS", "주문 상태가 올바르지 않습니다"),
+    COUPON_NOT_ACTIVE(HttpStatus.UNPROCESSABLE_ENTITY, "COUPON_NOT_ACTIVE", "발급 기간이 아닌 쿠폰입니다"),
+    COUPON_NOT_APPLICABLE(HttpStatus.UNPROCESSABLE_ENTITY, "COUPON_NOT_APPLICABLE", "적용할 수 없는 쿠폰입니다"),
+    CART_EMPTY(HttpStatus.UNPROCESSABLE_ENTITY, "CART_EMPTY", "장바구니가 비어 있습니다"),
 
     // 429 Too Many Requests
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청 한도 초과"),
@@ -1,6 +1,8 @@
 package ecommerce.common.security;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.auth.provider.JwtTokenProvider;
+import ecommerce.domain.user.service.UserIdCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,10 +18,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -27,6 +26,7 @@ import java.util.stream.Collectors;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserIdCache userIdCache;
 
     @Override
     protected void doFilterInternal(
@@ -39,24 +39,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. 요청 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 2. 토큰 검증 및 인증 정보 설정
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                String rolesString = jwtTokenProvider.getRolesFromToken(jwt);
-
-                // 3. 콤마로 구분된 역할 문자열을 List<GrantedAuthority>로 변환
-                List<SimpleGrantedAuthority> authorities = Collections.emptyList();
-                if (StringUtils.hasText(rolesString)) {
-                    authorities = Arrays.stream(rolesString.split(","))
-                            .map(String::trim)
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
+            // 2. 토큰 검증 및 클레임 추출 (한 번만 파싱, 검증된 토큰은 캐시에서 반환)
+            JwtPrincipal principal = StringUtils.hasText(jwt) ? jwtTokenProvider.verify(jwt) : null;
+            if (principal != null) {
+                // uid 클레임 도입 전에 발급된 토큰은 이메일로 사용자 ID 조회 (캐시)
+                if (principal.getUserId() == null) {
+                    principal = principal.withUserId(userIdCache.getUserId(principal.getEmail()));
                 }
 
-                // 4. Spring Security 인증 객체 생성
+                // 3. 역할 목록을 List<GrantedAuthority>로 변환
+                List<SimpleGrantedAuthority> authorities = principal.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
+
+                // 4. Spring Security 인증 객체 생성 (principal 에 사용자 ID 포함, getName() 은 이메일)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                email,
+                                principal,
                                 null,
                                 authorities
                         );
@@ -66,8 +65,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 5. SecurityContext에 인증 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Set Authentication to security context for '{}', roles: {}, uri: {}",
-                        email, rolesString, request.getRequestURI());
+                log.debug("Set Authentication to security context for '{}' (userId={}), roles: {}, uri: {}",
+                        principal.getEmail(), principal.getUserId(), principal.getRoles(), request.getRequestURI());
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -0,0 +1,39 @@
+package ecommerce.domain.auth.provider;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.List;
+
+/**
+ * 검증된 Access Token 의 인증 정보 (변경 불가, 캐시에서 스레드 간 공유)
+ * SecurityContext 의 principal 로 사용 (컨트롤러에서 @AuthenticationPrincipal JwtPrincipal 로 주입)
+ */
+@Getter
+@AllArgsConstructor
+public final class JwtPrincipal implements AuthenticatedPrincipal {
+
+    private final String email;
+    // uid 클레임 도입 전에 발급된 토큰이면 null
+    private final Long userId;
+    // 역할 목록 (예: ROLE_USER, ROLE_SELLER), 변경 불가
+    private final List<String> roles;
+    // 토큰 만료 시각 (epoch 밀리초)
+    private final long expiresAtMillis;
+
+    /**
+     * Authentication.getName() 은 이메일
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 사용자 ID 를 채운 인증 정보 (uid 클레임이 없는 토큰용)
+     */
+    public JwtPrincipal withUserId(Long userId) {
+        return new JwtPrincipal(email, userId, roles, expiresAtMillis);
+    }
+}
@@ -8,22 +8,39 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
-
+import java.util.List;
+
+/**
+ * JWT 발급/검증
+ *
+ * - 파서는 불변이라 한 번 만들어 모든 요청 스레드에서 공유
+ * - 요청 인증은 verify 한 번으로 서명 검증 + 클레임 추출 (검증 결과는 토큰 만료 시각까지 로컬 캐시)
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_TYPE = "type";
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -31,16 +48,18 @@ public class JwtTokenProvider {
     /**
      * Access Token 생성
      * @param email 사용자 이메일
+     * @param userId 사용자 ID
      * @param roles 콤마로 구분된 역할 문자열 (예: "ROLE_USER,ROLE_SELLER")
      */
-    public String createAccessToken(String email, String roles) {
+    public String createAccessToken(String email, Long userId, String roles) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
                 .subject(email)
-                .claim("roles", roles)
-                .claim("type", "access")
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, roles)
+                .claim(CLAIM_TYPE, "access")
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey, Jwts.SIG.HS256)
@@ -56,23 +75,72 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .subject(email)
-                .claim("type", "refresh")
+                .claim(CLAIM_TYPE, "refresh")
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * 요청 인증: 서명 검증과 클레임 추출을 한 번에 수행 (검증된 토큰은 만료 전까지 캐시에서 반환)
+     *
+     * @return 인증 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal verify(String token) {
+        long now = System.currentTimeMillis();
+        String key = VerifiedTokenCache.keyOf(token);
+
+        JwtPrincipal cached = verifiedTokenCache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtPrincipal principal = parsePrincipal(token);
+        if (principal != null) {
+            verifiedTokenCache.put(key, principal, now);
+        }
+        return principal;
+    }
+
+    /**
+     * 캐시 없이 서명 검증 + 클레임 추출 (벤치마크 비교용)
+     *
+     * @return 인증 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        String roles = claims.get(CLAIM_ROLES, String.class);
+        List<String> roleList = roles == null || roles.isBlank()
+                ? List.of()
+                : Arrays.stream(roles.split(",")).map(String::trim).filter(role -> !role.isEmpty()).toList();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+
+        return new JwtPrincipal(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                roleList,
+                // 만료 시각이 없는 토큰은 캐시하지 않음
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L);
+    }
+
     /**
      * 토큰 검증
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 서명 검증 후 클레임 (유효하지 않으면 null)
+     */
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -82,18 +150,14 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return claims.getSubject();
     }
@@ -103,24 +167,16 @@ public class JwtTokenProvider {
      * @return 콤마로 구분된 역할 문자열 (예: "ROLE_USER,ROLE_SELLER")
      */
     public String getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
-        return claims.get("roles", String.class);
+        return claims.get(CLAIM_ROLES, String.class);
     }
 
     /**
      * 토큰 만료 시간 조회
      */
     public Date getExpirationFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return claims.getExpiration();
     }
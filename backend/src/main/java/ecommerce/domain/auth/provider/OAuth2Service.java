@@ -191,6 +191,7 @@ public class OAuth2Service {
 
         String accessToken = jwtTokenProvider.createAccessToken(
                 user.getEmail(),
+                user.getId(),
                 roles
         );
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
@@ -0,0 +1,62 @@
+package ecommerce.domain.auth.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰 로컬 캐시 (토큰 SHA-256 해시 → 인증 정보)
+ *
+ * - 같은 토큰으로 오는 요청마다 서명 검증/클레임 파싱을 반복하지 않도록 토큰 만료 시각까지 보관
+ * - 토큰 원문은 보관하지 않음 (해시가 다른 위조 토큰은 항상 캐시 미스 → 서명 검증)
+ * - 최대 개수를 넘으면 만료된 항목부터 정리, 그래도 가득 차면 전체 비움
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, JwtPrincipal> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 만료 전인 인증 정보 (없으면 null)
+     */
+    JwtPrincipal get(String key, long now) {
+        JwtPrincipal principal = entries.get(key);
+        if (principal == null) {
+            return null;
+        }
+        if (principal.getExpiresAtMillis() <= now) {
+            entries.remove(key, principal);
+            return null;
+        }
+        return principal;
+    }
+
+    void put(String key, JwtPrincipal principal, long now) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(cached -> cached.getExpiresAtMillis() <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, principal);
+    }
+
+    static String keyOf(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+}
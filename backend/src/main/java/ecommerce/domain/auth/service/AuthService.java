@@ -65,6 +65,7 @@ public class AuthService {
 
         String accessToken = jwtTokenProvider.createAccessToken(
                 savedUser.getEmail(),
+                savedUser.getId(),
                 roles
         );
         String refreshToken = jwtTokenProvider.createRefreshToken(savedUser.getEmail());
@@ -107,6 +108,7 @@ public class AuthService {
 
         String accessToken = jwtTokenProvider.createAccessToken(
                 user.getEmail(),
+                user.getId(),
                 roles
         );
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
@@ -1,9 +1,13 @@
 package ecommerce.domain.cart.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.cart.dto.AddToCartRequest;
 import ecommerce.domain.cart.dto.CartItemResponse;
+import ecommerce.domain.cart.dto.CheckoutRequest;
 import ecommerce.domain.cart.dto.UpdateCartItemRequest;
 import ecommerce.domain.cart.service.CartService;
+import ecommerce.domain.order.dto.OrderResponse;
+import ecommerce.domain.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,6 +34,7 @@ import java.util.List;
 public class CartController {
 
     private final CartService cartService;
+    private final OrderService orderService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('USER', 'SELLER', 'ADMIN')")
@@ -40,11 +45,11 @@ public class CartController {
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "422", description = "재고 부족 또는 품절", content = @Content)
     public ResponseEntity<CartItemResponse> addToCart(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody AddToCartRequest request
     ) {
-        log.info("POST /api/cart - email: {}, productId: {}", email, request.getProductId());
-        CartItemResponse response = cartService.addToCart(email, request);
+        log.info("POST /api/cart - userId: {}, productId: {}", principal.getUserId(), request.getProductId());
+        CartItemResponse response = cartService.addToCart(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -54,10 +59,10 @@ public class CartController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     public ResponseEntity<List<CartItemResponse>> getMyCart(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("GET /api/cart - email: {}", email);
-        List<CartItemResponse> response = cartService.getMyCart(email);
+        log.info("GET /api/cart - userId: {}", principal.getUserId());
+        List<CartItemResponse> response = cartService.getMyCart(principal.getUserId());
         return ResponseEntity.ok(response);
     }
 
@@ -67,13 +72,29 @@ public class CartController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     public ResponseEntity<Long> getCartCount(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("GET /api/cart/count - email: {}", email);
-        long count = cartService.getCartCount(email);
+        log.info("GET /api/cart/count - userId: {}", principal.getUserId());
+        long count = cartService.getCartCount(principal.getUserId());
         return ResponseEntity.ok(count);
     }
 
+    @PostMapping("/checkout")
+    @PreAuthorize("hasAnyRole('USER', 'SELLER', 'ADMIN')")
+    @Operation(summary = "장바구니 결제", description = "장바구니 전체를 주문으로 전환하고 결제된 상품을 장바구니에서 삭제합니다")
+    @ApiResponse(responseCode = "201", description = "주문 생성 성공")
+    @ApiResponse(responseCode = "400", description = "입력값 검증 실패", content = @Content)
+    @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    @ApiResponse(responseCode = "422", description = "장바구니가 비어 있거나 재고 부족/판매 중지 상품 포함", content = @Content)
+    public ResponseEntity<OrderResponse> checkout(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @Valid @RequestBody CheckoutRequest request
+    ) {
+        log.info("POST /api/cart/checkout - userId: {}", principal.getUserId());
+        OrderResponse response = orderService.checkoutCart(principal.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'SELLER', 'ADMIN')")
     @Operation(summary = "장바구니 수량 변경", description = "장바구니 항목의 수량을 변경합니다")
@@ -84,12 +105,12 @@ public class CartController {
     @ApiResponse(responseCode = "404", description = "장바구니 항목을 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "422", description = "재고 부족", content = @Content)
     public ResponseEntity<CartItemResponse> updateCartItem(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody UpdateCartItemRequest request
     ) {
-        log.info("PUT /api/cart/{} - email: {}", id, email);
-        CartItemResponse response = cartService.updateCartItem(email, id, request);
+        log.info("PUT /api/cart/{} - userId: {}", id, principal.getUserId());
+        CartItemResponse response = cartService.updateCartItem(principal.getUserId(), id, request);
         return ResponseEntity.ok(response);
     }
 
@@ -101,11 +122,11 @@ public class CartController {
     @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
     @ApiResponse(responseCode = "404", description = "장바구니 항목을 찾을 수 없음", content = @Content)
     public ResponseEntity<Void> removeCartItem(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id
     ) {
-        log.info("DELETE /api/cart/{} - email: {}", id, email);
-        cartService.removeCartItem(email, id);
+        log.info("DELETE /api/cart/{} - userId: {}", id, principal.getUserId());
+        cartService.removeCartItem(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 
@@ -115,10 +136,10 @@ public class CartController {
     @ApiResponse(responseCode = "204", description = "삭제 성공")
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     public ResponseEntity<Void> clearCart(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("DELETE /api/cart - email: {}", email);
-        cartService.clearCart(email);
+        log.info("DELETE /api/cart - userId: {}", principal.getUserId());
+        cartService.clearCart(principal.getUserId());
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
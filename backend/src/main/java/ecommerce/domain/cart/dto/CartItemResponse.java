@@ -1,7 +1,7 @@
 package ecommerce.domain.cart.dto;
 
 import ecommerce.domain.cart.entity.CartItem;
-import ecommerce.domain.product.dto.ProductResponse;
+import ecommerce.domain.product.dto.ProductCard;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -44,4 +44,21 @@ public class CartItemResponse {
                 .updatedAt(cartItem.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Redis 장바구니 항목 (항목 ID 대신 상품 ID 사용, 생성/수정 시각 없음)
+     */
+    public static CartItemResponse from(ProductCard card, int quantity) {
+        return CartItemResponse.builder()
+                .id(card.getProductId())
+                .productId(card.getProductId())
+                .productName(card.getName())
+                .productPrice(card.getPrice())
+                .productImageUrl(card.getImageUrl())
+                .productStock(card.getStock())
+                .productStatus(card.getStatus().name())
+                .quantity(quantity)
+                .subtotal(card.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .build();
+    }
+}
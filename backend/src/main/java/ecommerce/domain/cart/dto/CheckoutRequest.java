@@ -0,0 +1,32 @@
+package ecommerce.domain.cart.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 결제 요청 (주문 상품은 장바구니 전체)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutRequest {
+
+    @NotBlank(message = "수령인 이름은 필수입니다")
+    @Size(min = 2, max = 100, message = "수령인 이름은 2~100자 사이여야 합니다")
+    private String recipientName;
+
+    @NotBlank(message = "수령인 전화번호는 필수입니다")
+    private String recipientPhone;
+
+    @NotBlank(message = "배송 주소는 필수입니다")
+    @Size(max = 500, message = "배송 주소는 500자를 초과할 수 없습니다")
+    private String address;
+
+    // 사용할 사용자 쿠폰 ID (user_coupons.id, 선택)
+    private Long couponId;
+}
@@ -0,0 +1,103 @@
+package ecommerce.domain.cart.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 스냅샷 반영 전용 JDBC 리포지토리 (Redis 장바구니 → cart_items)
+ * 엔티티 로딩 없이 사용자별 상품 수량을 UPSERT 하고, 스냅샷에 없는 상품은 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String QUANTITIES_SQL =
+            "SELECT product_id, quantity FROM cart_items WHERE user_id = ?";
+
+    // (user_id, product_id) 유니크 제약 기준 UPSERT, 수량이 바뀐 경우만 updated_at 갱신
+    // 삭제된 상품(FK 위반)은 IGNORE 로 건너뜀
+    private static final String UPSERT_SQL =
+            "INSERT IGNORE INTO cart_items (user_id, product_id, quantity, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "updated_at = IF(quantity <> VALUES(quantity), VALUES(updated_at), updated_at), " +
+                    "quantity = VALUES(quantity)";
+
+    private static final String DELETE_ALL_SQL =
+            "DELETE FROM cart_items WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 장바구니 (상품 ID → 수량)
+     */
+    public Map<Long, Integer> findQuantities(Long userId) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        jdbcTemplate.query(QUANTITIES_SQL,
+                rs -> {
+                    quantities.put(rs.getLong("product_id"), rs.getInt("quantity"));
+                }, userId);
+        return quantities;
+    }
+
+    /**
+     * 사용자 장바구니를 스냅샷과 같게 맞춤 (스냅샷에 없는 상품 삭제 후 UPSERT)
+     */
+    public void replaceAll(Map<Long, Map<Long, Integer>> snapshots) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> upserts = new ArrayList<>();
+
+        snapshots.forEach((userId, items) -> {
+            deleteExcept(userId, items.keySet());
+            items.forEach((productId, quantity) -> upserts.add(new Object[]{userId, productId, quantity, now, now}));
+        });
+
+        for (int from = 0; from < upserts.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts.subList(from, Math.min(from + BATCH_SIZE, upserts.size())));
+        }
+    }
+
+    /**
+     * 결제된 상품만 장바구니에서 삭제
+     */
+    public int deleteProducts(Long userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = productIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(userId);
+        args.addAll(productIds);
+
+        return jdbcTemplate.update("DELETE FROM cart_items WHERE user_id = ? AND product_id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    private void deleteExcept(Long userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            jdbcTemplate.update(DELETE_ALL_SQL, userId);
+            return;
+        }
+
+        String placeholders = productIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(userId);
+        args.addAll(productIds);
+
+        jdbcTemplate.update("DELETE FROM cart_items WHERE user_id = ? AND product_id NOT IN (" + placeholders + ")",
+                args.toArray());
+    }
+}
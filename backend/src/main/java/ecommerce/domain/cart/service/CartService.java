@@ -8,33 +8,62 @@ import ecommerce.domain.cart.dto.CartItemResponse;
 import ecommerce.domain.cart.dto.UpdateCartItemRequest;
 import ecommerce.domain.cart.entity.CartItem;
 import ecommerce.domain.cart.repository.CartItemRepository;
+import ecommerce.domain.product.dto.ProductCard;
 import ecommerce.domain.product.entity.Product;
 import ecommerce.domain.product.enums.ProductStatus;
 import ecommerce.domain.product.repository.ProductRepository;
-import ecommerce.domain.user.entity.User;
+import ecommerce.domain.product.service.ProductCardService;
 import ecommerce.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import ecommerce.infrastructure.redis.RedisService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 장바구니 서비스
+ *
+ * - cart.store=db: cart_items 를 JPA 로 직접 변경
+ * - cart.store=redis: Redis Hash 장바구니를 변경하고 DB 는 CartSyncService 가 비동기 반영
+ *   (상품 정보는 상품 카드 캐시, 사용자 ID 는 토큰에서 받아 요청당 DB 조회 없음,
+ *    항목 ID 는 상품 ID 를 사용)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CartService {
 
     private final CartItemRepository cartItemRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final RedisCartStore redisCartStore;
+    private final ProductCardService productCardService;
+    private final RedisService redisService;
+
+    public CartService(CartItemRepository cartItemRepository,
+                       UserRepository userRepository,
+                       ProductRepository productRepository,
+                       RedisCartStore redisCartStore,
+                       ProductCardService productCardService,
+                       RedisService redisService) {
+        this.cartItemRepository = cartItemRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.redisCartStore = redisCartStore;
+        this.productCardService = productCardService;
+        this.redisService = redisService;
+    }
 
     @Transactional
-    public CartItemResponse addToCart(String email, AddToCartRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public CartItemResponse addToCart(Long userId, AddToCartRequest request) {
+        if (redisCartStore.isEnabled()) {
+            return addToRedisCart(userId, request);
+        }
 
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다"));
@@ -50,7 +79,7 @@ public class CartService {
         }
 
         // 이미 장바구니에 있는 상품인지 확인
-        CartItem cartItem = cartItemRepository.findByUserIdAndProductId(user.getId(), product.getId())
+        CartItem cartItem = cartItemRepository.findByUserIdAndProductId(userId, product.getId())
                 .orElse(null);
 
         if (cartItem != null) {
@@ -66,7 +95,7 @@ public class CartService {
         } else {
             // 없으면 새로 추가
             cartItem = CartItem.builder()
-                    .user(user)
+                    .user(userRepository.getReferenceById(userId))
                     .product(product)
                     .quantity(request.getQuantity())
                     .build();
@@ -74,16 +103,17 @@ public class CartService {
         }
 
         log.info("장바구니 추가: userId={}, productId={}, quantity={}",
-                user.getId(), product.getId(), request.getQuantity());
+                userId, product.getId(), request.getQuantity());
 
         return CartItemResponse.from(cartItem);
     }
 
-    public List<CartItemResponse> getMyCart(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public List<CartItemResponse> getMyCart(Long userId) {
+        if (redisCartStore.isEnabled()) {
+            return getRedisCart(userId);
+        }
 
-        List<CartItem> cartItems = cartItemRepository.findByUserIdWithProduct(user.getId());
+        List<CartItem> cartItems = cartItemRepository.findByUserIdWithProduct(userId);
 
         return cartItems.stream()
                 .map(CartItemResponse::from)
@@ -91,15 +121,16 @@ public class CartService {
     }
 
     @Transactional
-    public CartItemResponse updateCartItem(String email, Long cartItemId, UpdateCartItemRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public CartItemResponse updateCartItem(Long userId, Long cartItemId, UpdateCartItemRequest request) {
+        if (redisCartStore.isEnabled()) {
+            return updateRedisCartItem(userId, cartItemId, request);
+        }
 
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new ResourceNotFoundException("장바구니 항목을 찾을 수 없습니다"));
 
         // 본인의 장바구니 항목인지 확인
-        if (!cartItem.getUser().getId().equals(user.getId())) {
+        if (!cartItem.getUser().getId().equals(userId)) {
             throw new UnprocessableEntityException(ErrorCode.FORBIDDEN);
         }
 
@@ -116,15 +147,20 @@ public class CartService {
     }
 
     @Transactional
-    public void removeCartItem(String email, Long cartItemId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public void removeCartItem(Long userId, Long cartItemId) {
+        if (redisCartStore.isEnabled()) {
+            if (redisCartStore.remove(userId, List.of(cartItemId)) == 0) {
+                throw new ResourceNotFoundException("장바구니 항목을 찾을 수 없습니다");
+            }
+            log.info("장바구니 삭제: userId={}, productId={}", userId, cartItemId);
+            return;
+        }
 
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new ResourceNotFoundException("장바구니 항목을 찾을 수 없습니다"));
 
         // 본인의 장바구니 항목인지 확인
-        if (!cartItem.getUser().getId().equals(user.getId())) {
+        if (!cartItem.getUser().getId().equals(userId)) {
             throw new UnprocessableEntityException(ErrorCode.FORBIDDEN);
         }
 
@@ -134,19 +170,98 @@ public class CartService {
     }
 
     @Transactional
-    public void clearCart(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public void clearCart(Long userId) {
+        if (redisCartStore.isEnabled()) {
+            redisCartStore.clear(userId);
+            log.info("장바구니 전체 삭제: userId={}", userId);
+            return;
+        }
+
+        cartItemRepository.deleteByUserId(userId);
+
+        log.info("장바구니 전체 삭제: userId={}", userId);
+    }
 
-        cartItemRepository.deleteByUserId(user.getId());
+    public long getCartCount(Long userId) {
+        if (redisCartStore.isEnabled()) {
+            return redisCartStore.count(userId);
+        }
 
-        log.info("장바구니 전체 삭제: userId={}", user.getId());
+        return cartItemRepository.countByUserId(userId);
     }
 
-    public long getCartCount(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    private CartItemResponse addToRedisCart(Long userId, AddToCartRequest request) {
+        ProductCard card = productCardService.getCard(request.getProductId());
+
+        // 상품 상태 확인
+        if (card.getStatus() != ProductStatus.ACTIVE) {
+            throw new UnprocessableEntityException(ErrorCode.UNPROCESSABLE_ENTITY);
+        }
+
+        long quantity = redisCartStore.add(userId, card.getProductId(), request.getQuantity(), card.getStock());
+        if (quantity == RedisCartStore.EXCEEDS_STOCK) {
+            throw new UnprocessableEntityException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        log.info("장바구니 추가: userId={}, productId={}, quantity={}",
+                userId, card.getProductId(), request.getQuantity());
 
-        return cartItemRepository.countByUserId(user.getId());
+        return CartItemResponse.from(card, (int) quantity);
+    }
+
+    private CartItemResponse updateRedisCartItem(Long userId, Long productId, UpdateCartItemRequest request) {
+        ProductCard card = productCardService.getCard(productId);
+
+        long quantity = redisCartStore.update(userId, productId, request.getQuantity(), card.getStock());
+        if (quantity == RedisCartStore.NOT_IN_CART) {
+            throw new ResourceNotFoundException("장바구니 항목을 찾을 수 없습니다");
+        }
+        if (quantity == RedisCartStore.EXCEEDS_STOCK) {
+            throw new UnprocessableEntityException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        log.info("장바구니 수정: userId={}, productId={}, quantity={}", userId, productId, request.getQuantity());
+
+        return CartItemResponse.from(card, (int) quantity);
+    }
+
+    /**
+     * Redis 장바구니 조회: 상품 카드는 캐시에서 한 번에 읽고 미스만 DB 조회
+     * 삭제된 상품은 장바구니에서도 제거
+     */
+    private List<CartItemResponse> getRedisCart(Long userId) {
+        Map<Long, Integer> items = redisCartStore.getItems(userId);
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = new ArrayList<>(items.keySet());
+        List<String> cached = redisService.getStringValues(
+                productIds.stream().map(ProductCardService::cardKey).collect(Collectors.toList()));
+
+        Map<Long, ProductCard> cards = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            ProductCard card = productCardService.parse(i < cached.size() ? cached.get(i) : null);
+            if (card != null) {
+                cards.put(productIds.get(i), card);
+            } else {
+                misses.add(productIds.get(i));
+            }
+        }
+        cards.putAll(productCardService.loadCards(misses));
+
+        List<Long> removed = productIds.stream()
+                .filter(productId -> !cards.containsKey(productId))
+                .collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            redisCartStore.remove(userId, removed);
+            log.info("삭제된 상품 장바구니에서 제거: userId={}, productIds={}", userId, removed);
+        }
+
+        return productIds.stream()
+                .filter(cards::containsKey)
+                .map(productId -> CartItemResponse.from(cards.get(productId), items.get(productId)))
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package ecommerce.domain.cart.service;
+
+import ecommerce.domain.cart.repository.CartItemJdbcRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 장바구니 → cart_items 반영 서비스 (write-behind)
+ *
+ * - 변경된 사용자(cart:dirty)를 배치로 꺼내 현재 장바구니 스냅샷을 한 트랜잭션에 반영
+ * - 스냅샷 전체를 덮어쓰므로 여러 번 반영되어도 결과가 같음
+ * - 반영 실패 시 꺼낸 사용자를 다시 반영 대상에 등록
+ */
+@Slf4j
+@Service
+public class CartSyncService {
+
+    private static final int FLUSH_BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_FLUSH = 20;
+
+    private final RedisCartStore redisCartStore;
+    private final CartItemJdbcRepository cartItemJdbcRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+
+    public CartSyncService(RedisCartStore redisCartStore,
+                           CartItemJdbcRepository cartItemJdbcRepository,
+                           RedisService redisService,
+                           PlatformTransactionManager transactionManager) {
+        this.redisCartStore = redisCartStore;
+        this.cartItemJdbcRepository = cartItemJdbcRepository;
+        this.redisService = redisService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 변경된 장바구니 반영 (한 노드에서만 호출되어야 함)
+     *
+     * @return 반영한 사용자 수
+     */
+    public int flushDirty() {
+        int flushed = 0;
+
+        for (int i = 0; i < MAX_BATCHES_PER_FLUSH; i++) {
+            List<String> userIds = redisService.popSetMembers(RedisCartStore.DIRTY_KEY, FLUSH_BATCH_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                Map<Long, Map<Long, Integer>> snapshots = new LinkedHashMap<>();
+                for (String userId : userIds) {
+                    Map<Long, Integer> items = redisCartStore.snapshot(Long.valueOf(userId));
+                    if (items != null) {
+                        snapshots.put(Long.valueOf(userId), items);
+                    }
+                }
+
+                transactionTemplate.executeWithoutResult(status -> cartItemJdbcRepository.replaceAll(snapshots));
+                flushed += snapshots.size();
+            } catch (RuntimeException e) {
+                redisService.addSetMembers(RedisCartStore.DIRTY_KEY, userIds.toArray(new String[0]));
+                throw e;
+            }
+
+            if (userIds.size() < FLUSH_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return flushed;
+    }
+}
@@ -0,0 +1,238 @@
+package ecommerce.domain.cart.service;
+
+import ecommerce.domain.cart.repository.CartItemJdbcRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 장바구니 저장소 (cart:{userId} Hash, field=상품 ID, value=수량)
+ *
+ * - 변경은 Lua 스크립트 한 번으로 수량 검증 + 저장 + TTL 연장 + 반영 대상(cart:dirty) 등록
+ * - 키가 없으면 cart_items 에서 한 번 적재 (적재 표시 필드로 빈 장바구니와 구분)
+ * - DB 반영은 CartSyncService 가 반영 대상 사용자를 모아 비동기로 수행
+ */
+@Slf4j
+@Component
+public class RedisCartStore {
+
+    public static final String DIRTY_KEY = "cart:dirty";
+    private static final String KEY_PREFIX = "cart:";
+    // 적재 표시 필드 (상품 ID 가 아님)
+    private static final String LOADED_FIELD = "_";
+
+    static final long NOT_LOADED = -3L;
+    static final long NOT_IN_CART = -2L;
+    static final long EXCEEDS_STOCK = -1L;
+
+    /**
+     * KEYS[1]=장바구니, KEYS[2]=반영 대상 / ARGV[1]=사용자 ID, ARGV[2]=TTL(초), ARGV[3]=상품 ID, ARGV[4]=추가 수량, ARGV[5]=재고
+     * 반환: 변경 후 수량, -1=재고 초과, -3=미적재
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -3 end
+            local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[3]) or '0') + tonumber(ARGV[4])
+            if quantity > tonumber(ARGV[5]) then return -1 end
+            redis.call('HSET', KEYS[1], ARGV[3], quantity)
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return quantity
+            """, Long.class);
+
+    /**
+     * ARGV[4]=변경할 수량 / 반환: 변경 후 수량, -1=재고 초과, -2=장바구니에 없음, -3=미적재
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -3 end
+            if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 0 then return -2 end
+            if tonumber(ARGV[4]) > tonumber(ARGV[5]) then return -1 end
+            redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return tonumber(ARGV[4])
+            """, Long.class);
+
+    /**
+     * ARGV[3..]=삭제할 상품 ID / 반환: 삭제된 항목 수, -3=미적재
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -3 end
+            local removed = 0
+            for i = 3, #ARGV do
+                removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+            if removed > 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                redis.call('SADD', KEYS[2], ARGV[1])
+            end
+            return removed
+            """, Long.class);
+
+    // 적재 여부와 관계없이 빈 장바구니로 덮어씀 (DB 에는 반영 시 전체 삭제)
+    private static final RedisScript<Long> CLEAR_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], ARGV[3], 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // ARGV[3]=적재 표시 필드, ARGV[4..]=상품 ID/수량 쌍 (이미 적재되어 있으면 무시)
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[3], 1)
+            for i = 4, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final CartItemJdbcRepository cartItemJdbcRepository;
+    private final long ttlSeconds;
+    private final boolean enabled;
+
+    public RedisCartStore(RedisService redisService,
+                          CartItemJdbcRepository cartItemJdbcRepository,
+                          @Value("${cart.ttl-days:30}") long ttlDays,
+                          @Value("${cart.store:db}") String store) {
+        this.redisService = redisService;
+        this.cartItemJdbcRepository = cartItemJdbcRepository;
+        this.ttlSeconds = ttlDays * 86400L;
+        this.enabled = "redis".equalsIgnoreCase(store);
+    }
+
+    /**
+     * 장바구니 저장소가 Redis 인지 (cart.store=redis)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String cartKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * 장바구니 전체 (상품 ID → 수량)
+     */
+    public Map<Long, Integer> getItems(Long userId) {
+        Map<String, String> entries = redisService.getHashEntries(cartKey(userId));
+        if (entries.isEmpty()) {
+            load(userId);
+            entries = redisService.getHashEntries(cartKey(userId));
+        }
+
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                items.put(Long.valueOf(field), Integer.valueOf(value));
+            }
+        });
+        return items;
+    }
+
+    /**
+     * 수량 추가
+     *
+     * @return 변경 후 수량, 재고 초과면 EXCEEDS_STOCK
+     */
+    public long add(Long userId, Long productId, int quantity, int stock) {
+        return executeLoaded(ADD_SCRIPT, userId,
+                String.valueOf(productId), String.valueOf(quantity), String.valueOf(stock));
+    }
+
+    /**
+     * 수량 변경
+     *
+     * @return 변경 후 수량, 재고 초과면 EXCEEDS_STOCK, 없으면 NOT_IN_CART
+     */
+    public long update(Long userId, Long productId, int quantity, int stock) {
+        return executeLoaded(UPDATE_SCRIPT, userId,
+                String.valueOf(productId), String.valueOf(quantity), String.valueOf(stock));
+    }
+
+    /**
+     * 상품 삭제
+     *
+     * @return 삭제된 항목 수
+     */
+    public long remove(Long userId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return executeLoaded(REMOVE_SCRIPT, userId, productIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    public void clear(Long userId) {
+        redisService.executeScript(CLEAR_SCRIPT, List.of(cartKey(userId), DIRTY_KEY),
+                String.valueOf(userId), String.valueOf(ttlSeconds), LOADED_FIELD);
+    }
+
+    /**
+     * 장바구니 상품 종류 수
+     */
+    public long count(Long userId) {
+        return getItems(userId).size();
+    }
+
+    /**
+     * 반영용 스냅샷 (키가 없으면 null - 만료된 장바구니는 DB 상태를 유지)
+     */
+    public Map<Long, Integer> snapshot(Long userId) {
+        Map<String, String> entries = redisService.getHashEntries(cartKey(userId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                items.put(Long.valueOf(field), Integer.valueOf(value));
+            }
+        });
+        return items;
+    }
+
+    private long executeLoaded(RedisScript<Long> script, Long userId, String... args) {
+        List<String> keys = List.of(cartKey(userId), DIRTY_KEY);
+        String[] scriptArgs = new String[args.length + 2];
+        scriptArgs[0] = String.valueOf(userId);
+        scriptArgs[1] = String.valueOf(ttlSeconds);
+        System.arraycopy(args, 0, scriptArgs, 2, args.length);
+
+        Long result = redisService.executeScript(script, keys, scriptArgs);
+        if (result != null && result == NOT_LOADED) {
+            load(userId);
+            result = redisService.executeScript(script, keys, scriptArgs);
+        }
+        return result != null ? result : NOT_LOADED;
+    }
+
+    /**
+     * cart_items 에서 장바구니 적재 (키가 없을 때 한 번만)
+     */
+    private void load(Long userId) {
+        Map<Long, Integer> items = cartItemJdbcRepository.findQuantities(userId);
+
+        List<String> args = new ArrayList<>(items.size() * 2 + 3);
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(LOADED_FIELD);
+        items.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        redisService.executeScript(LOAD_SCRIPT, List.of(cartKey(userId), DIRTY_KEY), args.toArray(new String[0]));
+        log.debug("장바구니 Redis 적재: userId={}, 항목={}개", userId, items.size());
+    }
+}
@@ -1,7 +1,12 @@
 package ecommerce.domain.coupon.controller;
 
+import ecommerce.domain.coupon.dto.CouponBulkRequest;
+import ecommerce.domain.coupon.dto.CouponBulkResponse;
 import ecommerce.domain.coupon.dto.CouponRequest;
 import ecommerce.domain.coupon.dto.CouponResponse;
+import ecommerce.domain.coupon.dto.CouponSegmentIssueRequest;
+import ecommerce.domain.coupon.dto.CouponSegmentIssueResponse;
+import ecommerce.domain.coupon.service.CouponDropService;
 import ecommerce.domain.coupon.service.CouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponDropService couponDropService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -32,6 +38,14 @@ public class CouponController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "쿠폰 대량 발행", description = "같은 조건의 쿠폰을 코드만 달리하여 한 번에 여러 개 발행합니다 (최대 10000개)")
+    public ResponseEntity<CouponBulkResponse> createCoupons(@Valid @RequestBody CouponBulkRequest request) {
+        CouponBulkResponse response = couponService.createCoupons(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping
     @Operation(summary = "쿠폰 목록 조회", description = "쿠폰 목록을 조회합니다")
     public ResponseEntity<Page<CouponResponse>> getCoupons(
@@ -57,6 +71,24 @@ public class CouponController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/drop")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "선착순 쿠폰 개시", description = "선착순 쿠폰의 남은 수량/발급 기간을 Redis 에 개시합니다 (이미 개시된 경우 기간만 갱신, Redis 유실 시 DB 발급 현황으로 복구)")
+    public ResponseEntity<Long> openDrop(@PathVariable Long id) {
+        long remaining = couponDropService.open(id, 0);
+        return ResponseEntity.ok(remaining);
+    }
+
+    @PostMapping("/{id}/issue-segment")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "구매액 구간 일괄 발급", description = "누적 구매액 구간(예: VIP) 사용자 전체에게 쿠폰을 비동기로 발급합니다 (이미 보유한 사용자는 제외, 진행 상황은 /internal/batch/jobs)")
+    public ResponseEntity<CouponSegmentIssueResponse> issueSegment(
+            @PathVariable Long id,
+            @Valid @RequestBody CouponSegmentIssueRequest request) {
+        CouponSegmentIssueResponse response = couponService.requestSegmentIssue(id, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "쿠폰 삭제", description = "관리자가 쿠폰을 삭제합니다")
@@ -1,6 +1,9 @@
 package ecommerce.domain.coupon.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
+import ecommerce.domain.coupon.dto.CouponClaimResponse;
 import ecommerce.domain.coupon.dto.UserCouponResponse;
+import ecommerce.domain.coupon.service.CouponDropService;
 import ecommerce.domain.coupon.service.UserCouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,9 +12,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserCouponController {
 
     private final UserCouponService userCouponService;
+    private final CouponDropService couponDropService;
 
     @GetMapping("/my")
     @PreAuthorize("hasRole('USER')")
@@ -28,28 +33,36 @@ public class UserCouponController {
     public ResponseEntity<Page<UserCouponResponse>> getMyCoupons(
             @RequestParam(required = false, defaultValue = "false") Boolean availableOnly,
             @PageableDefault(size = 20, sort = "issuedAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
 
-        String email = authentication.getName();
         Page<UserCouponResponse> coupons;
 
         if (availableOnly) {
-            coupons = userCouponService.getMyAvailableCoupons(email, pageable);
+            coupons = userCouponService.getMyAvailableCoupons(principal.getUserId(), pageable);
         } else {
-            coupons = userCouponService.getMyCoupons(email, pageable);
+            coupons = userCouponService.getMyCoupons(principal.getUserId(), pageable);
         }
 
         return ResponseEntity.ok(coupons);
     }
 
+    @PostMapping("/drops/{couponId}/claim")
+    @PreAuthorize("hasAnyRole('USER', 'SELLER', 'ADMIN')")
+    @Operation(summary = "선착순 쿠폰 발급", description = "선착순 쿠폰을 발급받습니다 (즉시 확정, 내 쿠폰 목록에는 잠시 후 반영)")
+    public ResponseEntity<CouponClaimResponse> claimCoupon(
+            @PathVariable Long couponId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        CouponClaimResponse response = couponDropService.claim(principal.getUserId(), couponId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     @PostMapping("/{id}/use")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "쿠폰 사용", description = "보유한 쿠폰을 사용 처리합니다")
     public ResponseEntity<UserCouponResponse> useCoupon(
             @PathVariable Long id,
-            Authentication authentication) {
-        String email = authentication.getName();
-        UserCouponResponse response = userCouponService.useCoupon(email, id);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        UserCouponResponse response = userCouponService.useCoupon(principal.getUserId(), id);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
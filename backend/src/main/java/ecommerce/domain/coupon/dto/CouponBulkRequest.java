@@ -0,0 +1,30 @@
+package ecommerce.domain.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠폰 대량 발행 요청 (같은 조건, 코드만 다른 쿠폰 N개)")
+public class CouponBulkRequest {
+
+    @NotNull(message = "쿠폰 조건은 필수입니다")
+    @Valid
+    @Schema(description = "쿠폰 조건")
+    private CouponRequest coupon;
+
+    @NotNull(message = "발행 수량은 필수입니다")
+    @Min(value = 1, message = "발행 수량은 1 이상이어야 합니다")
+    @Max(value = 10000, message = "한 번에 최대 10000개까지 발행할 수 있습니다")
+    @Schema(description = "발행 수량", example = "1000")
+    private Integer count;
+}
@@ -0,0 +1,23 @@
+package ecommerce.domain.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠폰 대량 발행 결과")
+public class CouponBulkResponse {
+
+    @Schema(description = "발행 수량", example = "1000")
+    private Integer count;
+
+    @Schema(description = "발행된 쿠폰 코드")
+    private List<String> codes;
+}
@@ -0,0 +1,25 @@
+package ecommerce.domain.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선착순 쿠폰 발급 결과
+ * 발급은 Redis 에 먼저 확정되고 user_coupons 에는 배치로 저장되므로 사용자 쿠폰 ID 대신 남은 수량을 반환
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "선착순 쿠폰 발급 결과")
+public class CouponClaimResponse {
+
+    @Schema(description = "쿠폰 ID", example = "1")
+    private Long couponId;
+
+    @Schema(description = "남은 수량", example = "999")
+    private Long remaining;
+}
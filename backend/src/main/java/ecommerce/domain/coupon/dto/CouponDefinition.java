@@ -0,0 +1,53 @@
+package ecommerce.domain.coupon.dto;
+
+import ecommerce.domain.coupon.entity.Coupon;
+import ecommerce.domain.coupon.enums.DiscountType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 정의 (주문 시 할인 계산용, 로컬 캐시에 보관하는 불변 객체)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponDefinition {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final Long id;
+    private final String name;
+    private final DiscountType discountType;
+    private final BigDecimal discountValue;
+    private final BigDecimal minOrderAmount;
+    private final LocalDateTime validFrom;
+    private final LocalDateTime validUntil;
+
+    public static CouponDefinition from(Coupon coupon) {
+        return new CouponDefinition(
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMinOrderAmount() != null ? coupon.getMinOrderAmount() : BigDecimal.ZERO,
+                coupon.getValidFrom(),
+                coupon.getValidUntil());
+    }
+
+    public boolean isValidAt(LocalDateTime time) {
+        return !time.isBefore(validFrom) && !time.isAfter(validUntil);
+    }
+
+    /**
+     * 주문 금액에 대한 할인액 (정률은 원 단위 절사, 주문 금액을 넘지 않음)
+     */
+    public BigDecimal discountFor(BigDecimal orderAmount) {
+        BigDecimal discount = discountType == DiscountType.PERCENTAGE
+                ? orderAmount.multiply(discountValue).divide(HUNDRED, 0, RoundingMode.DOWN)
+                : discountValue;
+        return discount.min(orderAmount);
+    }
+}
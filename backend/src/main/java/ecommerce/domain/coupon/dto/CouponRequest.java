@@ -26,7 +26,7 @@ public class CouponRequest {
     private String name;
 
     @NotNull(message = "쿠폰 타입은 필수입니다")
-    @Schema(description = "쿠폰 타입 (WELCOME/BIRTHDAY/VIP/GENERAL)", example = "WELCOME")
+    @Schema(description = "쿠폰 타입 (WELCOME/BIRTHDAY/VIP/GENERAL/LIMITED)", example = "WELCOME")
     private CouponType type;
 
     @NotNull(message = "할인 타입은 필수입니다")
@@ -41,6 +41,10 @@ public class CouponRequest {
     @Schema(description = "최소 주문 금액", example = "30000")
     private BigDecimal minOrderAmount;
 
+    @Positive(message = "발급 수량은 양수여야 합니다")
+    @Schema(description = "선착순 발급 수량 (LIMITED 쿠폰 필수)", example = "1000")
+    private Integer totalQuantity;
+
     @NotNull(message = "유효 시작일은 필수입니다")
     @Schema(description = "유효 시작일", example = "2025-01-01T00:00:00")
     private LocalDateTime validFrom;
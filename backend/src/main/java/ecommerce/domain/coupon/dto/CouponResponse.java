@@ -40,6 +40,9 @@ public class CouponResponse {
     @Schema(description = "최소 주문 금액", example = "30000")
     private BigDecimal minOrderAmount;
 
+    @Schema(description = "선착순 발급 수량 (없으면 제한 없음)", example = "1000")
+    private Integer totalQuantity;
+
     @Schema(description = "유효 시작일")
     private LocalDateTime validFrom;
 
@@ -58,6 +61,7 @@ public class CouponResponse {
                 .discountType(coupon.getDiscountType())
                 .discountValue(coupon.getDiscountValue())
                 .minOrderAmount(coupon.getMinOrderAmount())
+                .totalQuantity(coupon.getTotalQuantity())
                 .validFrom(coupon.getValidFrom())
                 .validUntil(coupon.getValidUntil())
                 .createdAt(coupon.getCreatedAt())
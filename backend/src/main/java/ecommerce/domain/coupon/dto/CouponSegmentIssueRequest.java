@@ -0,0 +1,31 @@
+package ecommerce.domain.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "구매액 구간 대상 쿠폰 일괄 발급 요청")
+public class CouponSegmentIssueRequest {
+
+    @NotNull(message = "최소 누적 구매액은 필수입니다")
+    @PositiveOrZero(message = "최소 누적 구매액은 0 이상이어야 합니다")
+    @Schema(description = "최소 누적 구매액 (이상)", example = "500000")
+    private BigDecimal minPurchaseAmount;
+
+    @Schema(description = "최대 누적 구매액 (미만, 없으면 상한 없음)", example = "1000000")
+    private BigDecimal maxPurchaseAmount;
+
+    @Schema(description = "사용자 쿠폰 만료일 (없으면 쿠폰 유효 종료일)")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,24 @@
+package ecommerce.domain.coupon.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠폰 일괄 발급 접수 결과 (진행 상황은 /internal/batch/jobs 에서 확인)")
+public class CouponSegmentIssueResponse {
+
+    @Schema(description = "실행 ID", example = "3-20250101120000")
+    private String runId;
+
+    @Schema(description = "쿠폰 ID", example = "3")
+    private Long couponId;
+
+    @Schema(description = "대상 사용자 수 (접수 시점, 이미 보유한 사용자 포함)", example = "1000000")
+    private Long targetCount;
+}
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "coupons", indexes = {
-        @Index(name = "idx_coupons_code", columnList = "code")
+        @Index(name = "idx_coupons_code", columnList = "code"),
+        // 유효 쿠폰 캐시 로딩 (대량 발행 제외 유효 구간 조회 / 다음 시작 시각)
+        @Index(name = "idx_coupons_bulk_valid_until", columnList = "bulk_minted, valid_until"),
+        @Index(name = "idx_coupons_bulk_valid_from", columnList = "bulk_minted, valid_from")
 })
 @Getter
 @Setter
@@ -45,12 +48,21 @@ public class Coupon {
     @Builder.Default
     private BigDecimal minOrderAmount = BigDecimal.ZERO;
 
+    // 선착순 쿠폰 발급 수량 (null 이면 제한 없음)
+    @Column(name = "total_quantity")
+    private Integer totalQuantity;
+
     @Column(name = "valid_from", nullable = false)
     private LocalDateTime validFrom;
 
     @Column(name = "valid_until", nullable = false)
     private LocalDateTime validUntil;
 
+    // 대량 발행 코드 쿠폰 (코드로만 사용하며 유효 쿠폰 목록에는 노출하지 않음)
+    @Column(name = "bulk_minted", nullable = false)
+    @Builder.Default
+    private Boolean bulkMinted = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,24 @@
+package ecommerce.domain.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 쿠폰 코드 생성기 ID 할당 카운터 (이름별 한 행)
+ * 할당은 CouponCodeSequenceJdbcRepository 가 UPDATE ... LAST_INSERT_ID 로 원자적으로 증가
+ */
+@Entity
+@Table(name = "coupon_code_sequences")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponCodeSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 마지막으로 할당된 값
+    @Column(name = "allocated_value", nullable = false)
+    private Long allocatedValue;
+}
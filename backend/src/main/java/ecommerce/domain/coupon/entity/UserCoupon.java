@@ -9,8 +9,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_coupons", indexes = {
-        @Index(name = "idx_user_coupons_user_id", columnList = "user_id"),
+@Table(name = "user_coupons", uniqueConstraints = {
+        // 사용자당 쿠폰 1장 (일괄/선착순 저장이 겹치거나 재실행되어도 중복 행이 생기지 않음)
+        @UniqueConstraint(name = "uk_user_coupons_user_coupon", columnNames = {"user_id", "coupon_id"})
+}, indexes = {
         @Index(name = "idx_user_coupons_is_used", columnList = "is_used")
 })
 @Getter
@@ -4,5 +4,6 @@ public enum CouponType {
     WELCOME,   // 웰컴 쿠폰
     BIRTHDAY,   // 생일 쿠폰
     VIP,   // VIP 쿠폰
-    GENERAL   // 일반 쿠폰 (관리자가 생성)
+    GENERAL,   // 일반 쿠폰 (관리자가 생성)
+    LIMITED   // 선착순 쿠폰 (발급 수량 제한)
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package ecommerce.domain.coupon.event;
+
+import ecommerce.domain.coupon.service.CouponSegmentIssueService;
+import ecommerce.infrastructure.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 일괄 발급 이벤트 리스너
+ * 요청 트랜잭션에서 아웃박스에 기록된 이벤트를 커밋 후 받아 배치 실행기로 넘김
+ * 발급 자체는 디스패처 스레드 밖에서 runId 임대로 보호되어 실행 (실행기 포화로 넘기지 못하면 아웃박스가 재시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponSegmentIssueListener implements OutboxEventHandler<CouponSegmentIssueRequestedEvent> {
+
+    private final CouponSegmentIssueService couponSegmentIssueService;
+
+    @Override
+    public Class<CouponSegmentIssueRequestedEvent> payloadType() {
+        return CouponSegmentIssueRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(CouponSegmentIssueRequestedEvent event) {
+        couponSegmentIssueService.submit(event);
+    }
+}
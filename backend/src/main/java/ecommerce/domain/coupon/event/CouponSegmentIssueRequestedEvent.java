@@ -0,0 +1,24 @@
+package ecommerce.domain.coupon.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 구매액 구간 대상 쿠폰 일괄 발급 요청 (아웃박스로 전달)
+ * runId 가 같으면 체크포인트 이후부터 이어서 발급
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponSegmentIssueRequestedEvent {
+    private String runId;
+    private Long couponId;
+    private BigDecimal minPurchaseAmount;
+    // null 이면 상한 없음 (미만 조건)
+    private BigDecimal maxPurchaseAmount;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,55 @@
+package ecommerce.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 쿠폰 코드 생성기 ID 할당 JDBC 리포지토리
+ * DB 행에 마지막 할당 값을 보관하므로 Redis 가 비워져도 이전 ID 를 다시 할당하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponCodeSequenceJdbcRepository {
+
+    // 행이 없을 때만 시작 값으로 생성
+    private static final String SEED_SQL =
+            "INSERT IGNORE INTO coupon_code_sequences (name, allocated_value) VALUES (?, ?)";
+
+    // 행 잠금으로 증가시키고 증가된 값을 이 연결의 LAST_INSERT_ID() 로 남김
+    private static final String INCREMENT_SQL =
+            "UPDATE coupon_code_sequences SET allocated_value = LAST_INSERT_ID(allocated_value + 1) WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카운터가 없으면 시작 값으로 생성 (이미 있으면 그대로)
+     */
+    public void seedIfAbsent(String name, long initialValue) {
+        jdbcTemplate.update(SEED_SQL, name, initialValue);
+    }
+
+    /**
+     * 카운터를 1 증가시키고 증가된 값 반환 (카운터가 없으면 null)
+     * UPDATE 와 LAST_INSERT_ID() 조회는 같은 연결에서 실행해야 하므로 한 콜백에서 처리
+     */
+    public Long next(String name) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INCREMENT_SQL)) {
+                ps.setString(1, name);
+                if (ps.executeUpdate() == 0) {
+                    return null;
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        });
+    }
+}
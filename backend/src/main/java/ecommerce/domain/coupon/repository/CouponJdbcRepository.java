@@ -0,0 +1,51 @@
+package ecommerce.domain.coupon.repository;
+
+import ecommerce.domain.coupon.dto.CouponRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 대량 발행 전용 JDBC 리포지토리
+ * 같은 조건의 쿠폰을 코드만 달리하여 배치 INSERT (코드는 CouponCodeGenerator 가 중복 없이 생성)
+ * 대량 발행 쿠폰은 bulk_minted 로 표시하여 유효 쿠폰 목록에서 제외
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO coupons (code, name, type, discount_type, discount_value, min_order_amount, " +
+                    "valid_from, valid_until, bulk_minted, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 코드별 쿠폰 일괄 INSERT
+     */
+    public void batchInsert(CouponRequest template, List<String> codes, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Timestamp validFrom = Timestamp.valueOf(template.getValidFrom());
+        Timestamp validUntil = Timestamp.valueOf(template.getValidUntil());
+        BigDecimal minOrderAmount = template.getMinOrderAmount() != null ? template.getMinOrderAmount() : BigDecimal.ZERO;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, codes, BATCH_SIZE, (ps, code) -> {
+            ps.setString(1, code);
+            ps.setString(2, template.getName());
+            ps.setString(3, template.getType().name());
+            ps.setString(4, template.getDiscountType().name());
+            ps.setBigDecimal(5, template.getDiscountValue());
+            ps.setBigDecimal(6, minOrderAmount);
+            ps.setTimestamp(7, validFrom);
+            ps.setTimestamp(8, validUntil);
+            ps.setTimestamp(9, createdAt);
+        });
+    }
+}
@@ -5,6 +5,8 @@ import ecommerce.domain.coupon.enums.CouponType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -22,6 +24,14 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     Page<Coupon> findByValidFromLessThanEqualAndValidUntilGreaterThanEqual(
             LocalDateTime validFrom, LocalDateTime validUntil, Pageable pageable);
 
+    // 시점 기준 유효 쿠폰 전체 (유효 쿠폰 캐시 로딩용, 대량 발행 제외, ID 오름차순)
+    @Query("SELECT c FROM Coupon c WHERE c.bulkMinted = false AND c.validFrom <= :now AND c.validUntil >= :now ORDER BY c.id")
+    List<Coupon> findActiveAt(@Param("now") LocalDateTime now);
+
+    // 시점 이후 가장 먼저 시작되는 쿠폰의 시작 시각 (대량 발행 제외, 없으면 null)
+    @Query("SELECT MIN(c.validFrom) FROM Coupon c WHERE c.bulkMinted = false AND c.validFrom > :now")
+    LocalDateTime findNextValidFromAfter(@Param("now") LocalDateTime now);
+
     // 쿠폰 타입별 조회
     List<Coupon> findByType(CouponType type);
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package ecommerce.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 구매액 구간(세그먼트) 대상 쿠폰 일괄 발급 전용 JDBC 리포지토리
+ * 대상 사용자를 엔티티로 읽지 않고 청크에서 읽은 ID 목록 단위 INSERT IGNORE ... SELECT 로 발급 (재실행해도 중복 발급 없음)
+ *
+ * 구간 조건은 total_purchase_amount >= min AND total_purchase_amount < max (max 가 없으면 상한 없음)
+ *
+ * 사용자 ID 키셋 조회는 인덱스를 명시적으로 선택
+ * - PK: 청크마다 (afterId, toId] 를 이어서 스캔 → 전체 비용은 ID 범위 한 번 스캔 (대상이 많을 때)
+ * - 구매액 인덱스: 청크마다 구간 전체 인덱스 항목을 읽어 정렬 → 전체 비용은 대상 수² / 청크 크기 (대상이 적을 때)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponSegmentJdbcRepository {
+
+    // DECIMAL(15,2) 최댓값보다 큰 값 (상한 없음)
+    private static final BigDecimal NO_UPPER_BOUND = new BigDecimal("10000000000000");
+
+    private static final String SEGMENT_FILTER =
+            "u.total_purchase_amount >= ? AND u.total_purchase_amount < ?";
+
+    // 구매액 인덱스만으로 처리 (보조 인덱스에 id 포함)
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM users u WHERE " + SEGMENT_FILTER;
+
+    private static final String ID_BOUNDS_SQL =
+            "SELECT COALESCE(MIN(u.id), 0), COALESCE(MAX(u.id), 0) FROM users u WHERE " + SEGMENT_FILTER;
+
+    private static final String USER_IDS_AFTER_CONDITION =
+            " WHERE u.id > ? AND u.id <= ? AND " + SEGMENT_FILTER + " ORDER BY u.id LIMIT ?";
+
+    private static final String USER_IDS_AFTER_BY_ID_SQL =
+            "SELECT u.id FROM users u FORCE INDEX (PRIMARY)" + USER_IDS_AFTER_CONDITION;
+
+    // 보조 인덱스에 id 가 포함되어 테이블 접근 없이 처리
+    private static final String USER_IDS_AFTER_BY_AMOUNT_SQL =
+            "SELECT u.id FROM users u FORCE INDEX (idx_users_total_purchase_amount)" + USER_IDS_AFTER_CONDITION;
+
+    // 이미 보유한 사용자는 uk_user_coupons_user_coupon 위반을 IGNORE 로 건너뜀
+    // (실행이 겹쳐도 유니크 키에서 한쪽만 성공하므로 중복 발급 없음)
+    // 구간 조건을 다시 확인하여 조회 후 구간을 벗어난 사용자는 제외
+    private static final String ISSUE_USERS_SQL_PREFIX =
+            "INSERT IGNORE INTO user_coupons (user_id, coupon_id, is_used, issued_at, expires_at) " +
+                    "SELECT u.id, ?, false, ?, ? FROM users u " +
+                    "WHERE " + SEGMENT_FILTER + " AND u.id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 구간 대상 사용자 수
+     */
+    public long countSegment(BigDecimal minAmount, BigDecimal maxAmount) {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, minAmount, upperBound(maxAmount));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 구간 대상 사용자 ID 범위 [최소, 최대] (대상이 없으면 [0, 0])
+     */
+    public long[] findSegmentIdBounds(BigDecimal minAmount, BigDecimal maxAmount) {
+        return jdbcTemplate.queryForObject(ID_BOUNDS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                minAmount, upperBound(maxAmount));
+    }
+
+    /**
+     * 사용자 ID 키셋 조회 (afterId 초과 toId 이하, 최대 limit 건)
+     *
+     * @param byAmountIndex true 면 구매액 인덱스, false 면 PK 로 조회
+     */
+    public List<Long> findSegmentUserIdsAfter(BigDecimal minAmount, BigDecimal maxAmount,
+                                              long afterId, long toId, int limit, boolean byAmountIndex) {
+        String sql = byAmountIndex ? USER_IDS_AFTER_BY_AMOUNT_SQL : USER_IDS_AFTER_BY_ID_SQL;
+        return jdbcTemplate.queryForList(sql, Long.class,
+                afterId, toId, minAmount, upperBound(maxAmount), limit);
+    }
+
+    /**
+     * 청크에서 읽은 사용자 중 구간 대상 사용자에게 쿠폰 발급 (PK 조회만 사용)
+     *
+     * @return 새로 발급된 수
+     */
+    public int issueForUsers(Long couponId, BigDecimal minAmount, BigDecimal maxAmount,
+                             List<Long> userIds, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = userIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[userIds.size() + 5];
+        args[0] = couponId;
+        args[1] = Timestamp.valueOf(issuedAt);
+        args[2] = Timestamp.valueOf(expiresAt);
+        args[3] = minAmount;
+        args[4] = upperBound(maxAmount);
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i + 5] = userIds.get(i);
+        }
+
+        return jdbcTemplate.update(ISSUE_USERS_SQL_PREFIX + placeholders + ")", args);
+    }
+
+    private BigDecimal upperBound(BigDecimal maxAmount) {
+        return maxAmount != null ? maxAmount : NO_UPPER_BOUND;
+    }
+}
@@ -0,0 +1,89 @@
+package ecommerce.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 write-behind 저장 전용 JDBC 리포지토리
+ * Redis 에서 확정된 발급을 배치로 user_coupons 에 저장 (재실행해도 결과가 같도록 멱등하게 작성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 만료 시각은 쿠폰 유효 종료일
+    // 이미 저장된 발급(uk_user_coupons_user_coupon 위반)과 삭제된 쿠폰/사용자(FK 위반)는 IGNORE 로 건너뜀
+    // 임대가 겹치거나 같은 배치를 다시 저장해도 중복 행이 생기지 않음
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT IGNORE INTO user_coupons (user_id, coupon_id, is_used, issued_at, expires_at) " +
+                    "SELECT ?, c.id, false, ?, c.valid_until FROM coupons c WHERE c.id = ?";
+
+    private static final String USER_IDS_BY_COUPON_SQL =
+            "SELECT user_id FROM user_coupons WHERE coupon_id = ?";
+
+    private static final String COUPON_ID_FOR_USER_SQL =
+            "SELECT coupon_id FROM user_coupons WHERE id = ? AND user_id = ?";
+
+    // 미사용 + 만료 전인 본인 쿠폰만 사용 처리 (동시 주문에서 한 번만 성공)
+    private static final String MARK_USED_SQL =
+            "UPDATE user_coupons SET is_used = true, order_id = ? " +
+                    "WHERE id = ? AND user_id = ? AND is_used = false AND expires_at > ?";
+
+    private static final String RESTORE_BY_ORDER_SQL =
+            "UPDATE user_coupons SET is_used = false, order_id = NULL WHERE order_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 일괄 저장 (이미 있는 발급은 무시)
+     */
+    public void batchInsertIfAbsent(List<UserCouponRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getUserId());
+            ps.setTimestamp(2, new Timestamp(row.getIssuedAtMillis()));
+            ps.setLong(3, row.getCouponId());
+        });
+    }
+
+    /**
+     * 쿠폰을 발급받은 사용자 ID (선착순 쿠폰 개시 시 Redis 복구용)
+     */
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return jdbcTemplate.queryForList(USER_IDS_BY_COUPON_SQL, Long.class, couponId);
+    }
+
+    /**
+     * 본인 사용자 쿠폰의 쿠폰 ID (없거나 본인 것이 아니면 null)
+     */
+    public Long findCouponIdForUser(Long userCouponId, Long userId) {
+        List<Long> result = jdbcTemplate.queryForList(COUPON_ID_FOR_USER_SQL, Long.class, userCouponId, userId);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 조건부 사용 처리
+     *
+     * @return 사용 처리 여부 (이미 사용/만료/타인 쿠폰이면 false)
+     */
+    public boolean markUsed(Long userCouponId, Long userId, Long orderId, LocalDateTime now) {
+        return jdbcTemplate.update(MARK_USED_SQL, orderId, userCouponId, userId, Timestamp.valueOf(now)) == 1;
+    }
+
+    /**
+     * 주문에 사용된 쿠폰 복구 (주문 취소 시)
+     */
+    public int restoreByOrderId(Long orderId) {
+        return jdbcTemplate.update(RESTORE_BY_ORDER_SQL, orderId);
+    }
+}
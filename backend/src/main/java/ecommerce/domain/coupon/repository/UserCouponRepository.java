@@ -15,7 +15,7 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     Page<UserCoupon> findByUserId(Long userId, Pageable pageable);
 
-    boolean existsByUserIdAndCouponIdAndIsUsedFalse(Long userId, Long couponId);
+    boolean existsByUserIdAndCouponId(Long userId, Long couponId);
 
     // 사용 가능한 쿠폰 조회 (미사용 + 만료 전)
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.user.id = :userId " +
@@ -0,0 +1,16 @@
+package ecommerce.domain.coupon.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JDBC 배치 저장용 사용자 쿠폰 행 (선착순 발급 대기열 항목)
+ */
+@Getter
+@AllArgsConstructor
+public class UserCouponRow {
+
+    private long couponId;
+    private long userId;
+    private long issuedAtMillis;
+}
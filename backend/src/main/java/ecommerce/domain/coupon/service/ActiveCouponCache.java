@@ -0,0 +1,171 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.domain.coupon.dto.CouponResponse;
+import ecommerce.domain.coupon.repository.CouponRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 현재 유효한 쿠폰 목록 로컬 캐시
+ *
+ * - 유효 쿠폰은 적고 자주 바뀌지 않으므로 전체를 메모리에 두고 정렬/페이징도 메모리에서 처리
+ *   (대량 발행 코드 쿠폰은 코드로만 사용하므로 목록에서 제외)
+ * - 만료 시각은 가장 가까운 경계 (유효 쿠폰 중 가장 이른 validUntil 직후, 다음 validFrom) 로 직접 계산
+ * - 생성/수정/삭제 시 모든 노드에서 무효화 (CouponCacheInvalidator), 메시지 유실 대비 최대 보관 시간 제한
+ */
+@Slf4j
+@Component
+public class ActiveCouponCache {
+
+    private static final Map<String, Comparator<CouponResponse>> SORTABLE = Map.of(
+            "id", nullsLast(CouponResponse::getId),
+            "name", nullsLast(CouponResponse::getName),
+            "code", nullsLast(CouponResponse::getCode),
+            "type", nullsLast(CouponResponse::getType),
+            "discountValue", nullsLast(CouponResponse::getDiscountValue),
+            "minOrderAmount", nullsLast(CouponResponse::getMinOrderAmount),
+            "validFrom", nullsLast(CouponResponse::getValidFrom),
+            "validUntil", nullsLast(CouponResponse::getValidUntil),
+            "createdAt", nullsLast(CouponResponse::getCreatedAt)
+    );
+
+    private final CouponRepository couponRepository;
+    private final long maxTtlMs;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // 무효화될 때마다 증가 (로딩 중 무효화되면 로딩 결과를 버림)
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ActiveCouponCache(CouponRepository couponRepository,
+                             @Value("${coupon.active-cache.max-ttl-ms:600000}") long maxTtlMs) {
+        this.couponRepository = couponRepository;
+        this.maxTtlMs = maxTtlMs;
+    }
+
+    /**
+     * 유효 쿠폰 페이지 (캐시가 유효하면 DB 조회 없음)
+     */
+    public Page<CouponResponse> getPage(Pageable pageable) {
+        List<CouponResponse> coupons = getAll();
+
+        if (pageable.getSort().isSorted()) {
+            coupons = new ArrayList<>(coupons);
+            coupons.sort(comparator(pageable.getSort()));
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(coupons, pageable, coupons.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), coupons.size());
+        int to = Math.min(from + pageable.getPageSize(), coupons.size());
+        return new PageImpl<>(List.copyOf(coupons.subList(from, to)), pageable, coupons.size());
+    }
+
+    /**
+     * 현재 유효한 쿠폰 전체 (ID 오름차순, 변경 불가)
+     */
+    public List<CouponResponse> getAll() {
+        LocalDateTime now = LocalDateTime.now();
+        Snapshot current = snapshot;
+        if (current != null && current.isValidAt(now)) {
+            return current.coupons;
+        }
+
+        loadLock.lock();
+        try {
+            current = snapshot;
+            if (current != null && current.isValidAt(now)) {
+                return current.coupons;
+            }
+            return load(now).coupons;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 무효화 (다음 조회 때 다시 로딩)
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot load(LocalDateTime now) {
+        long loadedVersion = version.get();
+
+        List<CouponResponse> coupons = couponRepository.findActiveAt(now).stream()
+                .map(CouponResponse::from)
+                .toList();
+        LocalDateTime nextValidFrom = couponRepository.findNextValidFromAfter(now);
+
+        // 유효 쿠폰 중 하나가 끝나거나 새 쿠폰이 시작되는 시점, 최대 보관 시간 중 가장 이른 시각까지 유효
+        LocalDateTime expiresAt = now.plusNanos(maxTtlMs * 1_000_000L);
+        for (CouponResponse coupon : coupons) {
+            LocalDateTime endsAt = coupon.getValidUntil().plusNanos(1);
+            if (endsAt.isBefore(expiresAt)) {
+                expiresAt = endsAt;
+            }
+        }
+        if (nextValidFrom != null && nextValidFrom.isBefore(expiresAt)) {
+            expiresAt = nextValidFrom;
+        }
+
+        Snapshot loaded = new Snapshot(coupons, expiresAt);
+        if (version.get() == loadedVersion) {
+            snapshot = loaded;
+        }
+
+        log.debug("유효 쿠폰 캐시 로딩: {}건, 만료={}", coupons.size(), expiresAt);
+        return loaded;
+    }
+
+    private Comparator<CouponResponse> comparator(Sort sort) {
+        Comparator<CouponResponse> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<CouponResponse> property = SORTABLE.get(order.getProperty());
+            if (property == null) {
+                throw new BadRequestException("정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            if (order.isDescending()) {
+                property = property.reversed();
+            }
+            result = result == null ? property : result.thenComparing(property);
+        }
+        return result;
+    }
+
+    private static <U extends Comparable<? super U>> Comparator<CouponResponse> nullsLast(
+            Function<CouponResponse, U> keyExtractor) {
+        return Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final List<CouponResponse> coupons;
+        // 이 시각부터는 유효 쿠폰 목록이 달라질 수 있음
+        private final LocalDateTime expiresAt;
+
+        private boolean isValidAt(LocalDateTime now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.infrastructure.redis.RedisService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 쿠폰 로컬 캐시 클러스터 무효화
+ *
+ * - 쿠폰을 생성/수정/삭제한 노드가 커밋 후 Redis 채널로 쿠폰 ID 를 발행
+ * - 모든 노드(발행한 노드 포함)가 구독하여 유효 쿠폰 목록과 해당 쿠폰 정의를 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "coupon:cache:invalidate";
+    // 쿠폰 정의는 그대로 두고 유효 쿠폰 목록만 무효화 (새 쿠폰 생성)
+    private static final String ALL_ACTIVE = "*";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ActiveCouponCache activeCouponCache;
+    private final CouponDefinitionCache couponDefinitionCache;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        log.info("쿠폰 캐시 무효화 채널 구독: {}", CHANNEL);
+    }
+
+    /**
+     * 쿠폰 변경 (수정/삭제)
+     */
+    public void invalidate(Long couponId) {
+        publishAfterCommit(String.valueOf(couponId));
+    }
+
+    /**
+     * 쿠폰 추가 (생성/대량 발행)
+     */
+    public void invalidateActive() {
+        publishAfterCommit(ALL_ACTIVE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("쿠폰 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private void publishAfterCommit(String message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(message);
+                }
+            });
+        } else {
+            publish(message);
+        }
+    }
+
+    private void publish(String message) {
+        // 발행이 실패해도 이 노드는 즉시 반영 (다른 노드는 최대 보관 시간이 지나면 반영)
+        evictLocal(message);
+        redisService.publish(CHANNEL, message);
+    }
+
+    private void evictLocal(String message) {
+        activeCouponCache.invalidate();
+        if (!ALL_ACTIVE.equals(message)) {
+            couponDefinitionCache.evict(Long.valueOf(message));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.common.exception.BusinessException;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.domain.coupon.repository.CouponCodeSequenceJdbcRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 코드 생성기 (DB 조회 없이 중복 없는 코드 생성)
+ *
+ * - 64비트 입력 = 생성기 ID(24비트, DB 카운터 coupon_code_sequences 에서 할당) + 생성기 내 순번(40비트)
+ *   (Redis 가 비워져도 이전 ID 를 다시 받지 않음, 기존 Redis 카운터 값은 DB 카운터를 처음 만들 때 시작 값으로 사용)
+ * - 키 기반 Feistel 순열(HMAC-SHA256 4라운드)로 섞어 순번을 추측할 수 없게 함 (순열이므로 입력이 다르면 코드도 다름)
+ * - Crockford Base32 13자리 + Luhn mod 32 검사 문자 1자리 (XXXXX-XXXXX-XXXX)
+ * - 순열 키는 전용 비밀값(coupon.code.secret)만 사용 (JWT 서명 키 재사용 금지, 없으면 기동 실패)
+ */
+@Slf4j
+@Component
+public class CouponCodeGenerator {
+
+    private static final String SEQUENCE_NAME = "coupon-code-generator";
+    // 이전 버전의 Redis 생성기 ID 카운터 (DB 카운터 최초 생성 시 시작 값)
+    private static final String LEGACY_GENERATOR_SEQ_KEY = "coupon:code:generator-seq";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int RADIX = 32;
+    private static final int BODY_LENGTH = 13; // 64비트 → Base32 13자리
+    private static final int SEQUENCE_BITS = 40;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long GENERATOR_MASK = (1L << (64 - SEQUENCE_BITS)) - 1;
+    private static final int ROUNDS = 4;
+
+    private final CouponCodeSequenceJdbcRepository couponCodeSequenceJdbcRepository;
+    private final RedisService redisService;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    private long generatorId = -1;
+    private long nextSequence;
+
+    public CouponCodeGenerator(CouponCodeSequenceJdbcRepository couponCodeSequenceJdbcRepository,
+                               RedisService redisService,
+                               @Value("${coupon.code.secret:}") String secret,
+                               @Value("${jwt.secret:}") String jwtSecret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("coupon.code.secret(COUPON_CODE_SECRET) 가 설정되지 않았습니다");
+        }
+        if (secret.equals(jwtSecret)) {
+            throw new IllegalStateException("coupon.code.secret 은 jwt.secret 과 다른 값이어야 합니다");
+        }
+        if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("coupon.code.secret 은 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다");
+        }
+
+        this.couponCodeSequenceJdbcRepository = couponCodeSequenceJdbcRepository;
+        this.redisService = redisService;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String generate() {
+        return generate(1).get(0);
+    }
+
+    /**
+     * 코드 count 개 생성 (순번 구간을 한 번에 예약)
+     */
+    public List<String> generate(int count) {
+        long[] inputs = reserve(count);
+
+        List<String> codes = new ArrayList<>(count);
+        for (long input : inputs) {
+            codes.add(format(encode(permute(input))));
+        }
+        return codes;
+    }
+
+    /**
+     * 코드 형식/검사 문자 확인 (DB 조회 전 오타·위조 코드 차단용)
+     */
+    public boolean isValid(String code) {
+        if (code == null) {
+            return false;
+        }
+
+        String normalized = code.replace("-", "").toUpperCase();
+        if (normalized.length() != BODY_LENGTH + 1) {
+            return false;
+        }
+
+        int[] digits = new int[normalized.length()];
+        for (int i = 0; i < normalized.length(); i++) {
+            int digit = indexOf(normalized.charAt(i));
+            if (digit < 0) {
+                return false;
+            }
+            digits[i] = digit;
+        }
+        return luhnSum(digits, digits.length, 1) % RADIX == 0;
+    }
+
+    /**
+     * 순번 예약: 생성기 ID 는 처음 사용할 때와 순번이 소진될 때 새로 할당 (재기동해도 이전 입력과 겹치지 않음)
+     */
+    private synchronized long[] reserve(int count) {
+        long[] inputs = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (generatorId < 0 || nextSequence > SEQUENCE_MASK) {
+                allocateGenerator();
+            }
+            inputs[i] = (generatorId << SEQUENCE_BITS) | nextSequence++;
+        }
+        return inputs;
+    }
+
+    private void allocateGenerator() {
+        Long allocated = couponCodeSequenceJdbcRepository.next(SEQUENCE_NAME);
+        if (allocated == null) {
+            couponCodeSequenceJdbcRepository.seedIfAbsent(SEQUENCE_NAME, legacyGeneratorId());
+            allocated = couponCodeSequenceJdbcRepository.next(SEQUENCE_NAME);
+        }
+        if (allocated == null) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 코드 생성기 ID 할당 실패");
+        }
+        if (allocated > GENERATOR_MASK) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 코드 생성기 ID 소진");
+        }
+
+        generatorId = allocated;
+        nextSequence = 0;
+        log.info("쿠폰 코드 생성기 ID 할당: {}", generatorId);
+    }
+
+    /**
+     * 이전 버전이 Redis 에서 마지막으로 할당한 생성기 ID (없으면 0)
+     */
+    private long legacyGeneratorId() {
+        String value = redisService.getStringValue(LEGACY_GENERATOR_SEQ_KEY);
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 코드 생성기 ID 카운터 형식 오류: " + value);
+        }
+    }
+
+    /**
+     * 64비트 Feistel 순열 (32비트 반쪽, 라운드 함수 = HMAC(라운드 || 오른쪽) 상위 32비트)
+     */
+    private long permute(long input) {
+        int left = (int) (input >>> 32);
+        int right = (int) input;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ roundFunction(round, right);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    private int roundFunction(int round, int value) {
+        Mac instance = mac.get();
+        instance.update((byte) round);
+        instance.update((byte) (value >>> 24));
+        instance.update((byte) (value >>> 16));
+        instance.update((byte) (value >>> 8));
+        instance.update((byte) value);
+        byte[] hash = instance.doFinal();
+        return ((hash[0] & 0xFF) << 24) | ((hash[1] & 0xFF) << 16) | ((hash[2] & 0xFF) << 8) | (hash[3] & 0xFF);
+    }
+
+    /**
+     * Base32 13자리 + 검사 문자
+     */
+    private String encode(long value) {
+        int[] digits = new int[BODY_LENGTH + 1];
+        long remaining = value;
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (int) (remaining & 0x1F);
+            remaining >>>= 5;
+        }
+        digits[BODY_LENGTH] = (RADIX - luhnSum(digits, BODY_LENGTH, 2) % RADIX) % RADIX;
+
+        StringBuilder builder = new StringBuilder(digits.length);
+        for (int digit : digits) {
+            builder.append(ALPHABET[digit]);
+        }
+        return builder.toString();
+    }
+
+    private String format(String raw) {
+        return raw.substring(0, 5) + "-" + raw.substring(5, 10) + "-" + raw.substring(10);
+    }
+
+    /**
+     * Luhn mod 32 합계 (오른쪽부터, 첫 가중치 initialFactor)
+     */
+    private static int luhnSum(int[] digits, int length, int initialFactor) {
+        int factor = initialFactor;
+        int sum = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            int addend = factor * digits[i];
+            sum += addend / RADIX + addend % RADIX;
+            factor = factor == 2 ? 1 : 2;
+        }
+        return sum;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance("HmacSHA256");
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 초기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.coupon.dto.CouponDefinition;
+import ecommerce.domain.coupon.repository.CouponRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 정의 로컬 캐시
+ *
+ * - 주문 시 쿠폰마다 coupons 를 조회하지 않도록 노드 메모리에 보관
+ * - 수정/삭제 시 커밋 후 모든 노드에서 무효화 (CouponCacheInvalidator), 메시지 유실 대비 TTL 이 지나면 다시 조회
+ * - 최대 개수를 넘으면 만료된 항목부터 정리, 그래도 가득 차면 전체 비움
+ */
+@Component
+public class CouponDefinitionCache {
+
+    private final CouponRepository couponRepository;
+    private final long ttlMs;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public CouponDefinitionCache(CouponRepository couponRepository,
+                                 @Value("${coupon.cache.ttl-ms:300000}") long ttlMs,
+                                 @Value("${coupon.cache.max-size:10000}") int maxSize) {
+        this.couponRepository = couponRepository;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 쿠폰 정의 (캐시 미스/만료일 때만 DB 조회)
+     */
+    public CouponDefinition get(Long couponId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(couponId);
+        if (entry != null) {
+            if (entry.expiresAt > now) {
+                return entry.definition;
+            }
+            entries.remove(couponId, entry);
+        }
+
+        CouponDefinition definition = couponRepository.findById(couponId)
+                .map(CouponDefinition::from)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        put(couponId, new Entry(definition, now + ttlMs), now);
+        return definition;
+    }
+
+    private void put(Long couponId, Entry entry, long now) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(cached -> cached.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(couponId, entry);
+    }
+
+    /**
+     * 쿠폰 정의 무효화 (이 노드만)
+     */
+    public void evict(Long couponId) {
+        entries.remove(couponId);
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final CouponDefinition definition;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,208 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.common.exception.BusinessException;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.coupon.dto.CouponClaimResponse;
+import ecommerce.domain.coupon.entity.Coupon;
+import ecommerce.domain.coupon.enums.CouponType;
+import ecommerce.domain.coupon.repository.CouponRepository;
+import ecommerce.domain.coupon.repository.UserCouponJdbcRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 선착순 쿠폰 발급 서비스
+ *
+ * - 남은 수량/발급 기간은 Redis Hash, 발급받은 사용자는 Redis Set 에 보관
+ * - 발급 요청은 Lua 스크립트 한 번으로 중복 확인 → 수량 차감 → 발급 기록 → 저장 대기열 추가 (DB 사용 없음)
+ * - user_coupons 저장은 CouponIssueSyncService 가 대기열을 배치로 반영 (write-behind)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponDropService {
+
+    private static final String DROP_KEY_PREFIX = "coupon:drop:";
+    private static final String ISSUED_KEY_PREFIX = "coupon:drop:issued:";
+    // 저장 대기열 (쿠폰ID:사용자ID:발급시각)
+    public static final String PENDING_QUEUE_KEY = "coupon:drop:pending";
+
+    private static final Duration KEY_TTL_AFTER_END = Duration.ofDays(1);
+
+    static final long NOT_OPENED = -3L;
+    static final long NOT_ACTIVE = -4L;
+    static final long SOLD_OUT = -2L;
+    static final long ALREADY_ISSUED = -1L;
+
+    /**
+     * KEYS[1]=수량/기간 Hash, KEYS[2]=발급 사용자 Set, KEYS[3]=저장 대기열
+     * ARGV[1]=사용자 ID, ARGV[2]=쿠폰 ID, ARGV[3]=현재 시각(ms)
+     * 반환: 남은 수량, -1=중복, -2=소진, -3=미개시, -4=발급 기간 아님
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of("""
+            local meta = redis.call('HMGET', KEYS[1], 'remaining', 'from', 'until')
+            if not meta[1] then return -3 end
+            local now = tonumber(ARGV[3])
+            if now < tonumber(meta[2]) or now > tonumber(meta[3]) then return -4 end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return -1 end
+            if tonumber(meta[1]) <= 0 then return -2 end
+            local remaining = redis.call('HINCRBY', KEYS[1], 'remaining', -1)
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('RPUSH', KEYS[3], ARGV[2] .. ':' .. ARGV[1] .. ':' .. ARGV[3])
+            return remaining
+            """, Long.class);
+
+    /**
+     * 개시/갱신: 이미 있으면 기간 갱신 + 수량 변경분 반영, 없으면 DB 발급 현황 + 저장 대기 중인 발급으로 초기화
+     * ARGV[1]=남은 수량, ARGV[2]=시작(ms), ARGV[3]=종료(ms), ARGV[4]=TTL(초), ARGV[5]=수량 변경분, ARGV[6..]=발급 사용자
+     * 반환: 남은 수량
+     */
+    private static final RedisScript<Long> OPEN_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('HSET', KEYS[1], 'from', ARGV[2], 'until', ARGV[3])
+                local remaining = redis.call('HINCRBY', KEYS[1], 'remaining', ARGV[5])
+                redis.call('EXPIRE', KEYS[1], ARGV[4])
+                redis.call('EXPIRE', KEYS[2], ARGV[4])
+                return remaining
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 6, #ARGV do
+                redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('HSET', KEYS[1], 'remaining', ARGV[1], 'from', ARGV[2], 'until', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            if #ARGV >= 6 then
+                redis.call('EXPIRE', KEYS[2], ARGV[4])
+            end
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    private final CouponRepository couponRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final RedisService redisService;
+
+    /**
+     * 선착순 쿠폰 발급 요청 (Redis 만 사용, 저장은 비동기)
+     */
+    public CouponClaimResponse claim(Long userId, Long couponId) {
+        String now = String.valueOf(System.currentTimeMillis());
+        List<String> keys = List.of(dropKey(couponId), issuedKey(couponId), PENDING_QUEUE_KEY);
+
+        Long remaining = redisService.executeScript(CLAIM_SCRIPT, keys,
+                String.valueOf(userId), String.valueOf(couponId), now);
+        if (remaining != null && remaining == NOT_OPENED) {
+            // Redis 유실 등으로 개시 정보가 없으면 DB 발급 현황과 저장 대기열 기준으로 한 번 복구
+            open(couponId, 0);
+            remaining = redisService.executeScript(CLAIM_SCRIPT, keys,
+                    String.valueOf(userId), String.valueOf(couponId), now);
+        }
+
+        if (remaining == null || remaining == NOT_OPENED || remaining == NOT_ACTIVE) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_ACTIVE);
+        }
+        if (remaining == ALREADY_ISSUED) {
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+        if (remaining == SOLD_OUT) {
+            throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+        }
+
+        log.debug("선착순 쿠폰 발급: couponId={}, userId={}, 남은 수량={}", couponId, userId, remaining);
+
+        return CouponClaimResponse.builder()
+                .couponId(couponId)
+                .remaining(remaining)
+                .build();
+    }
+
+    /**
+     * 선착순 쿠폰 개시/갱신 (생성·수정 커밋 후, 또는 관리자가 수동 복구)
+     *
+     * @param quantityDelta 이미 개시된 경우 남은 수량에 더할 값 (발급 수량 변경분)
+     * @return 남은 수량
+     */
+    public long open(Long couponId, int quantityDelta) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+
+        if (coupon.getType() != CouponType.LIMITED || coupon.getTotalQuantity() == null) {
+            throw new BadRequestException("선착순 쿠폰이 아닙니다");
+        }
+
+        // 대기열은 DB 커밋 후에 제거되므로 DB 조회 전에 읽어야 그 사이 반영된 발급도 놓치지 않음
+        // (개시 정보가 없는 동안에는 이 쿠폰의 발급이 대기열에 추가되지 않음)
+        Set<Long> issuedUserIds = new LinkedHashSet<>(findPendingUserIds(couponId));
+        issuedUserIds.addAll(userCouponJdbcRepository.findUserIdsByCouponId(couponId));
+        long remaining = Math.max(0, coupon.getTotalQuantity() - issuedUserIds.size());
+        long ttlSeconds = Math.max(60, Duration.between(LocalDateTime.now(), coupon.getValidUntil())
+                .plus(KEY_TTL_AFTER_END).getSeconds());
+
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 5);
+        args.add(String.valueOf(remaining));
+        args.add(String.valueOf(toMillis(coupon.getValidFrom())));
+        args.add(String.valueOf(toMillis(coupon.getValidUntil())));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(quantityDelta));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long result = redisService.executeScript(OPEN_SCRIPT,
+                List.of(dropKey(couponId), issuedKey(couponId)), args.toArray(new String[0]));
+
+        log.info("선착순 쿠폰 개시: couponId={}, 발급 수량={}, 남은 수량={}",
+                couponId, coupon.getTotalQuantity(), result);
+        return result != null ? result : remaining;
+    }
+
+    /**
+     * 저장 대기열에서 아직 user_coupons 에 반영되지 않은 이 쿠폰의 발급 사용자
+     */
+    private List<Long> findPendingUserIds(Long couponId) {
+        String prefix = couponId + ":";
+        List<Long> userIds = new ArrayList<>();
+        for (String entry : redisService.getListRange(PENDING_QUEUE_KEY, 0, -1)) {
+            if (!entry.startsWith(prefix)) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            try {
+                userIds.add(Long.parseLong(parts[1]));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("선착순 쿠폰 대기열 항목 형식 오류, 건너뜀: {}", entry);
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 선착순 쿠폰 종료 (쿠폰 삭제 시)
+     */
+    public void close(Long couponId) {
+        redisService.delete(dropKey(couponId));
+        redisService.delete(issuedKey(couponId));
+    }
+
+    private static String dropKey(Long couponId) {
+        return DROP_KEY_PREFIX + couponId;
+    }
+
+    private static String issuedKey(Long couponId) {
+        return ISSUED_KEY_PREFIX + couponId;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,78 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.domain.coupon.repository.UserCouponJdbcRepository;
+import ecommerce.domain.coupon.repository.UserCouponRow;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 대기열 → user_coupons 반영 서비스
+ * 배치마다 커밋 후 대기열에서 제거하므로, 제거 전 실패하면 같은 배치를 다시 반영함 (반영은 멱등)
+ */
+@Slf4j
+@Service
+public class CouponIssueSyncService {
+
+    private static final int FLUSH_BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_FLUSH = 50;
+
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+
+    public CouponIssueSyncService(UserCouponJdbcRepository userCouponJdbcRepository,
+                                  RedisService redisService,
+                                  PlatformTransactionManager transactionManager) {
+        this.userCouponJdbcRepository = userCouponJdbcRepository;
+        this.redisService = redisService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대기열 반영 (한 노드에서만 호출되어야 함)
+     *
+     * @return 반영한 대기열 항목 수
+     */
+    public int flushPending() {
+        int flushed = 0;
+
+        for (int i = 0; i < MAX_BATCHES_PER_FLUSH; i++) {
+            List<String> entries = redisService.getListRange(
+                    CouponDropService.PENDING_QUEUE_KEY, 0, FLUSH_BATCH_SIZE - 1);
+            if (entries.isEmpty()) {
+                break;
+            }
+
+            List<UserCouponRow> rows = parse(entries);
+            transactionTemplate.executeWithoutResult(status -> userCouponJdbcRepository.batchInsertIfAbsent(rows));
+
+            redisService.trimListHead(CouponDropService.PENDING_QUEUE_KEY, entries.size());
+            flushed += entries.size();
+
+            if (entries.size() < FLUSH_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return flushed;
+    }
+
+    private List<UserCouponRow> parse(List<String> entries) {
+        List<UserCouponRow> rows = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String[] parts = entry.split(":");
+            try {
+                rows.add(new UserCouponRow(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("선착순 쿠폰 대기열 항목 형식 오류, 건너뜀: {}", entry);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,69 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.common.exception.BusinessException;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.coupon.dto.CouponDefinition;
+import ecommerce.domain.coupon.repository.UserCouponJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 쿠폰 적용 서비스 (주문 트랜잭션 안에서 호출)
+ *
+ * - 할인 계산: 쿠폰 정의는 로컬 캐시에서 조회, 기간/최소 주문 금액 확인
+ * - 사용 처리: 조건부 UPDATE 한 번으로 미사용·미만료 확인과 주문 연결을 원자적으로 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponRedemptionService {
+
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final CouponDefinitionCache couponDefinitionCache;
+
+    /**
+     * 사용자 쿠폰의 할인액 계산
+     */
+    public BigDecimal calculateDiscount(Long userId, Long userCouponId, BigDecimal orderAmount, LocalDateTime now) {
+        Long couponId = userCouponJdbcRepository.findCouponIdForUser(userCouponId, userId);
+        if (couponId == null) {
+            throw new ResourceNotFoundException(ErrorCode.COUPON_NOT_FOUND);
+        }
+
+        CouponDefinition coupon = couponDefinitionCache.get(couponId);
+        if (!coupon.isValidAt(now)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_APPLICABLE, "쿠폰 사용 기간이 아닙니다");
+        }
+        if (orderAmount.compareTo(coupon.getMinOrderAmount()) < 0) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_APPLICABLE,
+                    String.format("최소 주문 금액(%s원) 이상부터 사용할 수 있습니다", coupon.getMinOrderAmount().toPlainString()));
+        }
+
+        return coupon.discountFor(orderAmount);
+    }
+
+    /**
+     * 사용자 쿠폰 사용 처리 + 주문 연결 (실패 시 예외로 주문 트랜잭션 롤백)
+     */
+    public void redeem(Long userId, Long userCouponId, Long orderId, LocalDateTime now) {
+        if (!userCouponJdbcRepository.markUsed(userCouponId, userId, orderId, now)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+        log.info("쿠폰 사용: userCouponId={}, orderId={}", userCouponId, orderId);
+    }
+
+    /**
+     * 주문에 사용된 쿠폰 복구 (주문 취소 시)
+     */
+    public void restore(Long orderId) {
+        int restored = userCouponJdbcRepository.restoreByOrderId(orderId);
+        if (restored > 0) {
+            log.info("쿠폰 복구: orderId={}, 복구={}건", orderId, restored);
+        }
+    }
+}
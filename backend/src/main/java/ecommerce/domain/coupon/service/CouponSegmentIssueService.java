@@ -0,0 +1,261 @@
+package ecommerce.domain.coupon.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.domain.coupon.event.CouponSegmentIssueRequestedEvent;
+import ecommerce.domain.coupon.repository.CouponRepository;
+import ecommerce.domain.coupon.repository.CouponSegmentJdbcRepository;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
+import ecommerce.infrastructure.batch.JobProgress;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 구매액 구간(세그먼트) 대상 쿠폰 일괄 발급 서비스
+ *
+ * - 아웃박스 핸들러(CouponSegmentIssueListener)는 실행 요청만 기록하고 배치 실행기로 넘김
+ *   (디스패처 스레드를 오래 점유하지 않고, 아웃박스 선점 만료와 무관하게 실행)
+ * - 실행은 runId 별 임대로 보호 (임대는 자동 연장, 다른 노드는 같은 runId 를 실행하지 않음)
+ * - 구매액 인덱스로 대상 사용자 ID 범위를 구해 파티션으로 나누고 워커별로 병렬 처리
+ * - 사용자 ID 키셋으로 청크(1000명)씩 읽고, 읽은 사용자를 INSERT IGNORE ... SELECT 한 번으로 발급 후 커밋
+ * - 대상 수가 sqrt(ID 범위 × 청크 크기) 미만이면 구매액 인덱스, 이상이면 PK 로 읽음
+ *   (전체 읽기 비용이 ID 범위 한 번 스캔을 넘지 않도록 함)
+ * - 이미 보유한 사용자는 유니크 키로 건너뛰므로 실패 후 재시도(체크포인트 재개)해도 중복 발급 없음
+ * - 완료되지 않은 실행은 Redis 에 남겨 두고 CouponSegmentIssueScheduler 가 주기적으로 다시 넘김
+ *   (실패/노드 장애 후 재개, 최대 coupon.segment.max-attempts 회)
+ * - 진행 상황/처리량은 /internal/batch/jobs 에서 확인
+ */
+@Slf4j
+@Service
+public class CouponSegmentIssueService {
+
+    private static final String JOB_NAME = "coupon-segment-issue";
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+    private static final Duration DONE_RETENTION = Duration.ofDays(2);
+
+    // runId → 요청 이벤트 JSON (완료되거나 재시도 횟수를 넘기면 제거)
+    private static final String PENDING_KEY = "coupon:segment:pending";
+    private static final String FAILURE_KEY_PREFIX = "coupon:segment:failures:";
+    private static final long FAILURE_TTL_SECONDS = DONE_RETENTION.toSeconds();
+
+    private final CouponRepository couponRepository;
+    private final CouponSegmentJdbcRepository couponSegmentJdbcRepository;
+    private final ChunkJobRunner chunkJobRunner;
+    private final JobLeaseManager jobLeaseManager;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final Executor batchJobExecutor;
+    private final int workers;
+    private final int maxAttempts;
+
+    public CouponSegmentIssueService(CouponRepository couponRepository,
+                                     CouponSegmentJdbcRepository couponSegmentJdbcRepository,
+                                     ChunkJobRunner chunkJobRunner,
+                                     JobLeaseManager jobLeaseManager,
+                                     RedisService redisService,
+                                     ObjectMapper objectMapper,
+                                     @Qualifier("batchJobExecutor") Executor batchJobExecutor,
+                                     @Value("${coupon.segment.workers:4}") int workers,
+                                     @Value("${coupon.segment.max-attempts:5}") int maxAttempts) {
+        this.couponRepository = couponRepository;
+        this.couponSegmentJdbcRepository = couponSegmentJdbcRepository;
+        this.chunkJobRunner = chunkJobRunner;
+        this.jobLeaseManager = jobLeaseManager;
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.batchJobExecutor = batchJobExecutor;
+        this.workers = workers;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 실행 요청 기록 후 배치 실행기로 넘김
+     * 실행기가 포화면 예외를 던져 아웃박스가 나중에 다시 전달하도록 함 (기록된 요청은 스케줄러도 재시도)
+     */
+    public void submit(CouponSegmentIssueRequestedEvent event) {
+        redisService.putHashValue(PENDING_KEY, event.getRunId(), toJson(event));
+        batchJobExecutor.execute(() -> run(event));
+        log.info("쿠폰 일괄 발급 실행 예약: couponId={}, runId={}", event.getCouponId(), event.getRunId());
+    }
+
+    /**
+     * 완료되지 않은 실행 다시 넘기기 (다른 노드가 실행 중이면 임대에서 건너뜀)
+     *
+     * @return 넘긴 실행 수
+     */
+    public int resumePending() {
+        Map<String, String> pending = redisService.getHashEntries(PENDING_KEY);
+        int submitted = 0;
+
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            CouponSegmentIssueRequestedEvent event = fromJson(entry.getValue());
+            if (event == null) {
+                log.error("쿠폰 일괄 발급 요청 파싱 실패, 제거: runId={}", entry.getKey());
+                redisService.deleteHashField(PENDING_KEY, entry.getKey());
+                continue;
+            }
+
+            try {
+                batchJobExecutor.execute(() -> run(event));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                log.warn("쿠폰 일괄 발급 재개 보류 (실행기 포화): 남은 요청={}건", pending.size() - submitted);
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * runId 임대를 얻은 경우에만 실행 (이미 완료된 runId 는 요청만 정리)
+     */
+    private void run(CouponSegmentIssueRequestedEvent event) {
+        String runId = event.getRunId();
+        JobLeaseManager.AcquireResult result;
+        try {
+            result = jobLeaseManager.tryAcquire(JOB_NAME + ":" + runId, JOB_NAME, LEASE_TTL);
+        } catch (Exception e) {
+            log.error("쿠폰 일괄 발급 임대 획득 실패 (다음 점검 때 재시도): runId={}", runId, e);
+            return;
+        }
+
+        if (result.isDone()) {
+            redisService.deleteHashField(PENDING_KEY, runId);
+            return;
+        }
+        if (result.getLease().isEmpty()) {
+            log.debug("쿠폰 일괄 발급 건너뜀 (다른 노드 실행 중): runId={}", runId);
+            return;
+        }
+
+        JobLease lease = result.getLease().get();
+        try {
+            issue(event);
+            jobLeaseManager.complete(lease, DONE_RETENTION);
+            redisService.deleteHashField(PENDING_KEY, runId);
+            redisService.delete(FAILURE_KEY_PREFIX + runId);
+        } catch (RuntimeException e) {
+            jobLeaseManager.release(lease);
+            recordFailure(event, e);
+        }
+    }
+
+    private void recordFailure(CouponSegmentIssueRequestedEvent event, RuntimeException e) {
+        String failureKey = FAILURE_KEY_PREFIX + event.getRunId();
+        Long attempts = redisService.increment(failureKey);
+        redisService.expire(failureKey, FAILURE_TTL_SECONDS);
+
+        if (attempts != null && attempts >= maxAttempts) {
+            redisService.deleteHashField(PENDING_KEY, event.getRunId());
+            log.error("쿠폰 일괄 발급 중단 (재시도 {}회 초과): couponId={}, runId={}",
+                    maxAttempts, event.getCouponId(), event.getRunId(), e);
+            return;
+        }
+        log.warn("쿠폰 일괄 발급 실패 (체크포인트 이후부터 재시도): couponId={}, runId={}, 시도={}회, 에러={}",
+                event.getCouponId(), event.getRunId(), attempts, e.getMessage(), e);
+    }
+
+    private String toJson(CouponSegmentIssueRequestedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰 일괄 발급 요청 직렬화 실패: runId=" + event.getRunId(), e);
+        }
+    }
+
+    private CouponSegmentIssueRequestedEvent fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, CouponSegmentIssueRequestedEvent.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 구간 대상 사용자에게 쿠폰 발급
+     * 실패 시 예외를 던짐 (같은 runId 로 다시 실행하면 체크포인트 이후부터 재개)
+     */
+    private void issue(CouponSegmentIssueRequestedEvent event) {
+        Long couponId = event.getCouponId();
+        if (!couponRepository.existsById(couponId)) {
+            log.warn("쿠폰 일괄 발급 건너뜀 (쿠폰 없음): couponId={}, runId={}", couponId, event.getRunId());
+            return;
+        }
+
+        long[] bounds = couponSegmentJdbcRepository.findSegmentIdBounds(
+                event.getMinPurchaseAmount(), event.getMaxPurchaseAmount());
+        if (bounds[1] == 0) {
+            log.info("쿠폰 일괄 발급 대상 없음: couponId={}, 구매액=[{}, {})",
+                    couponId, event.getMinPurchaseAmount(), event.getMaxPurchaseAmount());
+            return;
+        }
+
+        long targetCount = couponSegmentJdbcRepository.countSegment(
+                event.getMinPurchaseAmount(), event.getMaxPurchaseAmount());
+        boolean byAmountIndex = isSparse(targetCount, bounds[1] - bounds[0] + 1);
+
+        LocalDateTime issuedAt = LocalDateTime.now();
+        AtomicLong issuedCount = new AtomicLong();
+
+        ChunkJob<Long, Long> job = ChunkJob.<Long, Long>builder()
+                .name(JOB_NAME)
+                .runId(event.getRunId())
+                .minId(bounds[0])
+                .maxId(bounds[1])
+                .chunkSize(CHUNK_SIZE)
+                .workers(workers)
+                .reader((afterId, toId, limit) -> couponSegmentJdbcRepository.findSegmentUserIdsAfter(
+                        event.getMinPurchaseAmount(), event.getMaxPurchaseAmount(), afterId, toId, limit,
+                        byAmountIndex))
+                .keyExtractor(Long::longValue)
+                .processor(Function.identity())
+                .writer(userIds -> issuedCount.addAndGet(issueChunk(event, userIds, issuedAt)))
+                .build();
+
+        JobProgress progress = chunkJobRunner.run(job);
+
+        log.info("쿠폰 일괄 발급 완료: couponId={}, runId={}, 구매액=[{}, {}), 인덱스={}, 대상={}명, 발급={}건, 소요={}ms, 처리량={}/s",
+                couponId, event.getRunId(), event.getMinPurchaseAmount(), event.getMaxPurchaseAmount(),
+                byAmountIndex ? "구매액" : "PK", progress.getReadCount(), issuedCount.get(), progress.getElapsedMillis(),
+                String.format("%.1f", progress.getItemsPerSecond()));
+    }
+
+    /**
+     * 구매액 인덱스 사용 여부
+     * 구매액 인덱스는 청크마다 구간 전체를 읽으므로 (대상 수² / 청크 크기), PK 스캔 (ID 범위) 보다 적을 때만 사용
+     */
+    private static boolean isSparse(long targetCount, long idSpan) {
+        return (double) targetCount * targetCount < (double) idSpan * CHUNK_SIZE;
+    }
+
+    /**
+     * 청크 하나 발급: 읽은 사용자 ID 에 대해 INSERT ... SELECT
+     *
+     * @return 새로 발급된 수
+     */
+    private int issueChunk(CouponSegmentIssueRequestedEvent event, List<Long> userIds, LocalDateTime issuedAt) {
+        int issued = couponSegmentJdbcRepository.issueForUsers(event.getCouponId(),
+                event.getMinPurchaseAmount(), event.getMaxPurchaseAmount(),
+                userIds, issuedAt, event.getExpiresAt());
+
+        log.debug("쿠폰 일괄 발급 청크: couponId={}, range=[{}, {}], 발급={}건", event.getCouponId(),
+                userIds.get(0), userIds.get(userIds.size() - 1), issued);
+        return issued;
+    }
+}
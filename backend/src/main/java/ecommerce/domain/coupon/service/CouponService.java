@@ -1,66 +1,173 @@
 package ecommerce.domain.coupon.service;
 
+import ecommerce.domain.coupon.dto.CouponBulkRequest;
+import ecommerce.domain.coupon.dto.CouponBulkResponse;
 import ecommerce.domain.coupon.dto.CouponRequest;
 import ecommerce.domain.coupon.dto.CouponResponse;
+import ecommerce.domain.coupon.dto.CouponSegmentIssueRequest;
+import ecommerce.domain.coupon.dto.CouponSegmentIssueResponse;
 import ecommerce.domain.coupon.entity.Coupon;
+import ecommerce.domain.coupon.enums.CouponType;
+import ecommerce.domain.coupon.event.CouponSegmentIssueRequestedEvent;
+import ecommerce.domain.coupon.repository.CouponJdbcRepository;
 import ecommerce.domain.coupon.repository.CouponRepository;
+import ecommerce.domain.coupon.repository.CouponSegmentJdbcRepository;
+import ecommerce.common.exception.BadRequestException;
 import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.infrastructure.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final CouponCodeGenerator couponCodeGenerator;
+    private final CouponDropService couponDropService;
+    private final ActiveCouponCache activeCouponCache;
+    private final CouponCacheInvalidator couponCacheInvalidator;
+    private final CouponSegmentJdbcRepository couponSegmentJdbcRepository;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     public CouponResponse createCoupon(CouponRequest request) {
+        validateQuantity(request);
+
         Coupon coupon = Coupon.builder()
                 .name(request.getName())
-                .code(generateUniqueCouponCode())
+                .code(couponCodeGenerator.generate())
                 .type(request.getType())
                 .discountType(request.getDiscountType())
                 .discountValue(request.getDiscountValue())
                 .minOrderAmount(request.getMinOrderAmount())
+                .totalQuantity(request.getType() == CouponType.LIMITED ? request.getTotalQuantity() : null)
                 .validFrom(request.getValidFrom())
                 .validUntil(request.getValidUntil())
                 .build();
 
         coupon = couponRepository.save(coupon);
+        couponCacheInvalidator.invalidateActive();
+
+        // 선착순 쿠폰은 커밋 후 Redis 에 수량/기간 개시
+        if (coupon.getType() == CouponType.LIMITED) {
+            Long couponId = coupon.getId();
+            afterCommit(() -> couponDropService.open(couponId, 0));
+        }
         return CouponResponse.from(coupon);
     }
 
+    /**
+     * 쿠폰 대량 발행: 코드 생성은 DB 조회 없이, INSERT 는 배치로
+     */
+    @Transactional
+    public CouponBulkResponse createCoupons(CouponBulkRequest request) {
+        CouponRequest template = request.getCoupon();
+        if (template.getType() == CouponType.LIMITED) {
+            throw new BadRequestException("선착순 쿠폰은 대량 발행할 수 없습니다");
+        }
+
+        List<String> codes = couponCodeGenerator.generate(request.getCount());
+        couponJdbcRepository.batchInsert(template, codes, LocalDateTime.now());
+
+        log.info("쿠폰 대량 발행: name={}, 수량={}", template.getName(), codes.size());
+
+        return CouponBulkResponse.builder()
+                .count(codes.size())
+                .codes(codes)
+                .build();
+    }
+
+    /**
+     * 구매액 구간 대상 일괄 발급 요청
+     * 발급은 커밋 후 아웃박스 이벤트로 청크 작업에서 수행 (요청 트랜잭션에서는 대상 수만 확인)
+     */
+    @Transactional
+    public CouponSegmentIssueResponse requestSegmentIssue(Long couponId, CouponSegmentIssueRequest request) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new ResourceNotFoundException("Coupon not found"));
+        if (coupon.getType() == CouponType.LIMITED) {
+            throw new BadRequestException("선착순 쿠폰은 일괄 발급할 수 없습니다");
+        }
+        if (request.getMaxPurchaseAmount() != null
+                && request.getMaxPurchaseAmount().compareTo(request.getMinPurchaseAmount()) <= 0) {
+            throw new BadRequestException("최대 누적 구매액은 최소 누적 구매액보다 커야 합니다");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = request.getExpiresAt() != null ? request.getExpiresAt() : coupon.getValidUntil();
+        if (!expiresAt.isAfter(now)) {
+            throw new BadRequestException("만료일이 지난 쿠폰은 발급할 수 없습니다");
+        }
+
+        long targetCount = couponSegmentJdbcRepository.countSegment(
+                request.getMinPurchaseAmount(), request.getMaxPurchaseAmount());
+        String runId = couponId + "-" + now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+        outboxPublisher.publish(couponId, new CouponSegmentIssueRequestedEvent(
+                runId, couponId, request.getMinPurchaseAmount(), request.getMaxPurchaseAmount(), expiresAt));
+
+        log.info("쿠폰 일괄 발급 요청: couponId={}, runId={}, 구매액=[{}, {}), 대상={}명",
+                couponId, runId, request.getMinPurchaseAmount(), request.getMaxPurchaseAmount(), targetCount);
+
+        return CouponSegmentIssueResponse.builder()
+                .runId(runId)
+                .couponId(couponId)
+                .targetCount(targetCount)
+                .build();
+    }
+
     public Page<CouponResponse> getAllCoupons(Pageable pageable) {
         return couponRepository.findAll(pageable)
                 .map(CouponResponse::from);
     }
 
+    /**
+     * 유효 쿠폰 목록 (로컬 캐시에서 정렬/페이징)
+     */
     public Page<CouponResponse> getActiveCoupons(Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        return couponRepository.findByValidFromLessThanEqualAndValidUntilGreaterThanEqual(
-                now, now, pageable
-        ).map(CouponResponse::from);
+        return activeCouponCache.getPage(pageable);
     }
 
     @Transactional
     public CouponResponse updateCoupon(Long couponId, CouponRequest request) {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon not found"));
+        validateQuantity(request);
+
+        boolean wasLimited = coupon.getType() == CouponType.LIMITED;
+        int previousQuantity = coupon.getTotalQuantity() != null ? coupon.getTotalQuantity() : 0;
 
         coupon.setName(request.getName());
         coupon.setType(request.getType());
         coupon.setDiscountType(request.getDiscountType());
         coupon.setDiscountValue(request.getDiscountValue());
         coupon.setMinOrderAmount(request.getMinOrderAmount());
+        coupon.setTotalQuantity(request.getType() == CouponType.LIMITED ? request.getTotalQuantity() : null);
         coupon.setValidFrom(request.getValidFrom());
         coupon.setValidUntil(request.getValidUntil());
+        couponCacheInvalidator.invalidate(couponId);
+
+        // 선착순 쿠폰은 커밋 후 기간 + 발급 수량 변경분을 Redis 에 반영
+        if (coupon.getType() == CouponType.LIMITED) {
+            int quantityDelta = wasLimited ? request.getTotalQuantity() - previousQuantity : 0;
+            afterCommit(() -> couponDropService.open(couponId, quantityDelta));
+        } else if (wasLimited) {
+            afterCommit(() -> couponDropService.close(couponId));
+        }
 
         return CouponResponse.from(coupon);
     }
@@ -70,13 +177,33 @@ public class CouponService {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon not found"));
         couponRepository.delete(coupon);
+        couponCacheInvalidator.invalidate(couponId);
+
+        if (coupon.getType() == CouponType.LIMITED) {
+            afterCommit(() -> couponDropService.close(couponId));
+        }
+    }
+
+    /**
+     * 선착순 쿠폰 발급 수량 확인
+     */
+    private void validateQuantity(CouponRequest request) {
+        if (request.getType() == CouponType.LIMITED && request.getTotalQuantity() == null) {
+            throw new BadRequestException("선착순 쿠폰은 발급 수량이 필요합니다");
+        }
     }
 
-    private String generateUniqueCouponCode() {
-        String code;
-        do {
-            code = "COUPON-" + System.currentTimeMillis() + "-" + (int)(Math.random() * 10000);
-        } while (couponRepository.findByCode(code).isPresent());
-        return code;
+    private void afterCommit(Runnable task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // 발급 요청 시 미개시 상태면 DB 기준으로 다시 개시됨
+                    log.error("선착순 쿠폰 Redis 반영 실패", e);
+                }
+            }
+        });
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import ecommerce.domain.coupon.entity.UserCoupon;
 import ecommerce.domain.coupon.repository.CouponRepository;
 import ecommerce.domain.coupon.repository.UserCouponRepository;
 import ecommerce.domain.user.entity.User;
-import ecommerce.domain.user.repository.UserRepository;
 import ecommerce.common.exception.BadRequestException;
 import ecommerce.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,35 +23,25 @@ public class UserCouponService {
 
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
-    private final UserRepository userRepository;
 
-    public Page<UserCouponResponse> getMyCoupons(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        return userCouponRepository.findByUserId(user.getId(), pageable)
+    public Page<UserCouponResponse> getMyCoupons(Long userId, Pageable pageable) {
+        return userCouponRepository.findByUserId(userId, pageable)
                 .map(UserCouponResponse::from);
     }
 
-    public Page<UserCouponResponse> getMyAvailableCoupons(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
+    public Page<UserCouponResponse> getMyAvailableCoupons(Long userId, Pageable pageable) {
         LocalDateTime now = LocalDateTime.now();
-        return userCouponRepository.findAvailableCouponsByUserId(user.getId(), now, pageable)
+        return userCouponRepository.findAvailableCouponsByUserId(userId, now, pageable)
                 .map(UserCouponResponse::from);
     }
 
     @Transactional
-    public UserCouponResponse useCoupon(String email, Long userCouponId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
+    public UserCouponResponse useCoupon(Long userId, Long userCouponId) {
         UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new ResourceNotFoundException("User coupon not found"));
 
         // 본인 쿠폰인지 확인
-        if (!userCoupon.getUser().getId().equals(user.getId())) {
+        if (!userCoupon.getUser().getId().equals(userId)) {
             throw new BadRequestException("This coupon does not belong to you");
         }
 
@@ -75,8 +64,8 @@ public class UserCouponService {
 
     @Transactional
     public UserCouponResponse issueCouponToUser(User user, Coupon coupon, LocalDateTime expiresAt) {
-        // 중복 발급 체크
-        boolean exists = userCouponRepository.existsByUserIdAndCouponIdAndIsUsedFalse(
+        // 중복 발급 체크 (사용자당 쿠폰 1장, 사용한 쿠폰도 다시 발급하지 않음)
+        boolean exists = userCouponRepository.existsByUserIdAndCouponId(
                 user.getId(), coupon.getId());
         if (exists) {
             throw new BadRequestException("Coupon already issued to this user");
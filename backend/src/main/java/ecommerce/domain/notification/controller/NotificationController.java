@@ -1,8 +1,13 @@
 package ecommerce.domain.notification.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
+import ecommerce.domain.notification.dto.BroadcastNotificationRequest;
+import ecommerce.domain.notification.dto.NotificationBulkResponse;
 import ecommerce.domain.notification.dto.NotificationRequest;
 import ecommerce.domain.notification.dto.NotificationResponse;
+import ecommerce.domain.notification.service.BroadcastNotificationService;
 import ecommerce.domain.notification.service.NotificationService;
+import ecommerce.domain.notification.stream.NotificationStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,10 +17,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -24,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+    private final BroadcastNotificationService broadcastNotificationService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -33,32 +44,59 @@ public class NotificationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/broadcasts")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "공지 알림 생성",
+            description = "전체 사용자 또는 특정 역할 사용자에게 공지를 보냅니다. 수신자 수와 관계없이 한 건만 저장됩니다")
+    public ResponseEntity<NotificationResponse> createBroadcast(@Valid @RequestBody BroadcastNotificationRequest request) {
+        NotificationResponse response = broadcastNotificationService.createBroadcast(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "내 알림 목록 조회", description = "내 알림 목록을 조회합니다")
     public ResponseEntity<Page<NotificationResponse>> getMyNotifications(
             @RequestParam(required = false, defaultValue = "false") Boolean unreadOnly,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
 
-        String email = authentication.getName();
         Page<NotificationResponse> notifications;
 
         if (unreadOnly) {
-            notifications = notificationService.getMyUnreadNotifications(email, pageable);
+            notifications = notificationService.getMyUnreadNotifications(principal.getUserId(), pageable);
         } else {
-            notifications = notificationService.getMyNotifications(email, pageable);
+            notifications = notificationService.getMyNotifications(principal.getUserId(), pageable);
         }
 
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/broadcasts/unread")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "읽지 않은 공지 조회",
+            description = "읽지 않은 공지를 최신순으로 최대 20건 조회합니다. 내 알림 목록 페이지에는 포함되지 않습니다")
+    public ResponseEntity<List<NotificationResponse>> getUnreadBroadcasts(
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(notificationService.getUnreadBroadcasts(principal.getUserId()));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "알림 스트림 (SSE)",
+            description = "새 알림(notification)과 읽지 않은 개수 변경(unread-count)을 실시간으로 받습니다. "
+                    + "재접속 시 Last-Event-ID 이후 알림을 다시 보내며, resync 이벤트를 받으면 목록을 다시 조회해야 합니다.")
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return notificationStreamService.connect(principal.getUserId(), lastEventId);
+    }
+
     @GetMapping("/unread-count")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "읽지 않은 알림 개수", description = "읽지 않은 알림 개수를 조회합니다")
-    public ResponseEntity<Long> getUnreadCount(Authentication authentication) {
-        String email = authentication.getName();
-        long count = notificationService.getUnreadCount(email);
+    public ResponseEntity<Long> getUnreadCount(@AuthenticationPrincipal JwtPrincipal principal) {
+        long count = notificationService.getUnreadCount(principal.getUserId());
         return ResponseEntity.ok(count);
     }
 
@@ -67,29 +105,50 @@ public class NotificationController {
     @Operation(summary = "알림 읽음 처리", description = "알림을 읽음 상태로 변경합니다")
     public ResponseEntity<NotificationResponse> markAsRead(
             @PathVariable Long id,
-            Authentication authentication) {
-        String email = authentication.getName();
-        NotificationResponse response = notificationService.markAsRead(email, id);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        NotificationResponse response = notificationService.markAsRead(principal.getUserId(), id);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/read-all")
     @PreAuthorize("hasRole('USER')")
-    @Operation(summary = "모든 알림 읽음 처리", description = "내 모든 알림을 읽음 상태로 변경합니다")
-    public ResponseEntity<Void> markAllAsRead(Authentication authentication) {
-        String email = authentication.getName();
-        notificationService.markAllAsRead(email);
+    @Operation(summary = "모든 알림 읽음 처리",
+            description = "내 알림을 읽음 상태로 변경합니다. upToId 를 지정하면 해당 ID 까지만 변경합니다")
+    public ResponseEntity<NotificationBulkResponse> markAllAsRead(
+            @RequestParam(required = false) Long upToId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        NotificationBulkResponse response = notificationService.markAllAsRead(principal.getUserId(), upToId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/broadcasts/{id}/read")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "공지 알림 읽음 처리", description = "해당 공지와 그 이전 공지를 읽음 상태로 변경합니다")
+    public ResponseEntity<Void> markBroadcastAsRead(
+            @PathVariable Long id,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        notificationService.markBroadcastAsRead(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping("/read")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "읽은 알림 일괄 삭제",
+            description = "읽은 알림을 모두 삭제합니다. upToId 를 지정하면 해당 ID 까지만 삭제합니다")
+    public ResponseEntity<NotificationBulkResponse> deleteReadNotifications(
+            @RequestParam(required = false) Long upToId,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        NotificationBulkResponse response = notificationService.deleteReadNotifications(principal.getUserId(), upToId);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "알림 삭제", description = "알림을 삭제합니다")
     public ResponseEntity<Void> deleteNotification(
             @PathVariable Long id,
-            Authentication authentication) {
-        String email = authentication.getName();
-        notificationService.deleteNotification(email, id);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        notificationService.deleteNotification(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
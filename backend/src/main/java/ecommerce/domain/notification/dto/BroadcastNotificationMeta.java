@@ -0,0 +1,24 @@
+package ecommerce.domain.notification.dto;
+
+import ecommerce.common.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 공지 알림 메타데이터 (읽지 않은 개수 계산용, 본문 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastNotificationMeta {
+
+    private Long id;
+    private Role targetRole;
+    private LocalDateTime createdAt;
+
+    public boolean isVisibleTo(Set<Role> roles) {
+        return targetRole == null || roles.contains(targetRole);
+    }
+}
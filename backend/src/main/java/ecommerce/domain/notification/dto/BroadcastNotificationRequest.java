@@ -0,0 +1,34 @@
+package ecommerce.domain.notification.dto;
+
+import ecommerce.common.enums.Role;
+import ecommerce.domain.notification.enums.NotificationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "공지 알림 생성 요청")
+public class BroadcastNotificationRequest {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Schema(description = "알림 제목", example = "서비스 점검 안내")
+    private String title;
+
+    @NotBlank(message = "내용은 필수입니다")
+    @Schema(description = "알림 내용", example = "10월 20일 02:00 ~ 04:00 서비스 점검이 진행됩니다.")
+    private String content;
+
+    @NotNull(message = "알림 타입은 필수입니다")
+    @Schema(description = "알림 타입", example = "ANNOUNCEMENT")
+    private NotificationType type;
+
+    @Schema(description = "대상 역할 (없으면 전체 사용자)", example = "ROLE_SELLER")
+    private Role targetRole;
+}
@@ -0,0 +1,19 @@
+package ecommerce.domain.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림 일괄 처리 응답")
+public class NotificationBulkResponse {
+
+    @Schema(description = "변경(삭제)된 알림 수", example = "120")
+    private int affected;
+
+    @Schema(description = "처리 기준 알림 ID (이 ID 이하만 처리됨)", example = "5821")
+    private long upToId;
+}
@@ -1,5 +1,6 @@
 package ecommerce.domain.notification.dto;
 
+import ecommerce.domain.notification.entity.BroadcastNotification;
 import ecommerce.domain.notification.entity.Notification;
 import ecommerce.domain.notification.enums.NotificationType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -38,6 +39,10 @@ public class NotificationResponse {
     @Schema(description = "생성 시간")
     private LocalDateTime createdAt;
 
+    @Schema(description = "공지 알림 여부 (true 면 id 는 공지 ID)", example = "false")
+    @Builder.Default
+    private Boolean broadcast = false;
+
     public static NotificationResponse from(Notification notification) {
         return NotificationResponse.builder()
                 .id(notification.getId())
@@ -49,4 +54,20 @@ public class NotificationResponse {
                 .createdAt(notification.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 공지 알림 (읽음 여부는 사용자 커서 기준)
+     */
+    public static NotificationResponse from(BroadcastNotification broadcast, Long userId, boolean isRead) {
+        return NotificationResponse.builder()
+                .id(broadcast.getId())
+                .userId(userId)
+                .title(broadcast.getTitle())
+                .content(broadcast.getContent())
+                .type(broadcast.getType())
+                .isRead(isRead)
+                .createdAt(broadcast.getCreatedAt())
+                .broadcast(true)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package ecommerce.domain.notification.entity;
+
+import ecommerce.common.enums.Role;
+import ecommerce.domain.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체/역할 대상 공지 알림 (수신자 수와 관계없이 한 행만 저장)
+ * 사용자별 읽음 여부는 BroadcastReadCursor 의 커서로 판단
+ */
+@Entity
+@Table(name = "broadcast_notifications")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    // 대상 역할 (null 이면 전체 사용자)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_role", length = 20)
+    private Role targetRole;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -10,8 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "notifications", indexes = {
-        @Index(name = "idx_notifications_user_id", columnList = "user_id"),
-        @Index(name = "idx_notifications_is_read", columnList = "is_read")
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at")
 })
 @Getter
 @Setter
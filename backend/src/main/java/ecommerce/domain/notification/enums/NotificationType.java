@@ -3,5 +3,6 @@ package ecommerce.domain.notification.enums;
 public enum NotificationType {
     ORDER,
     RESTOCK,
-    STOCK_ALERT, COUPON
+    STOCK_ALERT, COUPON,
+    ANNOUNCEMENT, PROMOTION
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package ecommerce.domain.notification.repository;
+
+import ecommerce.domain.notification.dto.BroadcastNotificationMeta;
+import ecommerce.domain.notification.entity.BroadcastNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    // 공지 메타데이터 캐시 증분 갱신용 (본문 제외)
+    @Query("SELECT new ecommerce.domain.notification.dto.BroadcastNotificationMeta(b.id, b.targetRole, b.createdAt) " +
+            "FROM BroadcastNotification b WHERE b.id > :id ORDER BY b.id")
+    List<BroadcastNotificationMeta> findMetaAfter(@Param("id") Long id);
+}
@@ -0,0 +1,20 @@
+package ecommerce.domain.notification.repository;
+
+import ecommerce.domain.notification.entity.BroadcastReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BroadcastReadCursorRepository extends JpaRepository<BroadcastReadCursor, Long> {
+
+    // 커서는 앞으로만 이동 (동시 요청이 있어도 더 큰 값 유지)
+    @Modifying
+    @Query(value = "INSERT INTO broadcast_read_cursors (user_id, last_read_id, updated_at) " +
+            "VALUES (:userId, :lastReadId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_read_id = GREATEST(last_read_id, VALUES(last_read_id)), updated_at = NOW()",
+            nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("lastReadId") Long lastReadId);
+}
@@ -0,0 +1,117 @@
+package ecommerce.domain.notification.repository;
+
+import ecommerce.domain.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 대량 처리 전용 JDBC 리포지토리
+ * JPA save() 반복 대신 JDBC 배치로 전송 (rewriteBatchedStatements=true 시 multi-row INSERT)
+ * 읽음/삭제는 엔티티 로딩 없이 (user_id, is_read, created_at) 인덱스 범위를 청크 단위로 갱신
+ * 보관 기간 정리는 PK 키셋으로 본문 없이 조회 후 ID 목록으로 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, type, title, content, is_read, created_at) " +
+                    "VALUES (?, ?, ?, ?, false, ?)";
+
+    private static final String MARK_READ_CHUNK_SQL =
+            "UPDATE notifications SET is_read = true " +
+                    "WHERE user_id = ? AND is_read = false AND id <= ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_READ_CHUNK_SQL =
+            "DELETE FROM notifications " +
+                    "WHERE user_id = ? AND is_read = true AND id <= ? ORDER BY id LIMIT ?";
+
+    private static final String RETENTION_SCAN_SQL =
+            "SELECT id, user_id, type, is_read, created_at FROM notifications " +
+                    "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 일괄 INSERT
+     *
+     * @return 삽입된 행 수
+     */
+    public int batchInsert(List<NotificationRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getUserId());
+            ps.setString(2, row.getType().name());
+            ps.setString(3, row.getTitle());
+            ps.setString(4, row.getContent());
+            ps.setTimestamp(5, now);
+        });
+
+        return rows.size();
+    }
+
+    /**
+     * upToId 이하의 읽지 않은 알림을 최대 limit 건 읽음 처리 (반환값이 limit 보다 작을 때까지 반복 호출)
+     *
+     * @return 변경된 행 수
+     */
+    public int markReadChunk(Long userId, long upToId, int limit) {
+        return jdbcTemplate.update(MARK_READ_CHUNK_SQL, userId, upToId, limit);
+    }
+
+    /**
+     * upToId 이하의 읽은 알림을 최대 limit 건 삭제 (반환값이 limit 보다 작을 때까지 반복 호출)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteReadChunk(Long userId, long upToId, int limit) {
+        return jdbcTemplate.update(DELETE_READ_CHUNK_SQL, userId, upToId, limit);
+    }
+
+    /**
+     * afterId 이후 알림을 ID 순으로 최대 limit 건 조회 (보관 기간 판정용, 본문 제외)
+     */
+    public List<NotificationRetentionRow> findRetentionRowsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(RETENTION_SCAN_SQL, (rs, rowNum) -> new NotificationRetentionRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                NotificationType.valueOf(rs.getString("type")),
+                rs.getBoolean("is_read"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), afterId, limit);
+    }
+
+    /**
+     * ID 목록 중 읽음 상태가 read 인 알림만 삭제 (조회 후 상태가 바뀐 알림은 남김)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteByIdsAndReadState(List<Long> ids, boolean read) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            args[i] = ids.get(i);
+        }
+        args[ids.size()] = read;
+
+        return jdbcTemplate.update(
+                "DELETE FROM notifications WHERE id IN (" + placeholders + ") AND is_read = ?", args);
+    }
+}
@@ -0,0 +1,73 @@
+package ecommerce.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * notifications 월별 파티션 관리 JDBC 리포지토리 (MySQL RANGE COLUMNS(created_at))
+ *
+ * 파티션 이름 규칙: pYYYYMM = 해당 월 데이터 (VALUES LESS THAN 다음 달 1일), pmax = 나머지
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionJdbcRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String PARTITION_NAMES_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications' AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 이름 목록 (파티션되지 않은 테이블이면 빈 목록)
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(PARTITION_NAMES_SQL, String.class);
+    }
+
+    /**
+     * pmax 를 나누어 월별 파티션 추가 (pmax 가 비어 있으면 메타데이터 변경만 발생)
+     */
+    public void addMonthlyPartitions(List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        String partitions = months.stream()
+                .map(month -> "PARTITION " + partitionName(month)
+                        + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+                .collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("ALTER TABLE notifications REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + partitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE notifications DROP PARTITION " + partitionName(month));
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(NAME_FORMAT);
+    }
+
+    /**
+     * pYYYYMM 형식이 아니면 null
+     */
+    public static YearMonth parseMonth(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName, NAME_FORMAT);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
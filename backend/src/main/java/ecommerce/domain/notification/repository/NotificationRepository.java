@@ -20,7 +20,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 읽지 않은 알림 조회 (페이징)
     Page<Notification> findByUserIdAndIsReadFalse(Long userId, Pageable pageable);
 
-    // 읽지 않은 알림 목록 (모두 읽음 처리용)
+    // 읽지 않은 알림 엔티티 전체 (기존 모두 읽음 방식, 벤치마크 비교용)
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
     List<Notification> findUnreadByUserId(@Param("userId") Long userId);
+
+    // 알림 스트림 재전송용 (Last-Event-ID 이후, ID 오름차순)
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    // 알림 스트림 시작 위치 (사용자의 마지막 알림 ID, 없으면 0)
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM Notification n WHERE n.user.id = :userId")
+    long findMaxIdByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
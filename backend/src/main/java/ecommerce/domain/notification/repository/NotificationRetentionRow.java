@@ -0,0 +1,21 @@
+package ecommerce.domain.notification.repository;
+
+import ecommerce.domain.notification.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간 판정용 알림 행 (본문 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationRetentionRow {
+
+    private long id;
+    private long userId;
+    private NotificationType type;
+    private boolean read;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package ecommerce.domain.notification.repository;
+
+import ecommerce.domain.notification.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JDBC 배치 INSERT 용 알림 행 (엔티티/User 로딩 없이 user_id 만으로 생성)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationRow {
+
+    private Long userId;
+    private NotificationType type;
+    private String title;
+    private String content;
+}
@@ -0,0 +1,102 @@
+package ecommerce.domain.notification.retention;
+
+import ecommerce.domain.notification.repository.NotificationPartitionJdbcRepository;
+import ecommerce.domain.notification.service.UnreadNotificationCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * notifications 월별 파티션 유지 (notification.partition.enabled=true 이고 테이블이 파티션된 경우만)
+ *
+ * - 앞으로 months-ahead 개월 파티션을 미리 생성
+ * - 모든 보관 정책 기준으로 만료된 월 파티션은 DROP PARTITION 으로 삭제 (행 단위 DELETE 없음)
+ *   삭제된 읽지 않은 알림의 사용자를 알 수 없으므로 읽지 않은 개수 캐시는 전체 무효화
+ * - 테이블 전환 절차는 docs/notification-partitioning.md 참고
+ */
+@Slf4j
+@Component
+public class NotificationPartitionManager {
+
+    private final NotificationPartitionJdbcRepository partitionRepository;
+    private final NotificationRetentionPolicy retentionPolicy;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    public NotificationPartitionManager(NotificationPartitionJdbcRepository partitionRepository,
+                                        NotificationRetentionPolicy retentionPolicy,
+                                        UnreadNotificationCounter unreadNotificationCounter,
+                                        @Value("${notification.partition.enabled:false}") boolean enabled,
+                                        @Value("${notification.partition.months-ahead:3}") int monthsAhead) {
+        this.partitionRepository = partitionRepository;
+        this.retentionPolicy = retentionPolicy;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+    }
+
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> names = partitionRepository.findPartitionNames();
+        if (!names.contains(NotificationPartitionJdbcRepository.MAX_PARTITION)) {
+            log.warn("notifications 테이블이 월별 파티션 구조가 아님, 파티션 유지 생략: partitions={}", names);
+            return;
+        }
+
+        List<YearMonth> months = names.stream()
+                .map(NotificationPartitionJdbcRepository::parseMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+
+        addUpcoming(months);
+        dropExpired(months);
+    }
+
+    private void addUpcoming(List<YearMonth> months) {
+        YearMonth last = months.isEmpty() ? YearMonth.now().minusMonths(1) : months.get(months.size() - 1);
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+
+        List<YearMonth> toAdd = new ArrayList<>();
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            toAdd.add(month);
+        }
+
+        if (!toAdd.isEmpty()) {
+            partitionRepository.addMonthlyPartitions(toAdd);
+            log.info("알림 파티션 추가: {}", toAdd);
+        }
+    }
+
+    private void dropExpired(List<YearMonth> months) {
+        LocalDateTime oldestCutoff = retentionPolicy.oldestCutoff(LocalDateTime.now());
+        if (oldestCutoff == null) {
+            return;
+        }
+
+        List<YearMonth> dropped = new ArrayList<>();
+        for (YearMonth month : months) {
+            // 파티션의 모든 행이 기준 시각 이전이어야 삭제
+            if (month.plusMonths(1).atDay(1).atStartOfDay().isAfter(oldestCutoff)) {
+                break;
+            }
+            partitionRepository.dropPartition(month);
+            dropped.add(month);
+        }
+
+        if (!dropped.isEmpty()) {
+            unreadNotificationCounter.evictAll();
+            log.info("만료 알림 파티션 삭제: {}, 기준={}", dropped, oldestCutoff);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ecommerce.domain.notification.retention;
+
+import ecommerce.domain.notification.enums.NotificationType;
+import ecommerce.domain.notification.repository.NotificationRetentionRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알림 보관 기간 정책
+ *
+ * - 유형별/읽음 상태별 보관 일수 (notification.retention.types.{유형}.read-days / unread-days)
+ * - 유형별 값이 없으면 기본값(read-days / unread-days) 사용, 0 이하는 무기한 보관
+ */
+@Slf4j
+@Component
+public class NotificationRetentionPolicy {
+
+    private final Map<NotificationType, Integer> readDays = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Integer> unreadDays = new EnumMap<>(NotificationType.class);
+
+    public NotificationRetentionPolicy(Environment environment,
+                                       @Value("${notification.retention.read-days:30}") int defaultReadDays,
+                                       @Value("${notification.retention.unread-days:0}") int defaultUnreadDays) {
+        for (NotificationType type : NotificationType.values()) {
+            String prefix = "notification.retention.types." + type.name();
+            readDays.put(type, environment.getProperty(prefix + ".read-days", Integer.class, defaultReadDays));
+            unreadDays.put(type, environment.getProperty(prefix + ".unread-days", Integer.class, defaultUnreadDays));
+        }
+        log.info("알림 보관 기간(일): 읽음={}, 읽지 않음={}", readDays, unreadDays);
+    }
+
+    /**
+     * 보관 기간이 지났는지 여부
+     */
+    public boolean isExpired(NotificationRetentionRow row, LocalDateTime now) {
+        int days = row.isRead() ? readDays.get(row.getType()) : unreadDays.get(row.getType());
+        return days > 0 && row.getCreatedAt().isBefore(now.minusDays(days));
+    }
+
+    /**
+     * 가장 짧은 보관 기간 기준 시각 (이 시각 이후 생성된 알림은 어떤 정책으로도 만료되지 않음)
+     *
+     * @return 만료 정책이 하나도 없으면 null
+     */
+    public LocalDateTime newestCutoff(LocalDateTime now) {
+        int minDays = Integer.MAX_VALUE;
+        for (NotificationType type : NotificationType.values()) {
+            minDays = minPositive(minDays, readDays.get(type));
+            minDays = minPositive(minDays, unreadDays.get(type));
+        }
+        return minDays == Integer.MAX_VALUE ? null : now.minusDays(minDays);
+    }
+
+    /**
+     * 모든 알림이 만료되는 기준 시각 (이 시각 이전 구간은 통째로 삭제 가능)
+     *
+     * @return 무기한 보관 정책이 하나라도 있으면 null
+     */
+    public LocalDateTime oldestCutoff(LocalDateTime now) {
+        int maxDays = 0;
+        for (NotificationType type : NotificationType.values()) {
+            int read = readDays.get(type);
+            int unread = unreadDays.get(type);
+            if (read <= 0 || unread <= 0) {
+                return null;
+            }
+            maxDays = Math.max(maxDays, Math.max(read, unread));
+        }
+        return now.minusDays(maxDays);
+    }
+
+    private int minPositive(int current, int days) {
+        return days > 0 ? Math.min(current, days) : current;
+    }
+}
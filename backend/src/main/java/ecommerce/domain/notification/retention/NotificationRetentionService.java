@@ -0,0 +1,142 @@
+package ecommerce.domain.notification.retention;
+
+import ecommerce.domain.notification.repository.NotificationJdbcRepository;
+import ecommerce.domain.notification.repository.NotificationRetentionRow;
+import ecommerce.domain.notification.service.UnreadNotificationCounter;
+import ecommerce.infrastructure.job.JobLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관 기간이 지난 알림 정리
+ *
+ * - PK 키셋으로 본문 없이 batch-size 건씩 조회 → 정책으로 판정 → ID 목록 삭제 (배치마다 커밋)
+ * - 삭제가 있었던 배치 뒤에는 batch-delay-ms 만큼 쉬어 잠금/복제 부하를 분산
+ * - ID 와 생성 시각이 함께 증가하므로 가장 짧은 보관 기간 기준 시각을 넘으면 종료
+ * - 읽지 않은 알림을 삭제하면 커밋 후 사용자별 읽지 않은 개수를 감소
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationRetentionPolicy retentionPolicy;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchDelayMs;
+
+    public NotificationRetentionService(NotificationJdbcRepository notificationJdbcRepository,
+                                        NotificationRetentionPolicy retentionPolicy,
+                                        UnreadNotificationCounter unreadNotificationCounter,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.retention.batch-size:500}") int batchSize,
+                                        @Value("${notification.retention.batch-delay-ms:200}") long batchDelayMs) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.retentionPolicy = retentionPolicy;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchDelayMs = batchDelayMs;
+    }
+
+    /**
+     * 만료 알림 삭제 (임대를 잃거나 인터럽트되면 중단, 다음 실행에서 처음부터 다시 판정)
+     *
+     * @return 삭제된 알림 수
+     */
+    public long purgeExpired(JobLease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime newestCutoff = retentionPolicy.newestCutoff(now);
+        if (newestCutoff == null) {
+            log.info("알림 보관 정책 없음 (모두 무기한), 정리 생략");
+            return 0;
+        }
+
+        long afterId = 0;
+        long scanned = 0;
+        long deleted = 0;
+
+        while (!lease.isLost()) {
+            List<NotificationRetentionRow> rows = notificationJdbcRepository.findRetentionRowsAfter(afterId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            scanned += rows.size();
+
+            List<NotificationRetentionRow> expired = new ArrayList<>();
+            for (NotificationRetentionRow row : rows) {
+                if (retentionPolicy.isExpired(row, now)) {
+                    expired.add(row);
+                }
+            }
+
+            if (!expired.isEmpty()) {
+                deleted += transactionTemplate.execute(status -> delete(expired));
+                if (!pause()) {
+                    break;
+                }
+            }
+
+            NotificationRetentionRow last = rows.get(rows.size() - 1);
+            afterId = last.getId();
+            if (rows.size() < batchSize || !last.getCreatedAt().isBefore(newestCutoff)) {
+                break;
+            }
+        }
+
+        log.info("알림 보관 기간 정리 완료: 조회={}건, 삭제={}건, 마지막 ID={}, 임대 유실={}",
+                scanned, deleted, afterId, lease.isLost());
+        return deleted;
+    }
+
+    private int delete(List<NotificationRetentionRow> expired) {
+        List<Long> readIds = new ArrayList<>();
+        List<Long> unreadIds = new ArrayList<>();
+        Map<Long, Long> unreadByUser = new LinkedHashMap<>();
+
+        for (NotificationRetentionRow row : expired) {
+            if (row.isRead()) {
+                readIds.add(row.getId());
+            } else {
+                unreadIds.add(row.getId());
+                unreadByUser.merge(row.getUserId(), -1L, Long::sum);
+            }
+        }
+
+        int deletedRead = notificationJdbcRepository.deleteByIdsAndReadState(readIds, true);
+        int deletedUnread = notificationJdbcRepository.deleteByIdsAndReadState(unreadIds, false);
+
+        if (deletedUnread == unreadIds.size()) {
+            unreadNotificationCounter.adjustAll(unreadByUser);
+        } else {
+            // 조회 후 읽음 처리된 알림이 있어 사용자별 건수를 알 수 없음 → 다음 조회 때 다시 계산
+            unreadByUser.keySet().forEach(unreadNotificationCounter::evict);
+        }
+        return deletedRead + deletedUnread;
+    }
+
+    private boolean pause() {
+        if (batchDelayMs <= 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(batchDelayMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 보관 기간 정리 중단 (인터럽트)");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ecommerce.domain.notification.service;
+
+import ecommerce.domain.notification.dto.BroadcastNotificationMeta;
+import ecommerce.domain.notification.repository.BroadcastNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공지 알림 메타데이터 로컬 캐시 (ID 오름차순, 본문 제외)
+ *
+ * - 공지는 추가만 되므로 마지막 ID 이후만 증분 조회
+ * - 공지 발행 메시지를 받으면 즉시, 그 외에는 주기적으로 갱신 (메시지 유실 대비)
+ * - 공지 수는 적으므로 읽지 않은 개수는 DB 조회 없이 메모리에서 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BroadcastNotificationCache {
+
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile List<BroadcastNotificationMeta> snapshot;
+
+    /**
+     * 전체 공지 메타데이터 (ID 오름차순, 변경 불가)
+     */
+    public List<BroadcastNotificationMeta> getAll() {
+        List<BroadcastNotificationMeta> current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current != null ? current : List.of();
+    }
+
+    /**
+     * 마지막 공지 ID (없으면 0)
+     */
+    public long getMaxId() {
+        List<BroadcastNotificationMeta> all = getAll();
+        return all.isEmpty() ? 0L : all.get(all.size() - 1).getId();
+    }
+
+    /**
+     * 주어진 시각 이전에 생성된 마지막 공지 ID (가입 전 공지를 읽음으로 보기 위한 초기 커서)
+     */
+    public long getMaxIdBefore(LocalDateTime time) {
+        List<BroadcastNotificationMeta> all = getAll();
+        for (int i = all.size() - 1; i >= 0; i--) {
+            if (time == null || all.get(i).getCreatedAt().isBefore(time)) {
+                return all.get(i).getId();
+            }
+        }
+        return 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.broadcast.refresh-interval-ms:30000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<BroadcastNotificationMeta> current = snapshot != null ? snapshot : List.of();
+            long lastId = current.isEmpty() ? 0L : current.get(current.size() - 1).getId();
+
+            List<BroadcastNotificationMeta> added = broadcastNotificationRepository.findMetaAfter(lastId);
+            if (added.isEmpty() && snapshot != null) {
+                return;
+            }
+
+            List<BroadcastNotificationMeta> updated = new ArrayList<>(current.size() + added.size());
+            updated.addAll(current);
+            updated.addAll(added);
+            snapshot = List.copyOf(updated);
+
+            log.debug("공지 알림 캐시 갱신: 추가={}건, 전체={}건", added.size(), updated.size());
+        } catch (Exception e) {
+            log.error("공지 알림 캐시 갱신 실패", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package ecommerce.domain.notification.service;
+
+import ecommerce.common.enums.Role;
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.notification.dto.BroadcastNotificationMeta;
+import ecommerce.domain.notification.dto.BroadcastNotificationRequest;
+import ecommerce.domain.notification.dto.NotificationResponse;
+import ecommerce.domain.notification.entity.BroadcastNotification;
+import ecommerce.domain.notification.entity.BroadcastReadCursor;
+import ecommerce.domain.notification.repository.BroadcastNotificationRepository;
+import ecommerce.domain.notification.repository.BroadcastReadCursorRepository;
+import ecommerce.domain.notification.stream.NotificationStreamPublisher;
+import ecommerce.domain.user.dto.CachedUser;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공지 알림 서비스 (fan-out-on-read)
+ *
+ * - 공지는 한 행만 저장하고, 사용자별로는 읽음 커서(마지막으로 읽은 공지 ID) 하나만 관리
+ * - 커서보다 큰 ID 의 공지 중 대상 역할이 맞는 것이 읽지 않은 공지
+ * - 커서가 없는 사용자는 가입 전 공지를 읽은 것으로 봄
+ * - 커서는 Redis Hash 에 캐시 (앞으로만 이동하므로 더 큰 값으로만 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BroadcastNotificationService {
+
+    private static final String CURSOR_KEY = "notification:broadcast:cursor";
+
+    // 반환값: 갱신 후 커서
+    private static final RedisScript<Long> ADVANCE_SCRIPT = RedisScript.of("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '-1')
+            local value = tonumber(ARGV[2])
+            if value > current then
+                redis.call('HSET', KEYS[1], ARGV[1], value)
+                return value
+            end
+            return current
+            """, Long.class);
+
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastReadCursorRepository broadcastReadCursorRepository;
+    private final BroadcastNotificationCache broadcastNotificationCache;
+    private final NotificationStreamPublisher notificationStreamPublisher;
+    private final RedisService redisService;
+
+    /**
+     * 공지 생성 (수신자 수와 관계없이 INSERT 한 번)
+     */
+    @Transactional
+    public NotificationResponse createBroadcast(BroadcastNotificationRequest request) {
+        BroadcastNotification broadcast = broadcastNotificationRepository.save(BroadcastNotification.builder()
+                .type(request.getType())
+                .title(request.getTitle())
+                .content(request.getContent())
+                .targetRole(request.getTargetRole())
+                .build());
+
+        NotificationResponse response = NotificationResponse.from(broadcast, null, false);
+        notificationStreamPublisher.publishBroadcast(response, broadcast.getTargetRole());
+
+        log.info("공지 알림 생성: id={}, type={}, 대상={}", broadcast.getId(), broadcast.getType(),
+                broadcast.getTargetRole() != null ? broadcast.getTargetRole() : "전체");
+        return response;
+    }
+
+    /**
+     * 읽지 않은 공지 개수 (메모리 캐시 + 커서만 사용)
+     */
+    public long countUnread(Long userId, Set<Role> roles, LocalDateTime joinedAt) {
+        long cursor = getCursor(userId, joinedAt);
+        return broadcastNotificationCache.getAll().stream()
+                .filter(meta -> meta.getId() > cursor && meta.isVisibleTo(roles))
+                .count();
+    }
+
+    /**
+     * 읽지 않은 공지 (최신순, 최대 limit 건)
+     */
+    public List<NotificationResponse> findUnread(CachedUser user, int limit) {
+        long cursor = getCursor(user.getId(), user.getCreatedAt());
+        List<BroadcastNotificationMeta> all = broadcastNotificationCache.getAll();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = all.size() - 1; i >= 0 && ids.size() < limit; i--) {
+            BroadcastNotificationMeta meta = all.get(i);
+            if (meta.getId() <= cursor) {
+                break;
+            }
+            if (meta.isVisibleTo(user.getRoles())) {
+                ids.add(meta.getId());
+            }
+        }
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BroadcastNotification> byId = broadcastNotificationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BroadcastNotification::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(broadcast -> NotificationResponse.from(broadcast, user.getId(), false))
+                .sorted(Comparator.comparing(NotificationResponse::getCreatedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 공지 읽음 처리 (커서를 해당 공지까지 이동하므로 그 이전 공지도 함께 읽음)
+     */
+    @Transactional
+    public void markAsRead(CachedUser user, Long broadcastId) {
+        BroadcastNotification broadcast = broadcastNotificationRepository.findById(broadcastId)
+                .orElseThrow(() -> new ResourceNotFoundException("Broadcast notification not found"));
+
+        if (broadcast.getTargetRole() != null && !user.getRoles().contains(broadcast.getTargetRole())) {
+            throw new BadRequestException("This notification is not for you");
+        }
+
+        advance(user.getId(), broadcastId);
+    }
+
+    /**
+     * 모든 공지 읽음 처리
+     *
+     * @return 커서가 이동했으면 true
+     */
+    @Transactional
+    public boolean markAllAsRead(CachedUser user) {
+        long maxId = broadcastNotificationCache.getMaxId();
+        if (maxId <= getCursor(user.getId(), user.getCreatedAt())) {
+            return false;
+        }
+
+        advance(user.getId(), maxId);
+        return true;
+    }
+
+    private void advance(Long userId, long broadcastId) {
+        broadcastReadCursorRepository.advance(userId, broadcastId);
+        notificationStreamPublisher.publishUnreadCountChanged(userId);
+
+        Runnable updateCache = () -> advanceCachedCursor(userId, broadcastId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateCache.run();
+                }
+            });
+        } else {
+            updateCache.run();
+        }
+    }
+
+    /**
+     * 사용자 커서 (Redis → DB → 가입 시각 기준 초기값 순)
+     */
+    private long getCursor(Long userId, LocalDateTime joinedAt) {
+        String cached = redisService.getHashValue(CURSOR_KEY, String.valueOf(userId));
+        if (cached != null) {
+            try {
+                return Long.parseLong(cached);
+            } catch (NumberFormatException e) {
+                log.warn("공지 읽음 커서 캐시 형식 오류, 다시 조회: userId={}, value={}", userId, cached);
+                redisService.deleteHashField(CURSOR_KEY, String.valueOf(userId));
+            }
+        }
+
+        long cursor = broadcastReadCursorRepository.findById(userId)
+                .map(BroadcastReadCursor::getLastReadId)
+                .orElseGet(() -> broadcastNotificationCache.getMaxIdBefore(joinedAt));
+        return advanceCachedCursor(userId, cursor);
+    }
+
+    private long advanceCachedCursor(Long userId, long cursor) {
+        try {
+            Long result = redisService.executeScript(ADVANCE_SCRIPT, List.of(CURSOR_KEY),
+                    String.valueOf(userId), String.valueOf(cursor));
+            return result != null ? result : cursor;
+        } catch (Exception e) {
+            log.error("공지 읽음 커서 캐시 갱신 실패: userId={}", userId, e);
+            return cursor;
+        }
+    }
+}
@@ -1,26 +1,68 @@
 package ecommerce.domain.notification.service;
 
+import ecommerce.domain.notification.dto.NotificationBulkResponse;
 import ecommerce.domain.notification.dto.NotificationRequest;
 import ecommerce.domain.notification.dto.NotificationResponse;
 import ecommerce.domain.notification.entity.Notification;
+import ecommerce.domain.notification.repository.NotificationJdbcRepository;
 import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.domain.notification.repository.NotificationRow;
+import ecommerce.domain.notification.stream.NotificationStreamPublisher;
+import ecommerce.domain.user.dto.CachedUser;
 import ecommerce.domain.user.entity.User;
 import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.domain.user.service.UserCache;
 import ecommerce.common.exception.ResourceNotFoundException;
 import ecommerce.common.exception.BadRequestException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    // 청크당 잠그는 행 수 (대량 읽음/삭제 시 한 트랜잭션이 오래 잠그지 않도록 나눠서 커밋)
+    private static final int BULK_CHUNK_SIZE = 5000;
+    // 첫 페이지에 합쳐 보여줄 읽지 않은 공지 최대 건수
+    private static final int BROADCAST_INBOX_LIMIT = 20;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final NotificationStreamPublisher notificationStreamPublisher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationJdbcRepository notificationJdbcRepository,
+                               UserRepository userRepository,
+                               UserCache userCache,
+                               NotificationStreamPublisher notificationStreamPublisher,
+                               UnreadNotificationCounter unreadNotificationCounter,
+                               BroadcastNotificationService broadcastNotificationService,
+                               PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.notificationStreamPublisher = notificationStreamPublisher;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.broadcastNotificationService = broadcastNotificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional
     public NotificationResponse createNotification(NotificationRequest request) {
@@ -36,72 +78,160 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
-        return NotificationResponse.from(notification);
+
+        unreadNotificationCounter.adjust(user.getId(), 1);
+
+        NotificationResponse response = NotificationResponse.from(notification);
+        notificationStreamPublisher.publishCreated(response);
+        return response;
     }
 
-    public Page<NotificationResponse> getMyNotifications(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    /**
+     * 알림 일괄 생성 (JDBC 배치, 호출 측 트랜잭션에 참여)
+     * 커밋 후 수신자별 읽지 않은 개수를 반영하고 수신자 목록을 알림 스트림으로 발행
+     *
+     * @return 생성된 알림 수
+     */
+    @Transactional
+    public int createBulk(List<NotificationRow> rows) {
+        int inserted = notificationJdbcRepository.batchInsert(rows);
+        if (inserted == 0) {
+            return 0;
+        }
 
-        return notificationRepository.findByUserId(user.getId(), pageable)
-                .map(NotificationResponse::from);
+        Map<Long, Long> countsByUser = new LinkedHashMap<>();
+        rows.forEach(row -> countsByUser.merge(row.getUserId(), 1L, Long::sum));
+        unreadNotificationCounter.adjustAll(countsByUser);
+        notificationStreamPublisher.publishBulk(countsByUser.keySet());
+        return inserted;
     }
 
-    public Page<NotificationResponse> getMyUnreadNotifications(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    public Page<NotificationResponse> getMyNotifications(Long userId, Pageable pageable) {
+        return notificationRepository.findByUserId(userId, pageable)
+                .map(NotificationResponse::from);
+    }
 
-        return notificationRepository.findByUserIdAndIsReadFalse(user.getId(), pageable)
+    public Page<NotificationResponse> getMyUnreadNotifications(Long userId, Pageable pageable) {
+        return notificationRepository.findByUserIdAndIsReadFalse(userId, pageable)
                 .map(NotificationResponse::from);
     }
 
-    @Transactional
-    public NotificationResponse markAsRead(String email, Long notificationId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    /**
+     * 읽지 않은 공지 (최신순, 최대 BROADCAST_INBOX_LIMIT 건)
+     * 공지는 한 행만 저장되고 읽음 커서로 판단하므로 개인 알림 페이지와 섞지 않고 따로 조회
+     */
+    public List<NotificationResponse> getUnreadBroadcasts(Long userId) {
+        return broadcastNotificationService.findUnread(userCache.get(userId), BROADCAST_INBOX_LIMIT);
+    }
 
+    @Transactional
+    public NotificationResponse markAsRead(Long userId, Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
 
         // 본인 알림인지 확인
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new BadRequestException("This notification does not belong to you");
         }
 
-        notification.setIsRead(true);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.setIsRead(true);
+            unreadNotificationCounter.adjust(userId, -1);
+            notificationStreamPublisher.publishUnreadCountChanged(userId);
+        }
 
         return NotificationResponse.from(notification);
     }
 
     @Transactional
-    public void deleteNotification(String email, Long notificationId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    public void markBroadcastAsRead(Long userId, Long broadcastId) {
+        broadcastNotificationService.markAsRead(userCache.get(userId), broadcastId);
+    }
 
+    @Transactional
+    public void deleteNotification(Long userId, Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
 
         // 본인 알림인지 확인
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new BadRequestException("This notification does not belong to you");
         }
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadNotificationCounter.adjust(userId, -1);
+            notificationStreamPublisher.publishUnreadCountChanged(userId);
+        }
     }
 
-    @Transactional
-    public void markAllAsRead(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    /**
+     * 알림 일괄 읽음 처리 (엔티티 로딩 없이 UPDATE 청크 반복, 청크마다 커밋)
+     *
+     * @param upToId 이 ID 까지 읽음 처리 (없으면 호출 시점의 마지막 알림까지, 이후 도착한 알림은 제외)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NotificationBulkResponse markAllAsRead(Long userId, Long upToId) {
+        long boundary = resolveBoundary(userId, upToId);
+        int updated = 0;
+        int chunk;
+
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                int count = notificationJdbcRepository.markReadChunk(userId, boundary, BULK_CHUNK_SIZE);
+                // 0 으로 덮어쓰지 않고 실제 변경 건수만큼 감소 (동시에 생성된 알림 반영 유지)
+                unreadNotificationCounter.adjust(userId, -count);
+                return count;
+            });
+            updated += chunk;
+        } while (chunk == BULK_CHUNK_SIZE);
+
+        // 기준 ID 는 개인 알림 ID 이므로 공지는 범위 지정 없이 호출된 경우만 모두 읽음 처리
+        if (upToId == null) {
+            broadcastNotificationService.markAllAsRead(userCache.get(userId));
+        }
 
-        notificationRepository.findUnreadByUserId(user.getId())
-                .forEach(notification -> notification.setIsRead(true));
+        if (updated > 0) {
+            notificationStreamPublisher.publishUnreadCountChanged(userId);
+            log.debug("알림 일괄 읽음 처리: userId={}, upToId={}, 변경={}건", userId, boundary, updated);
+        }
+        return new NotificationBulkResponse(updated, boundary);
     }
 
-    public long getUnreadCount(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    /**
+     * 읽은 알림 일괄 삭제 (읽지 않은 알림은 유지하므로 읽지 않은 개수는 변하지 않음)
+     *
+     * @param upToId 이 ID 까지 삭제 (없으면 호출 시점의 마지막 알림까지)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NotificationBulkResponse deleteReadNotifications(Long userId, Long upToId) {
+        long boundary = resolveBoundary(userId, upToId);
+        int deleted = 0;
+        int chunk;
+
+        do {
+            chunk = transactionTemplate.execute(status ->
+                    notificationJdbcRepository.deleteReadChunk(userId, boundary, BULK_CHUNK_SIZE));
+            deleted += chunk;
+        } while (chunk == BULK_CHUNK_SIZE);
+
+        log.debug("읽은 알림 일괄 삭제: userId={}, upToId={}, 삭제={}건", userId, boundary, deleted);
+        return new NotificationBulkResponse(deleted, boundary);
+    }
 
-        return notificationRepository.countByUserIdAndIsReadFalse(user.getId());
+    public long getUnreadCount(Long userId) {
+        CachedUser user = userCache.get(userId);
+        return unreadNotificationCounter.get(userId)
+                + broadcastNotificationService.countUnread(userId, user.getRoles(), user.getCreatedAt());
+    }
+
+    private long resolveBoundary(Long userId, Long upToId) {
+        if (upToId != null) {
+            if (upToId < 0) {
+                throw new BadRequestException("upToId must not be negative");
+            }
+            return upToId;
+        }
+        return notificationRepository.findMaxIdByUserId(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package ecommerce.domain.notification.service;
+
+import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 캐시 (Redis Hash, field=userId)
+ *
+ * - 조회 시 필드가 없으면 DB 에서 한 번 세어 채움 (lazy rebuild)
+ * - 생성/읽음/모두 읽음/삭제 시 커밋 후 증감 (필드가 있을 때만, 0 미만이면 0)
+ *   필드가 없는 사용자는 다음 조회 때 DB 기준으로 다시 채워짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String UNREAD_KEY = "notification:unread";
+    private static final int MAX_USERS_PER_SCRIPT = 500;
+
+    /**
+     * ARGV = [userId1, delta1, userId2, delta2, ...]
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = RedisScript.of("""
+            for i = 1, #ARGV, 2 do
+                if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+                    if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) < 0 then
+                        redis.call('HSET', KEYS[1], ARGV[i], 0)
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> INIT_SCRIPT = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2])
+            return tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+            """, Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final RedisService redisService;
+
+    /**
+     * 읽지 않은 알림 개수
+     */
+    public long get(Long userId) {
+        String cached = redisService.getHashValue(UNREAD_KEY, String.valueOf(userId));
+        if (cached != null) {
+            try {
+                return Math.max(0L, Long.parseLong(cached));
+            } catch (NumberFormatException e) {
+                log.warn("읽지 않은 알림 개수 캐시 형식 오류, 다시 계산: userId={}, value={}", userId, cached);
+                redisService.deleteHashField(UNREAD_KEY, String.valueOf(userId));
+            }
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            Long stored = redisService.executeScript(INIT_SCRIPT, List.of(UNREAD_KEY),
+                    String.valueOf(userId), String.valueOf(count));
+            return stored != null ? stored : count;
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 개수 캐시 저장 실패: userId={}", userId, e);
+            return count;
+        }
+    }
+
+    /**
+     * 한 사용자 증감 (커밋 후 반영)
+     */
+    public void adjust(Long userId, long delta) {
+        if (delta != 0) {
+            adjustAll(Map.of(userId, delta));
+        }
+    }
+
+    /**
+     * 여러 사용자 증감 (대량 생성 등, 커밋 후 반영)
+     */
+    public void adjustAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((userId, delta) -> {
+            if (delta != 0) {
+                args.add(String.valueOf(userId));
+                args.add(String.valueOf(delta));
+            }
+        });
+
+        runAfterCommit(() -> {
+            for (int from = 0; from < args.size(); from += MAX_USERS_PER_SCRIPT * 2) {
+                List<String> chunk = args.subList(from, Math.min(from + MAX_USERS_PER_SCRIPT * 2, args.size()));
+                try {
+                    redisService.executeScript(ADJUST_SCRIPT, List.of(UNREAD_KEY), chunk.toArray(new String[0]));
+                } catch (Exception e) {
+                    // 틀어진 값이 남지 않도록 해당 사용자 캐시를 지워 다음 조회 때 다시 계산
+                    log.error("읽지 않은 알림 개수 반영 실패, 캐시 무효화: users={}", chunk.size() / 2, e);
+                    for (int i = 0; i < chunk.size(); i += 2) {
+                        redisService.deleteHashField(UNREAD_KEY, chunk.get(i));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 때 DB 기준으로 다시 계산)
+     */
+    public void evict(Long userId) {
+        runAfterCommit(() -> redisService.deleteHashField(UNREAD_KEY, String.valueOf(userId)));
+    }
+
+    /**
+     * 전체 캐시 무효화 (파티션 삭제 등 사용자별 변경 건수를 알 수 없을 때)
+     */
+    public void evictAll() {
+        redisService.delete(UNREAD_KEY);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ecommerce.domain.notification.stream;
+
+import ecommerce.common.enums.Role;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 하나
+ *
+ * - 보낼 이벤트는 연결별 고정 크기 큐에 쌓고 한 스레드만 꺼내 전송 (느린 클라이언트가 다른 연결을 막지 않음)
+ * - 큐가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트 하나로 대체 (클라이언트가 목록을 다시 조회)
+ */
+class NotificationConnection {
+
+    @Getter
+    private final Long userId;
+    // 공지 대상 판단/읽지 않은 공지 계산용 (접속 시점 기준)
+    @Getter
+    private final Set<Role> roles;
+    @Getter
+    private final LocalDateTime joinedAt;
+    @Getter
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    NotificationConnection(Long userId, Set<Role> roles, LocalDateTime joinedAt, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.roles = roles;
+        this.joinedAt = joinedAt;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 이벤트 추가 (가득 차면 resync 로 대체)
+     *
+     * @return 정상 추가 여부 (false 면 넘침)
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+
+        synchronized (queue) {
+            queue.clear();
+            queue.offer(SseEmitter.event().name(NotificationStreamService.EVENT_RESYNC).data("overflow"));
+        }
+        return false;
+    }
+
+    /**
+     * 하트비트 추가 (큐에 이미 보낼 이벤트가 있으면 생략)
+     */
+    void offerHeartbeat() {
+        if (queue.isEmpty()) {
+            queue.offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        return queue.poll();
+    }
+
+    boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    /**
+     * 전송 스레드 선점 (이미 전송 중이면 false)
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    long getLastEventId() {
+        return lastEventId.get();
+    }
+
+    /**
+     * 마지막으로 보낸 알림 ID 갱신 (더 큰 값일 때만)
+     */
+    void advanceLastEventId(long id) {
+        lastEventId.accumulateAndGet(id, Math::max);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return 이번 호출로 닫혔는지 여부
+     */
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+}
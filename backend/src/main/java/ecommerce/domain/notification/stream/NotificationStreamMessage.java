@@ -0,0 +1,35 @@
+package ecommerce.domain.notification.stream;
+
+import ecommerce.common.enums.Role;
+import ecommerce.domain.notification.dto.NotificationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 노드 간 알림 스트림 메시지 (Redis pub/sub)
+ *
+ * - NOTIFICATION: 알림 한 건 (내용 포함, 수신 노드는 바로 전송)
+ * - BULK: 대량 생성된 알림의 수신자 목록 (수신 노드는 접속 중인 사용자만 DB 에서 새 알림 조회)
+ * - UNREAD_COUNT: 읽음/삭제 등으로 읽지 않은 개수가 바뀐 사용자
+ * - BROADCAST: 공지 한 건 (수신자 목록 없이 대상 역할만 전달, 수신 노드는 접속 중인 대상 전체에 전송)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationStreamMessage {
+
+    public enum Kind {
+        NOTIFICATION, BULK, UNREAD_COUNT, BROADCAST
+    }
+
+    private Kind kind;
+    private List<Long> userIds;
+    private NotificationResponse notification;
+    // BROADCAST 대상 역할 (null 이면 전체)
+    private Role targetRole;
+}
@@ -0,0 +1,100 @@
+package ecommerce.domain.notification.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.common.enums.Role;
+import ecommerce.domain.notification.dto.NotificationResponse;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 스트림 발행
+ * 알림을 쓴 노드가 Redis 채널로 발행하면 모든 노드가 자기에게 접속한 사용자에게 전달
+ * 트랜잭션 안에서 호출되면 커밋 후에 발행 (롤백된 알림은 전송되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamPublisher {
+
+    public static final String CHANNEL = "notification:stream";
+    private static final int MAX_USERS_PER_MESSAGE = 1000;
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림 한 건 생성
+     */
+    public void publishCreated(NotificationResponse notification) {
+        publishAfterCommit(NotificationStreamMessage.builder()
+                .kind(NotificationStreamMessage.Kind.NOTIFICATION)
+                .userIds(List.of(notification.getUserId()))
+                .notification(notification)
+                .build());
+    }
+
+    /**
+     * 대량 생성 (수신자 목록만 전달, 1000명 단위로 나눠 발행)
+     */
+    public void publishBulk(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += MAX_USERS_PER_MESSAGE) {
+            List<Long> chunk = new ArrayList<>(ids.subList(from, Math.min(from + MAX_USERS_PER_MESSAGE, ids.size())));
+            publishAfterCommit(NotificationStreamMessage.builder()
+                    .kind(NotificationStreamMessage.Kind.BULK)
+                    .userIds(chunk)
+                    .build());
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 개수 변경 (읽음/모두 읽음/삭제)
+     */
+    public void publishUnreadCountChanged(Long userId) {
+        publishAfterCommit(NotificationStreamMessage.builder()
+                .kind(NotificationStreamMessage.Kind.UNREAD_COUNT)
+                .userIds(List.of(userId))
+                .build());
+    }
+
+    /**
+     * 공지 생성 (대상 사용자 수와 관계없이 메시지 한 건)
+     */
+    public void publishBroadcast(NotificationResponse broadcast, Role targetRole) {
+        publishAfterCommit(NotificationStreamMessage.builder()
+                .kind(NotificationStreamMessage.Kind.BROADCAST)
+                .notification(broadcast)
+                .targetRole(targetRole)
+                .build());
+    }
+
+    private void publishAfterCommit(NotificationStreamMessage message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("알림 스트림 메시지 직렬화 실패: kind={}", message.getKind(), e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisService.publish(CHANNEL, payload);
+                }
+            });
+        } else {
+            redisService.publish(CHANNEL, payload);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package ecommerce.domain.notification.stream;
+
+import ecommerce.common.exception.BusinessException;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.domain.notification.dto.NotificationResponse;
+import ecommerce.domain.notification.entity.Notification;
+import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.domain.notification.service.BroadcastNotificationCache;
+import ecommerce.domain.notification.service.BroadcastNotificationService;
+import ecommerce.domain.notification.service.UnreadNotificationCounter;
+import ecommerce.domain.user.dto.CachedUser;
+import ecommerce.domain.user.service.UserCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE 스트림 서비스 (노드별 접속 관리 + 전달)
+ *
+ * - 접속 시 Last-Event-ID 이후 알림을 재전송하고 현재 읽지 않은 개수를 보냄
+ * - Redis 채널로 받은 메시지 중 이 노드에 접속한 사용자 것만 전달
+ * - 이벤트 전송은 sseExecutor 에서 연결별로 한 스레드씩 수행, 주기적으로 하트비트 전송
+ * - 대기 중인 연결은 스레드를 점유하지 않음 (서블릿 비동기 요청)
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_BROADCAST = "broadcast";
+    static final String EVENT_UNREAD_COUNT = "unread-count";
+    static final String EVENT_RESYNC = "resync";
+
+    private static final int REPLAY_LIMIT = 100;
+    private static final long RECONNECT_DELAY_MS = 3000L;
+
+    private final NotificationRepository notificationRepository;
+    private final UserCache userCache;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final BroadcastNotificationService broadcastNotificationService;
+    private final BroadcastNotificationCache broadcastNotificationCache;
+    private final Executor sseExecutor;
+    private final long timeoutMs;
+    private final int maxConnections;
+    private final int queueCapacity;
+
+    // 사용자 ID → 이 노드에 접속한 연결 (여러 탭/기기)
+    private final Map<Long, Set<NotificationConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public NotificationStreamService(NotificationRepository notificationRepository,
+                                     UserCache userCache,
+                                     UnreadNotificationCounter unreadNotificationCounter,
+                                     BroadcastNotificationService broadcastNotificationService,
+                                     BroadcastNotificationCache broadcastNotificationCache,
+                                     @Qualifier("sseExecutor") Executor sseExecutor,
+                                     @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${notification.stream.max-connections:20000}") int maxConnections,
+                                     @Value("${notification.stream.queue-capacity:64}") int queueCapacity) {
+        this.notificationRepository = notificationRepository;
+        this.userCache = userCache;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.broadcastNotificationService = broadcastNotificationService;
+        this.broadcastNotificationCache = broadcastNotificationCache;
+        this.sseExecutor = sseExecutor;
+        this.timeoutMs = timeoutMs;
+        this.maxConnections = maxConnections;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 스트림 접속
+     *
+     * @param lastEventId 재접속 시 마지막으로 받은 알림 ID (없으면 지금부터)
+     */
+    public SseEmitter connect(Long userId, Long lastEventId) {
+        CachedUser user = userCache.get(userId);
+
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "알림 스트림 접속 수 초과");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        NotificationConnection connection = new NotificationConnection(
+                user.getId(), user.getRoles(), user.getCreatedAt(), emitter, queueCapacity);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connections.compute(user.getId(), (id, userConnections) -> {
+            Set<NotificationConnection> result = userConnections != null ? userConnections : ConcurrentHashMap.newKeySet();
+            result.add(connection);
+            return result;
+        });
+
+        connection.offer(SseEmitter.event().reconnectTime(RECONNECT_DELAY_MS).comment("connected"));
+        if (lastEventId != null) {
+            connection.advanceLastEventId(lastEventId);
+            sendSinceLastEvent(connection);
+        } else {
+            connection.advanceLastEventId(notificationRepository.findMaxIdByUserId(user.getId()));
+        }
+        sendUnreadCount(connection);
+
+        log.debug("알림 스트림 접속: userId={}, lastEventId={}, 노드 접속 수={}",
+                user.getId(), lastEventId, connectionCount.get());
+        return emitter;
+    }
+
+    /**
+     * Redis 채널 메시지 전달 (이 노드에 접속한 사용자만)
+     */
+    void deliver(NotificationStreamMessage message) {
+        if (message.getKind() == NotificationStreamMessage.Kind.BROADCAST) {
+            deliverBroadcast(message);
+            return;
+        }
+
+        if (message.getUserIds() == null) {
+            return;
+        }
+
+        for (Long userId : message.getUserIds()) {
+            Set<NotificationConnection> userConnections = connections.get(userId);
+            if (userConnections == null || userConnections.isEmpty()) {
+                continue;
+            }
+
+            for (NotificationConnection connection : userConnections) {
+                switch (message.getKind()) {
+                    case NOTIFICATION -> {
+                        sendNotification(connection, message.getNotification());
+                        submit(() -> sendUnreadCount(connection));
+                    }
+                    case BULK -> submit(() -> {
+                        sendSinceLastEvent(connection);
+                        sendUnreadCount(connection);
+                    });
+                    case UNREAD_COUNT -> submit(() -> sendUnreadCount(connection));
+                }
+            }
+        }
+    }
+
+    /**
+     * 공지 전달 (이 노드에 접속한 대상 역할 사용자 전체, 공지 ID 는 알림 ID 와 별개라 Last-Event-ID 에 반영하지 않음)
+     */
+    private void deliverBroadcast(NotificationStreamMessage message) {
+        broadcastNotificationCache.refresh();
+
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            if (message.getTargetRole() != null && !connection.getRoles().contains(message.getTargetRole())) {
+                return;
+            }
+
+            if (message.getNotification() != null) {
+                connection.offer(SseEmitter.event().name(EVENT_BROADCAST).data(message.getNotification()));
+                scheduleDrain(connection);
+            }
+            submit(() -> sendUnreadCount(connection));
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            connection.offerHeartbeat();
+            scheduleDrain(connection);
+        }));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 마지막 전송 ID 이후 알림 전송 (최대 100건, 더 있으면 resync)
+     */
+    private void sendSinceLastEvent(NotificationConnection connection) {
+        List<Notification> notifications = notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                connection.getUserId(), connection.getLastEventId(), PageRequest.of(0, REPLAY_LIMIT + 1));
+
+        int count = Math.min(notifications.size(), REPLAY_LIMIT);
+        for (int i = 0; i < count; i++) {
+            sendNotification(connection, NotificationResponse.from(notifications.get(i)));
+        }
+
+        if (notifications.size() > REPLAY_LIMIT) {
+            // 나머지는 클라이언트가 목록 API 로 다시 조회
+            connection.advanceLastEventId(notificationRepository.findMaxIdByUserId(connection.getUserId()));
+            connection.offer(SseEmitter.event().name(EVENT_RESYNC).data("replay-limit"));
+            scheduleDrain(connection);
+        }
+    }
+
+    private void sendNotification(NotificationConnection connection, NotificationResponse notification) {
+        if (notification == null || notification.getId() <= connection.getLastEventId()) {
+            return;
+        }
+
+        connection.advanceLastEventId(notification.getId());
+        connection.offer(SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(EVENT_NOTIFICATION)
+                .data(notification));
+        scheduleDrain(connection);
+    }
+
+    private void sendUnreadCount(NotificationConnection connection) {
+        long count = unreadNotificationCounter.get(connection.getUserId())
+                + broadcastNotificationService.countUnread(
+                connection.getUserId(), connection.getRoles(), connection.getJoinedAt());
+        connection.offer(SseEmitter.event().name(EVENT_UNREAD_COUNT).data(count));
+        scheduleDrain(connection);
+    }
+
+    /**
+     * 연결 큐 전송 예약 (연결당 한 스레드만 전송)
+     */
+    private void scheduleDrain(NotificationConnection connection) {
+        if (connection.isClosed() || !connection.tryStartDrain()) {
+            return;
+        }
+
+        try {
+            sseExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // 다음 이벤트/하트비트 때 다시 시도
+            connection.finishDrain();
+            log.warn("알림 스트림 전송 지연 (실행기 포화): userId={}", connection.getUserId());
+        }
+    }
+
+    private void drain(NotificationConnection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.isClosed() && (event = connection.poll()) != null) {
+                connection.getEmitter().send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("알림 스트림 전송 실패, 연결 종료: userId={}, 에러={}", connection.getUserId(), e.getMessage());
+            remove(connection);
+            connection.getEmitter().completeWithError(e);
+            return;
+        } finally {
+            connection.finishDrain();
+        }
+
+        // 전송 완료 직후 추가된 이벤트가 있으면 다시 예약
+        if (connection.hasPending()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            sseExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("알림 스트림 전달 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 스트림 전달 건너뜀 (실행기 포화)");
+        }
+    }
+
+    private void remove(NotificationConnection connection) {
+        if (!connection.markClosed()) {
+            return;
+        }
+
+        connectionCount.decrementAndGet();
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package ecommerce.domain.notification.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 스트림 채널 구독 (모든 노드가 구독하고 자기 노드에 접속한 사용자에게만 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NotificationStreamService notificationStreamService;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(NotificationStreamPublisher.CHANNEL));
+        log.info("알림 스트림 채널 구독: {}", NotificationStreamPublisher.CHANNEL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            notificationStreamService.deliver(objectMapper.readValue(body, NotificationStreamMessage.class));
+        } catch (Exception e) {
+            log.error("알림 스트림 메시지 처리 실패", e);
+        }
+    }
+}
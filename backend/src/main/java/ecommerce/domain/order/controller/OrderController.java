@@ -1,5 +1,6 @@
 package ecommerce.domain.order.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.order.dto.OrderRequest;
 import ecommerce.domain.order.dto.OrderResponse;
 import ecommerce.domain.order.dto.OrderUpdateRequest;
@@ -42,11 +43,11 @@ public class OrderController {
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "409", description = "재고 부족", content = @Content)
     public ResponseEntity<OrderResponse> createOrder(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody OrderRequest request
     ) {
-        log.info("POST /api/orders - email: {}", email);
-        OrderResponse response = orderService.createOrder(email, request);
+        log.info("POST /api/orders - userId: {}", principal.getUserId());
+        OrderResponse response = orderService.createOrder(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -56,11 +57,11 @@ public class OrderController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     public ResponseEntity<Page<OrderResponse>> getMyOrders(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        log.info("GET /api/orders - email: {}, page: {}", email, pageable.getPageNumber());
-        Page<OrderResponse> response = orderService.getMyOrders(email, pageable);
+        log.info("GET /api/orders - userId: {}, page: {}", principal.getUserId(), pageable.getPageNumber());
+        Page<OrderResponse> response = orderService.getMyOrders(principal.getUserId(), pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -72,11 +73,11 @@ public class OrderController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 주문 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음", content = @Content)
     public ResponseEntity<OrderResponse> getOrderById(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id
     ) {
-        log.info("GET /api/orders/{} - email: {}", id, email);
-        OrderResponse response = orderService.getOrderById(email, id);
+        log.info("GET /api/orders/{} - userId: {}", id, principal.getUserId());
+        OrderResponse response = orderService.getOrderById(principal.getUserId(), id);
         return ResponseEntity.ok(response);
     }
 
@@ -90,12 +91,12 @@ public class OrderController {
     @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "422", description = "주문 상태가 수정 불가능 상태", content = @Content)
     public ResponseEntity<OrderResponse> updateOrder(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody OrderUpdateRequest request
     ) {
-        log.info("PUT /api/orders/{} - email: {}", id, email);
-        OrderResponse response = orderService.updateOrder(email, id, request);
+        log.info("PUT /api/orders/{} - userId: {}", id, principal.getUserId());
+        OrderResponse response = orderService.updateOrder(principal.getUserId(), id, request);
         return ResponseEntity.ok(response);
     }
 
@@ -108,11 +109,11 @@ public class OrderController {
     @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "422", description = "주문 상태가 취소 불가능 상태", content = @Content)
     public ResponseEntity<Void> cancelOrder(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id
     ) {
-        log.info("DELETE /api/orders/{} - email: {}", id, email);
-        orderService.cancelOrder(email, id);
+        log.info("DELETE /api/orders/{} - userId: {}", id, principal.getUserId());
+        orderService.cancelOrder(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -32,5 +32,6 @@ public class OrderRequest {
     @Size(max = 500, message = "배송 주소는 500자를 초과할 수 없습니다")
     private String address;
 
+    // 사용할 사용자 쿠폰 ID (user_coupons.id, 선택)
     private Long couponId;
 }
\ No newline at end of file
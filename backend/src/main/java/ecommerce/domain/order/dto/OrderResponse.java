@@ -31,11 +31,18 @@ public class OrderResponse {
     private LocalDateTime updatedAt;
 
     public static OrderResponse from(Order order) {
+        return from(order, order.getUser() != null ? order.getUser().getName() : null);
+    }
+
+    /**
+     * 사용자 이름을 따로 받는 변환 (사용자 프록시를 초기화하지 않음)
+     */
+    public static OrderResponse from(Order order, String userName) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
                 .userId(order.getUser() != null ? order.getUser().getId() : null)
-                .userName(order.getUser() != null ? order.getUser().getName() : null)
+                .userName(userName)
                 .status(order.getStatus())
                 .totalAmount(order.getTotalAmount())
                 .finalAmount(order.getFinalAmount())
@@ -0,0 +1,19 @@
+package ecommerce.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 판매자/상품 단위 판매 집계 결과 (GROUP BY seller_id, product_id)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSalesAggregate {
+
+    private Long sellerId;
+    private Long productId;
+    private Long salesCount;
+    private BigDecimal revenue;
+}
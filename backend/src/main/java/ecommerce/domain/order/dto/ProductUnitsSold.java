@@ -0,0 +1,15 @@
+package ecommerce.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품별 판매 수량 집계 (일별 롤업용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductUnitsSold {
+
+    private Long productId;
+    private Long unitsSold;
+}
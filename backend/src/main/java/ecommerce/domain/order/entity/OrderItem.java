@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "order_items", indexes = {
         @Index(name = "idx_order_items_order_id", columnList = "order_id"),
         @Index(name = "idx_order_items_product_id", columnList = "product_id"),
-        @Index(name = "idx_order_items_created_at", columnList = "created_at")
+        @Index(name = "idx_order_items_created_at", columnList = "created_at"),
+        @Index(name = "idx_order_items_seller_created", columnList = "seller_id, created_at")
 })
 @Getter
 @Setter
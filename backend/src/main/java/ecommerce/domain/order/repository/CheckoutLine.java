@@ -0,0 +1,26 @@
+package ecommerce.domain.order.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 대상 행 (장바구니 수량 + 잠금 시점의 상품 가격/재고)
+ */
+@Getter
+@AllArgsConstructor
+public class CheckoutLine {
+
+    private final Long productId;
+    private final Long sellerId;
+    private final String productName;
+    private final BigDecimal price;
+    private final int stock;
+    private final String status;
+    private final int quantity;
+
+    public BigDecimal getSubtotal() {
+        return price.multiply(BigDecimal.valueOf(quantity));
+    }
+}
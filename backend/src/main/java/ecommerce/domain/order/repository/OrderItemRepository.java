@@ -1,12 +1,17 @@
 package ecommerce.domain.order.repository;
 
+import ecommerce.domain.order.dto.ProductSalesAggregate;
+import ecommerce.domain.order.dto.ProductUnitsSold;
 import ecommerce.domain.order.entity.OrderItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -18,4 +23,50 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             @Param("productId") Long productId,
             @Param("fromDate") LocalDateTime fromDate
     );
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 판매자/상품별 판매량·매출 집계 (판매자 청크 단위)
+     * idx_order_items_seller_created 인덱스로 판매자별 최근 구간만 읽음
+     */
+    @Query("SELECT new ecommerce.domain.order.dto.ProductSalesAggregate(" +
+            "oi.seller.id, oi.product.id, SUM(oi.quantity), SUM(oi.subtotal)) " +
+            "FROM OrderItem oi " +
+            "WHERE oi.seller.id IN :sellerIds AND oi.createdAt >= :fromDate " +
+            "GROUP BY oi.seller.id, oi.product.id")
+    List<ProductSalesAggregate> findSalesBySellerIdsSince(
+            @Param("sellerIds") Collection<Long> sellerIds,
+            @Param("fromDate") LocalDateTime fromDate
+    );
+
+    /**
+     * 특정 판매자의 기간 내 상품별 판매 순위 (판매량 내림차순)
+     */
+    @Query("SELECT new ecommerce.domain.order.dto.ProductSalesAggregate(" +
+            "oi.seller.id, oi.product.id, SUM(oi.quantity), SUM(oi.subtotal)) " +
+            "FROM OrderItem oi " +
+            "WHERE oi.seller.id = :sellerId AND oi.createdAt >= :fromDate " +
+            "GROUP BY oi.seller.id, oi.product.id " +
+            "ORDER BY SUM(oi.quantity) DESC")
+    List<ProductSalesAggregate> findTopSalesBySellerSince(
+            @Param("sellerId") Long sellerId,
+            @Param("fromDate") LocalDateTime fromDate,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 [fromDate, toDate) 상품별 판매 수량 집계 (일별 롤업용, 상품 ID 키셋 청크)
+     */
+    @Query("SELECT new ecommerce.domain.order.dto.ProductUnitsSold(oi.product.id, SUM(oi.quantity)) " +
+            "FROM OrderItem oi " +
+            "WHERE oi.createdAt >= :fromDate AND oi.createdAt < :toDate " +
+            "AND oi.product.id > :afterProductId AND oi.product.id <= :toProductId " +
+            "GROUP BY oi.product.id " +
+            "ORDER BY oi.product.id")
+    List<ProductUnitsSold> sumUnitsSoldByProductBetween(
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            @Param("afterProductId") Long afterProductId,
+            @Param("toProductId") Long toProductId,
+            Pageable pageable
+    );
+}
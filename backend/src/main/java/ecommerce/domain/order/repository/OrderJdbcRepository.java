@@ -0,0 +1,188 @@
+package ecommerce.domain.order.repository;
+
+import ecommerce.domain.order.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 결제 전용 JDBC 리포지토리
+ * 엔티티 로딩 없이 장바구니/상품을 한 번에 잠금 조회하고, 재고 차감/주문 항목 저장을 배치로 수행
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 상품 ID 순으로 잠가 동시 결제 간 교착 방지
+    private static final String CART_LINES_SQL =
+            "SELECT p.id, p.seller_id, p.name, p.price, p.stock, p.status, ci.quantity " +
+                    "FROM cart_items ci JOIN products p ON p.id = ci.product_id " +
+                    "WHERE ci.user_id = ? ORDER BY p.id FOR UPDATE";
+
+    private static final String PRODUCT_LINES_SQL =
+            "SELECT p.id, p.seller_id, p.name, p.price, p.stock, p.status " +
+                    "FROM products p WHERE p.id IN (%s) ORDER BY p.id FOR UPDATE";
+
+    // 잠금 후 검증했지만 재고 조건을 한 번 더 걸어 음수 재고 방지
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE products SET stock = stock - ?, sales_count = COALESCE(sales_count, 0) + ?, updated_at = ? " +
+                    "WHERE id = ? AND stock >= ?";
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (user_id, order_number, status, total_amount, final_amount, " +
+                    "recipient_name, recipient_phone, address, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (order_id, product_id, seller_id, product_name, price, quantity, subtotal, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ORDER_ITEM_IDS_SQL =
+            "SELECT id, product_id FROM order_items WHERE order_id = ?";
+
+    private static final String ADD_PURCHASE_AMOUNT_SQL =
+            "UPDATE users SET total_purchase_amount = COALESCE(total_purchase_amount, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * DB 장바구니 + 상품 잠금 조회 (삭제된 상품은 제외)
+     */
+    public List<CheckoutLine> lockCartLines(Long userId) {
+        return jdbcTemplate.query(CART_LINES_SQL, (rs, rowNum) -> new CheckoutLine(
+                rs.getLong("id"),
+                rs.getLong("seller_id"),
+                rs.getString("name"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock"),
+                rs.getString("status"),
+                rs.getInt("quantity")), userId);
+    }
+
+    /**
+     * 상품 ID → 수량으로 상품 잠금 조회 (Redis 장바구니용, 삭제된 상품은 제외)
+     */
+    public List<CheckoutLine> lockProductLines(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = quantities.keySet().stream().map(id -> "?").collect(Collectors.joining(", "));
+        RowMapper<CheckoutLine> mapper = (rs, rowNum) -> new CheckoutLine(
+                rs.getLong("id"),
+                rs.getLong("seller_id"),
+                rs.getString("name"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock"),
+                rs.getString("status"),
+                quantities.get(rs.getLong("id")));
+
+        return jdbcTemplate.query(String.format(PRODUCT_LINES_SQL, placeholders), mapper,
+                quantities.keySet().toArray());
+    }
+
+    /**
+     * 재고 차감 + 판매량 증가 (배치)
+     *
+     * @return 재고 조건을 만족하지 못해 차감되지 않은 상품 ID
+     */
+    public List<Long> decreaseStock(List<CheckoutLine> lines, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] results = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, lines, BATCH_SIZE, (ps, line) -> {
+            ps.setInt(1, line.getQuantity());
+            ps.setInt(2, line.getQuantity());
+            ps.setTimestamp(3, timestamp);
+            ps.setLong(4, line.getProductId());
+            ps.setInt(5, line.getQuantity());
+        });
+
+        List<Long> failed = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                if (updated == 0) {
+                    failed.add(lines.get(index).getProductId());
+                }
+                index++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 주문 저장
+     *
+     * @return 생성된 주문 ID
+     */
+    public long insertOrder(Long userId, String orderNumber, BigDecimal totalAmount, BigDecimal finalAmount,
+                            String recipientName, String recipientPhone, String address, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setString(2, orderNumber);
+            ps.setString(3, OrderStatus.PENDING.name());
+            ps.setBigDecimal(4, totalAmount);
+            ps.setBigDecimal(5, finalAmount);
+            ps.setString(6, recipientName);
+            ps.setString(7, recipientPhone);
+            ps.setString(8, address);
+            ps.setTimestamp(9, timestamp);
+            ps.setTimestamp(10, timestamp);
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 주문 항목 일괄 저장
+     *
+     * @return 상품 ID → 생성된 주문 항목 ID
+     */
+    public Map<Long, Long> insertOrderItems(long orderId, List<CheckoutLine> lines, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, lines, BATCH_SIZE, (ps, line) -> {
+            ps.setLong(1, orderId);
+            ps.setLong(2, line.getProductId());
+            ps.setLong(3, line.getSellerId());
+            ps.setString(4, line.getProductName());
+            ps.setBigDecimal(5, line.getPrice());
+            ps.setInt(6, line.getQuantity());
+            ps.setBigDecimal(7, line.getSubtotal());
+            ps.setTimestamp(8, timestamp);
+        });
+
+        Map<Long, Long> itemIds = new HashMap<>();
+        jdbcTemplate.query(ORDER_ITEM_IDS_SQL,
+                rs -> {
+                    itemIds.put(rs.getLong("product_id"), rs.getLong("id"));
+                }, orderId);
+        return itemIds;
+    }
+
+    /**
+     * 사용자 누적 구매액 증감 (엔티티를 거치지 않아 동시 주문/취소 간 갱신 유실 없음, 취소는 음수)
+     */
+    public void addPurchaseAmount(Long userId, BigDecimal amount) {
+        jdbcTemplate.update(ADD_PURCHASE_AMOUNT_SQL, amount, userId);
+    }
+}
@@ -4,30 +4,43 @@ import ecommerce.common.exception.ErrorCode;
 import ecommerce.common.exception.ForbiddenException;
 import ecommerce.common.exception.ResourceNotFoundException;
 import ecommerce.common.exception.UnprocessableEntityException;
+import ecommerce.domain.cart.dto.CheckoutRequest;
+import ecommerce.domain.cart.repository.CartItemJdbcRepository;
+import ecommerce.domain.cart.service.RedisCartStore;
+import ecommerce.domain.coupon.service.CouponRedemptionService;
+import ecommerce.domain.order.dto.OrderItemDto;
 import ecommerce.domain.order.dto.OrderRequest;
 import ecommerce.domain.order.dto.OrderResponse;
 import ecommerce.domain.order.dto.OrderUpdateRequest;
 import ecommerce.domain.order.entity.Order;
 import ecommerce.domain.order.entity.OrderItem;
 import ecommerce.domain.order.enums.OrderStatus;
+import ecommerce.domain.order.repository.CheckoutLine;
+import ecommerce.domain.order.repository.OrderJdbcRepository;
 import ecommerce.domain.order.repository.OrderRepository;
 import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.product.enums.ProductStatus;
 import ecommerce.domain.product.repository.ProductRepository;
-import ecommerce.domain.user.entity.User;
+import ecommerce.domain.product.service.ProductCardService;
 import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,25 +49,27 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ProductRepository productRepository;
+    private final ProductCardService productCardService;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final CartItemJdbcRepository cartItemJdbcRepository;
+    private final RedisCartStore redisCartStore;
+    private final CouponRedemptionService couponRedemptionService;
 
     /**
      * 주문 생성
      */
     @Transactional
-    public OrderResponse createOrder(String email, OrderRequest request) {
-        log.info("주문 생성 시도: email={}, items={}", email, request.getItems().size());
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public OrderResponse createOrder(Long userId, OrderRequest request) {
+        log.info("주문 생성 시도: userId={}, items={}", userId, request.getItems().size());
 
         // 주문 번호 생성
         String orderNumber = generateOrderNumber();
 
         // 주문 엔티티 생성
         Order order = Order.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .orderNumber(orderNumber)
                 .status(OrderStatus.PENDING)
                 .recipientName(request.getRecipientName())
@@ -87,6 +102,7 @@ public class OrderService {
             // 재고 차감
             product.setStock(product.getStock() - itemRequest.getQuantity());
             product.setSalesCount(product.getSalesCount() + itemRequest.getQuantity());
+            productCardService.evict(product.getId());
 
             // 소계 계산
             BigDecimal subtotal = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
@@ -106,9 +122,13 @@ public class OrderService {
             orderItems.add(orderItem);
         }
 
-        // 주문 금액 설정
+        // 주문 금액 설정 (쿠폰 할인 반영)
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal discount = request.getCouponId() != null
+                ? couponRedemptionService.calculateDiscount(userId, request.getCouponId(), totalAmount, now)
+                : BigDecimal.ZERO;
         order.setTotalAmount(totalAmount);
-        order.setFinalAmount(totalAmount); // TODO: 쿠폰 적용 로직 Phase 8에서 구현
+        order.setFinalAmount(totalAmount.subtract(discount));
 
         // 주문 항목 추가
         order.getOrderItems().addAll(orderItems);
@@ -116,74 +136,163 @@ public class OrderService {
         // 주문 저장
         Order savedOrder = orderRepository.save(order);
 
-        // 사용자 누적 구매액 업데이트
-        user.setTotalPurchaseAmount(
-                user.getTotalPurchaseAmount() != null
-                        ? user.getTotalPurchaseAmount().add(totalAmount)
-                        : totalAmount
-        );
-        userRepository.save(user);
+        // 쿠폰 사용 처리 (이미 사용/만료면 주문 전체 롤백)
+        if (request.getCouponId() != null) {
+            couponRedemptionService.redeem(userId, request.getCouponId(), savedOrder.getId(), now);
+        }
+
+        // 사용자 누적 구매액 업데이트 (사용자 엔티티를 읽지 않고 UPDATE 한 번)
+        orderJdbcRepository.addPurchaseAmount(userId, totalAmount);
 
-        log.info("주문 생성 완료: orderId={}, orderNumber={}, totalAmount={}",
-                savedOrder.getId(), savedOrder.getOrderNumber(), savedOrder.getTotalAmount());
+        log.info("주문 생성 완료: orderId={}, orderNumber={}, totalAmount={}, finalAmount={}",
+                savedOrder.getId(), savedOrder.getOrderNumber(), savedOrder.getTotalAmount(), savedOrder.getFinalAmount());
 
         // TODO: Phase 8에서 첫 구매 체크 및 웰컴 쿠폰 발급
         // TODO: Phase 8에서 VIP 쿠폰 발급 체크 (누적 50만원 이상)
 
-        return OrderResponse.from(savedOrder);
+        return OrderResponse.from(savedOrder, userCache.get(userId).getName());
+    }
+
+    /**
+     * 장바구니 결제: 장바구니 전체를 한 트랜잭션에서 주문으로 전환
+     *
+     * - 장바구니 수량과 상품 가격/재고를 한 쿼리로 잠금 조회 (상품 ID 순)
+     * - 재고 차감, 주문 항목 저장은 배치로 실행하고 결제된 상품은 장바구니에서 삭제
+     * - Redis 장바구니는 커밋 후 결제된 상품을 제거 (DB 는 같은 트랜잭션에서 삭제)
+     */
+    @Transactional
+    public OrderResponse checkoutCart(Long userId, CheckoutRequest request) {
+        List<CheckoutLine> lines = redisCartStore.isEnabled()
+                ? orderJdbcRepository.lockProductLines(redisCartStore.getItems(userId))
+                : orderJdbcRepository.lockCartLines(userId);
+
+        if (lines.isEmpty()) {
+            throw new UnprocessableEntityException(ErrorCode.CART_EMPTY);
+        }
+
+        log.info("장바구니 결제 시도: userId={}, items={}", userId, lines.size());
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (CheckoutLine line : lines) {
+            // 상품 상태 확인
+            if (!ProductStatus.ACTIVE.name().equals(line.getStatus())) {
+                throw new UnprocessableEntityException(
+                        ErrorCode.UNPROCESSABLE_ENTITY,
+                        String.format("상품 '%s'은(는) 판매 중이 아닙니다.", line.getProductName())
+                );
+            }
+
+            // 재고 확인 (잠금 조회 시점 기준)
+            if (line.getStock() < line.getQuantity()) {
+                throw new UnprocessableEntityException(
+                        ErrorCode.INSUFFICIENT_STOCK,
+                        String.format("상품 '%s'의 재고가 부족합니다. (요청: %d, 재고: %d)",
+                                line.getProductName(), line.getQuantity(), line.getStock())
+                );
+            }
+
+            totalAmount = totalAmount.add(line.getSubtotal());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal discount = request.getCouponId() != null
+                ? couponRedemptionService.calculateDiscount(userId, request.getCouponId(), totalAmount, now)
+                : BigDecimal.ZERO;
+        BigDecimal finalAmount = totalAmount.subtract(discount);
+
+        List<Long> outOfStock = orderJdbcRepository.decreaseStock(lines, now);
+        if (!outOfStock.isEmpty()) {
+            throw new UnprocessableEntityException(
+                    ErrorCode.INSUFFICIENT_STOCK, "재고가 부족한 상품 ID: " + outOfStock);
+        }
+
+        String orderNumber = generateOrderNumber();
+        long orderId = orderJdbcRepository.insertOrder(userId, orderNumber, totalAmount, finalAmount,
+                request.getRecipientName(), request.getRecipientPhone(), request.getAddress(), now);
+        if (request.getCouponId() != null) {
+            couponRedemptionService.redeem(userId, request.getCouponId(), orderId, now);
+        }
+        Map<Long, Long> itemIds = orderJdbcRepository.insertOrderItems(orderId, lines, now);
+        orderJdbcRepository.addPurchaseAmount(userId, totalAmount);
+
+        List<Long> productIds = lines.stream().map(CheckoutLine::getProductId).collect(Collectors.toList());
+        productIds.forEach(productCardService::evict);
+        clearCheckedOutItems(userId, productIds);
+
+        log.info("장바구니 결제 완료: orderId={}, orderNumber={}, items={}, totalAmount={}, finalAmount={}",
+                orderId, orderNumber, lines.size(), totalAmount, finalAmount);
+
+        return OrderResponse.builder()
+                .id(orderId)
+                .orderNumber(orderNumber)
+                .userId(userId)
+                .userName(userCache.get(userId).getName())
+                .status(OrderStatus.PENDING)
+                .totalAmount(totalAmount)
+                .finalAmount(finalAmount)
+                .recipientName(request.getRecipientName())
+                .recipientPhone(request.getRecipientPhone())
+                .address(request.getAddress())
+                .items(lines.stream()
+                        .map(line -> OrderItemDto.builder()
+                                .id(itemIds.get(line.getProductId()))
+                                .productId(line.getProductId())
+                                .productName(line.getProductName())
+                                .sellerId(line.getSellerId())
+                                .price(line.getPrice())
+                                .quantity(line.getQuantity())
+                                .subtotal(line.getSubtotal())
+                                .createdAt(now)
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
     }
 
     /**
      * 내 주문 목록 조회
      */
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getMyOrders(String email, Pageable pageable) {
-        log.info("내 주문 목록 조회: email={}, page={}", email, pageable.getPageNumber());
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public Page<OrderResponse> getMyOrders(Long userId, Pageable pageable) {
+        log.info("내 주문 목록 조회: userId={}, page={}", userId, pageable.getPageNumber());
 
-        Page<Order> orders = orderRepository.findByUserId(user.getId(), pageable);
+        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
 
-        return orders.map(OrderResponse::from);
+        String userName = userCache.get(userId).getName();
+        return orders.map(order -> OrderResponse.from(order, userName));
     }
 
     /**
      * 주문 상세 조회
      */
     @Transactional(readOnly = true)
-    public OrderResponse getOrderById(String email, Long id) {
-        log.info("주문 상세 조회: email={}, orderId={}", email, id);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public OrderResponse getOrderById(Long userId, Long id) {
+        log.info("주문 상세 조회: userId={}, orderId={}", userId, id);
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         // 본인 주문인지 확인
-        if (!order.getUser().getId().equals(user.getId())) {
+        if (!order.getUser().getId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.ACCESS_DENIED, "본인의 주문만 조회할 수 있습니다");
         }
 
-        return OrderResponse.from(order);
+        return OrderResponse.from(order, userCache.get(userId).getName());
     }
 
     /**
      * 주문 정보 수정 (배송 정보만)
      */
     @Transactional
-    public OrderResponse updateOrder(String email, Long id, OrderUpdateRequest request) {
-        log.info("주문 정보 수정: email={}, orderId={}", email, id);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public OrderResponse updateOrder(Long userId, Long id, OrderUpdateRequest request) {
+        log.info("주문 정보 수정: userId={}, orderId={}", userId, id);
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         // 본인 주문인지 확인
-        if (!order.getUser().getId().equals(user.getId())) {
+        if (!order.getUser().getId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.ACCESS_DENIED, "본인의 주문만 수정할 수 있습니다");
         }
 
@@ -209,24 +318,21 @@ public class OrderService {
         Order updatedOrder = orderRepository.save(order);
         log.info("주문 정보 수정 완료: orderId={}", updatedOrder.getId());
 
-        return OrderResponse.from(updatedOrder);
+        return OrderResponse.from(updatedOrder, userCache.get(userId).getName());
     }
 
     /**
      * 주문 취소
      */
     @Transactional
-    public void cancelOrder(String email, Long id) {
-        log.info("주문 취소: email={}, orderId={}", email, id);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public void cancelOrder(Long userId, Long id) {
+        log.info("주문 취소: userId={}, orderId={}", userId, id);
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         // 본인 주문인지 확인
-        if (!order.getUser().getId().equals(user.getId())) {
+        if (!order.getUser().getId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.ACCESS_DENIED, "본인의 주문만 취소할 수 있습니다");
         }
 
@@ -248,19 +354,38 @@ public class OrderService {
                 product.setStock(product.getStock() + orderItem.getQuantity());
                 product.setSalesCount(product.getSalesCount() - orderItem.getQuantity());
                 productRepository.save(product);
+                productCardService.evict(product.getId());
             }
         }
 
+        // 사용한 쿠폰 복구
+        couponRedemptionService.restore(order.getId());
+
         // 사용자 누적 구매액 차감
-        user.setTotalPurchaseAmount(
-                user.getTotalPurchaseAmount().subtract(order.getTotalAmount())
-        );
-        userRepository.save(user);
+        orderJdbcRepository.addPurchaseAmount(userId, order.getTotalAmount().negate());
 
         orderRepository.save(order);
         log.info("주문 취소 완료: orderId={}", id);
     }
 
+    /**
+     * 결제된 상품을 장바구니에서 삭제
+     */
+    private void clearCheckedOutItems(Long userId, List<Long> productIds) {
+        if (!redisCartStore.isEnabled()) {
+            cartItemJdbcRepository.deleteProducts(userId, productIds);
+            return;
+        }
+
+        // Redis 장바구니는 커밋 후 제거 (DB 반영은 장바구니 동기화가 처리)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisCartStore.remove(userId, productIds);
+            }
+        });
+    }
+
     /**
      * 주문 번호 생성
      */
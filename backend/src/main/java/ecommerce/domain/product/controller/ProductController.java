@@ -1,5 +1,6 @@
 package ecommerce.domain.product.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.product.dto.*;
 import ecommerce.domain.product.service.ProductService;
 import ecommerce.domain.review.dto.ReviewResponse;
@@ -41,11 +42,11 @@ public class ProductController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (판매자 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음", content = @Content)
     public ResponseEntity<ProductResponse> createProduct(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody ProductRequest request
     ) {
-        log.info("POST /api/products - email: {}, name: {}", email, request.getName());
-        ProductResponse response = productService.createProduct(email, request);
+        log.info("POST /api/products - userId: {}, name: {}", principal.getUserId(), request.getName());
+        ProductResponse response = productService.createProduct(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -57,11 +58,11 @@ public class ProductController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
     public ResponseEntity<Page<ProductResponse>> getMyProducts(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        log.info("GET /api/products/my - email: {}", email);
-        Page<ProductResponse> response = productService.getMyProducts(email, pageable);
+        log.info("GET /api/products/my - userId: {}", principal.getUserId());
+        Page<ProductResponse> response = productService.getMyProducts(principal.getUserId(), pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -117,12 +118,12 @@ public class ProductController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 상품 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     public ResponseEntity<ProductResponse> updateProduct(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody ProductRequest request
     ) {
-        log.info("PUT /api/products/{} - email: {}", id, email);
-        ProductResponse response = productService.updateProduct(email, id, request);
+        log.info("PUT /api/products/{} - userId: {}", id, principal.getUserId());
+        ProductResponse response = productService.updateProduct(principal.getUserId(), id, request);
         return ResponseEntity.ok(response);
     }
 
@@ -135,11 +136,11 @@ public class ProductController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 상품 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     public ResponseEntity<Void> deleteProduct(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id
     ) {
-        log.info("DELETE /api/products/{} - email: {}", id, email);
-        productService.deleteProduct(email, id);
+        log.info("DELETE /api/products/{} - userId: {}", id, principal.getUserId());
+        productService.deleteProduct(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 
@@ -177,12 +178,12 @@ public class ProductController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 상품 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     public ResponseEntity<ProductResponse> updateStock(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody StockUpdateRequest request
     ) {
-        log.info("PUT /api/products/{}/stock - email: {}, stock: {}", id, email, request.getQuantity());
-        ProductResponse response = productService.updateStock(email, id, request);
+        log.info("PUT /api/products/{}/stock - userId: {}, stock: {}", id, principal.getUserId(), request.getQuantity());
+        ProductResponse response = productService.updateStock(principal.getUserId(), id, request);
         return ResponseEntity.ok(response);
     }
 
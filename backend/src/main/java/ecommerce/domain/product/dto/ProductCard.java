@@ -0,0 +1,55 @@
+package ecommerce.domain.product.dto;
+
+import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.product.enums.ProductStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 카드 (Redis 에 JSON 으로 캐시, 재입고 투표/장바구니 화면에 사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 카드")
+public class ProductCard {
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "판매자 ID", example = "1")
+    private Long sellerId;
+
+    @Schema(description = "상품명", example = "무선 이어폰")
+    private String name;
+
+    @Schema(description = "가격", example = "59000")
+    private BigDecimal price;
+
+    @Schema(description = "재고", example = "0")
+    private Integer stock;
+
+    @Schema(description = "이미지 URL")
+    private String imageUrl;
+
+    @Schema(description = "상품 상태", example = "ACTIVE")
+    private ProductStatus status;
+
+    public static ProductCard from(Product product) {
+        return ProductCard.builder()
+                .productId(product.getId())
+                .sellerId(product.getSeller().getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .imageUrl(product.getImageUrl())
+                .status(product.getStatus())
+                .build();
+    }
+}
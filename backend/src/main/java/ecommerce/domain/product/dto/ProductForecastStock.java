@@ -0,0 +1,22 @@
+package ecommerce.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 상품 수요 예측값 + 현재 재고/판매자 사용자 정보 (재고 소진 예측용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductForecastStock {
+
+    private Long productId;
+    private String productName;
+    private Integer stock;
+    private Long sellerUserId;
+    private Double ewmaDailyUnits;
+    private Double ewmaVariance;
+    private LocalDate lastObservedDate;
+}
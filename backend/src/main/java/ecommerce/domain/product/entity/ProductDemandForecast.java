@@ -0,0 +1,77 @@
+package ecommerce.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 일 판매량 수요 예측 (지수가중이동평균/분산)
+ * 상품당 한 행만 유지하며 일별 롤업으로 O(1) 갱신
+ */
+@Entity
+@Table(name = "product_demand_forecasts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductDemandForecast implements Persistable<Long> {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 일 판매량 EWMA
+    @Column(name = "ewma_daily_units", nullable = false)
+    private double ewmaDailyUnits;
+
+    // 일 판매량 EW 분산
+    @Column(name = "ewma_variance", nullable = false)
+    private double ewmaVariance;
+
+    // 마지막으로 반영된 판매일
+    @Column(name = "last_observed_date", nullable = false)
+    private LocalDate lastObservedDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 신규 행 여부 (ID 를 직접 지정하므로 merge 전 SELECT 를 피하기 위해 사용)
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    /**
+     * 첫 판매일 관측값으로 예측 행 생성
+     */
+    public static ProductDemandForecast start(Long productId, double units, LocalDate date) {
+        return ProductDemandForecast.builder()
+                .productId(productId)
+                .ewmaDailyUnits(units)
+                .ewmaVariance(0.0)
+                .lastObservedDate(date)
+                .newEntity(true)
+                .build();
+    }
+
+    @Override
+    public Long getId() {
+        return productId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
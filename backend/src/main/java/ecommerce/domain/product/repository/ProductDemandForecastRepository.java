@@ -0,0 +1,41 @@
+package ecommerce.domain.product.repository;
+
+import ecommerce.domain.product.dto.ProductForecastStock;
+import ecommerce.domain.product.entity.ProductDemandForecast;
+import ecommerce.domain.product.enums.ProductStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductDemandForecastRepository extends JpaRepository<ProductDemandForecast, Long> {
+
+    /**
+     * 수요 예측값이 있는 재고 보유 상품 조회 (상품 ID 키셋 청크: afterProductId < id <= toProductId)
+     * 주문 이력을 스캔하지 않고 예측 테이블과 상품/판매자만 조인
+     */
+    @Query("SELECT new ecommerce.domain.product.dto.ProductForecastStock(" +
+            "p.id, p.name, p.stock, s.user.id, f.ewmaDailyUnits, f.ewmaVariance, f.lastObservedDate) " +
+            "FROM ProductDemandForecast f JOIN Product p ON p.id = f.productId JOIN p.seller s " +
+            "WHERE p.status = :status AND p.stock > 0 " +
+            "AND p.id > :afterProductId AND p.id <= :toProductId " +
+            "ORDER BY p.id")
+    List<ProductForecastStock> findForecastStockAfter(
+            @Param("status") ProductStatus status,
+            @Param("afterProductId") Long afterProductId,
+            @Param("toProductId") Long toProductId,
+            Pageable pageable
+    );
+
+    /**
+     * 롤업이 반영된 가장 최근 날짜 (예측값이 없으면 비어 있음)
+     */
+    @Query("SELECT MAX(f.lastObservedDate) FROM ProductDemandForecast f")
+    Optional<LocalDate> findLatestObservedDate();
+}
@@ -0,0 +1,199 @@
+package ecommerce.domain.product.service;
+
+import ecommerce.domain.order.dto.ProductUnitsSold;
+import ecommerce.domain.order.repository.OrderItemRepository;
+import ecommerce.domain.product.entity.ProductDemandForecast;
+import ecommerce.domain.product.repository.ProductDemandForecastRepository;
+import ecommerce.domain.product.repository.ProductRepository;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
+import ecommerce.infrastructure.batch.JobProgress;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 수요 예측 서비스 (일 판매량 EWMA)
+ *
+ * 갱신식 (관측값 x, 평활 계수 α):
+ *   diff = x - mean
+ *   mean = mean + α * diff
+ *   var  = (1 - α) * (var + α * diff²)
+ *
+ * 판매가 없던 날은 롤업에 나타나지 않으므로 다음 관측 시(또는 조회 시) 0 관측으로 지연 반영
+ *
+ * 롤업은 가장 최근 반영일부터 어제까지 날짜 순서로 따라잡음 (누락된 날의 판매가 0 으로 굳지 않도록)
+ * 예측값이 하나도 없으면 최근 backfill-days 일치 주문 이력으로 초기화
+ */
+@Slf4j
+@Service
+public class DemandForecastService {
+
+    private static final String JOB_NAME = "demand-forecast-rollup";
+    private static final int CHUNK_SIZE = 500;
+    // 이 기간 이상 판매가 없으면 추가 감쇠는 의미가 없으므로 상한을 둠
+    private static final int MAX_DECAY_DAYS = 90;
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductDemandForecastRepository forecastRepository;
+    private final ProductRepository productRepository;
+    private final ChunkJobRunner chunkJobRunner;
+    private final double alpha;
+    private final int backfillDays;
+
+    public DemandForecastService(OrderItemRepository orderItemRepository,
+                                 ProductDemandForecastRepository forecastRepository,
+                                 ProductRepository productRepository,
+                                 ChunkJobRunner chunkJobRunner,
+                                 @Value("${forecast.alpha:0.3}") double alpha,
+                                 @Value("${forecast.backfill-days:28}") int backfillDays) {
+        this.orderItemRepository = orderItemRepository;
+        this.forecastRepository = forecastRepository;
+        this.productRepository = productRepository;
+        this.chunkJobRunner = chunkJobRunner;
+        this.alpha = alpha;
+        this.backfillDays = Math.max(1, backfillDays);
+    }
+
+    /**
+     * 반영되지 않은 날을 through 까지 날짜 순서로 롤업
+     * - 시작일: 가장 최근 반영일 (일부 청크만 반영된 채 중단된 날을 마저 반영, 이미 반영된 상품은 무시됨)
+     * - 예측값이 없거나 마지막 반영일이 너무 오래되었으면 최근 backfill-days 일부터
+     * 한 날짜라도 실패하면 예외를 던져 이후 날짜를 건너뜀 (이후 날짜를 먼저 반영하면 실패한 날은 다시 반영할 수 없음)
+     *
+     * @return 롤업한 날짜 수
+     */
+    public int catchUp(LocalDate through) {
+        LocalDate earliest = through.minusDays(backfillDays - 1L);
+        LocalDate from = forecastRepository.findLatestObservedDate()
+                .filter(latest -> !latest.isBefore(earliest))
+                .orElse(earliest);
+
+        if (from.isAfter(through)) {
+            return 0;
+        }
+
+        log.info("수요 예측 롤업 따라잡기: {} ~ {}", from, through);
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(through); day = day.plusDays(1)) {
+            applyDailyRollup(day);
+            days++;
+        }
+        return days;
+    }
+
+    /**
+     * 하루치 판매량을 예측값에 반영 (같은 날짜를 다시 반영해도 무시되므로 재실행 안전)
+     * 상품 ID 키셋 청크 단위로 집계/반영하며, 중단되면 같은 날짜 재실행 시 체크포인트부터 재개
+     *
+     * @return 갱신된 상품 수
+     */
+    public int applyDailyRollup(LocalDate day) {
+        LocalDateTime fromDate = day.atStartOfDay();
+        LocalDateTime toDate = day.plusDays(1).atStartOfDay();
+
+        ChunkJob<ProductUnitsSold, ProductUnitsSold> job = ChunkJob.<ProductUnitsSold, ProductUnitsSold>builder()
+                .name(JOB_NAME)
+                .runId(day.toString())
+                .minId(1L)
+                .maxId(productRepository.findMaxId())
+                .chunkSize(CHUNK_SIZE)
+                .reader((afterId, toId, limit) -> orderItemRepository.sumUnitsSoldByProductBetween(
+                        fromDate, toDate, afterId, toId, PageRequest.of(0, limit)))
+                .keyExtractor(ProductUnitsSold::getProductId)
+                .processor(Function.identity())
+                .writer(chunk -> applyChunk(chunk, day))
+                .build();
+
+        JobProgress progress = chunkJobRunner.run(job);
+
+        log.info("수요 예측 롤업 완료: day={}, 판매 상품={}개", day, progress.getReadCount());
+        return (int) progress.getReadCount();
+    }
+
+    private void applyChunk(List<ProductUnitsSold> chunk, LocalDate day) {
+        Map<Long, ProductDemandForecast> existing = forecastRepository.findAllById(
+                        chunk.stream().map(ProductUnitsSold::getProductId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ProductDemandForecast::getProductId, Function.identity()));
+
+        List<ProductDemandForecast> changed = new ArrayList<>(chunk.size());
+        for (ProductUnitsSold row : chunk) {
+            ProductDemandForecast forecast = existing.get(row.getProductId());
+            if (forecast == null) {
+                changed.add(ProductDemandForecast.start(row.getProductId(), row.getUnitsSold(), day));
+            } else if (observe(forecast, row.getUnitsSold(), day)) {
+                changed.add(forecast);
+            }
+        }
+
+        forecastRepository.saveAll(changed);
+    }
+
+    /**
+     * 관측값 반영 (이미 반영된 날짜 이전이면 무시)
+     *
+     * @return 반영했으면 true
+     */
+    boolean observe(ProductDemandForecast forecast, double units, LocalDate day) {
+        if (!day.isAfter(forecast.getLastObservedDate())) {
+            return false;
+        }
+
+        long zeroDays = ChronoUnit.DAYS.between(forecast.getLastObservedDate(), day) - 1;
+        double[] state = decay(forecast.getEwmaDailyUnits(), forecast.getEwmaVariance(), zeroDays);
+        update(state, units);
+
+        forecast.setEwmaDailyUnits(state[0]);
+        forecast.setEwmaVariance(state[1]);
+        forecast.setLastObservedDate(day);
+        return true;
+    }
+
+    /**
+     * asOf 기준 예측값 (마지막 관측 이후 판매 없는 날을 0 으로 반영)
+     */
+    public DemandEstimate estimate(double mean, double variance, LocalDate lastObservedDate, LocalDate asOf) {
+        long zeroDays = Math.max(0, ChronoUnit.DAYS.between(lastObservedDate, asOf));
+        double[] state = decay(mean, variance, zeroDays);
+        return new DemandEstimate(state[0], Math.sqrt(Math.max(0.0, state[1])));
+    }
+
+    private double[] decay(double mean, double variance, long zeroDays) {
+        double[] state = {mean, variance};
+        long days = Math.min(zeroDays, MAX_DECAY_DAYS);
+        for (long i = 0; i < days; i++) {
+            update(state, 0.0);
+        }
+        return state;
+    }
+
+    private void update(double[] state, double x) {
+        double diff = x - state[0];
+        double increment = alpha * diff;
+        state[0] += increment;
+        state[1] = (1 - alpha) * (state[1] + diff * increment);
+    }
+
+    /**
+     * 일 판매량 예측 (평균, 표준편차)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DemandEstimate {
+        private final double dailyMean;
+        private final double dailyStdDev;
+    }
+}
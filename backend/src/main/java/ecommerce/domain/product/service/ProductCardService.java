@@ -0,0 +1,128 @@
+package ecommerce.domain.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.product.dto.ProductCard;
+import ecommerce.domain.product.repository.ProductRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품 카드 캐시 (cache-aside, 10분 TTL)
+ * 재입고 투표 경로의 상품 확인/투표 순위 상품 정보, 장바구니 조회에 함께 사용
+ * 상품 수정/삭제/재고 변경 시 커밋 후 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCardService {
+
+    public static final String CARD_KEY_PREFIX = "product:card:";
+    private static final long CARD_TTL = 600L; // 10분
+
+    private final ProductRepository productRepository;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    public static String cardKey(Long productId) {
+        return CARD_KEY_PREFIX + productId;
+    }
+
+    /**
+     * 상품 카드 조회 (캐시 미스일 때만 DB 조회)
+     */
+    public ProductCard getCard(Long productId) {
+        ProductCard cached = parse(redisService.getStringValue(cardKey(productId)));
+        if (cached != null) {
+            return cached;
+        }
+
+        ProductCard card = productRepository.findById(productId)
+                .map(ProductCard::from)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        String json = toJson(card);
+        if (json != null) {
+            redisService.setStringValue(cardKey(productId), json, CARD_TTL);
+        }
+        return card;
+    }
+
+    /**
+     * 캐시에 없는 상품 카드 일괄 로딩 후 캐시 (삭제된 상품은 결과에 없음)
+     */
+    public Map<Long, ProductCard> loadCards(Collection<Long> productIds) {
+        Map<Long, ProductCard> cards = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return cards;
+        }
+
+        productRepository.findAllById(productIds)
+                .forEach(product -> cards.put(product.getId(), ProductCard.from(product)));
+
+        Map<String, String> values = new HashMap<>();
+        cards.forEach((productId, card) -> {
+            String json = toJson(card);
+            if (json != null) {
+                values.put(cardKey(productId), json);
+            }
+        });
+
+        redisService.executePipelined(connection ->
+                values.forEach((key, json) -> connection.setEx(key, CARD_TTL, json)));
+
+        log.debug("상품 카드 캐시 적재: 요청={}개, 적재={}개", productIds.size(), cards.size());
+        return cards;
+    }
+
+    /**
+     * 상품 카드 무효화 (트랜잭션 안이면 커밋 후, 다음 조회 때 DB 에서 다시 적재)
+     */
+    public void evict(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisService.delete(cardKey(productId));
+                }
+            });
+        } else {
+            redisService.delete(cardKey(productId));
+        }
+    }
+
+    /**
+     * 캐시된 JSON → 카드 (없거나 형식 오류면 null)
+     */
+    public ProductCard parse(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, ProductCard.class);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 카드 캐시 형식 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String toJson(ProductCard card) {
+        try {
+            return objectMapper.writeValueAsString(card);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 카드 직렬화 실패: productId={}", card.getProductId(), e);
+            return null;
+        }
+    }
+}
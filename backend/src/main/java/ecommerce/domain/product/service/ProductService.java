@@ -1,9 +1,11 @@
 package ecommerce.domain.product.service;
 
 import ecommerce.common.enums.Role;
+import ecommerce.common.exception.BusinessException;
 import ecommerce.common.exception.ErrorCode;
 import ecommerce.common.exception.ForbiddenException;
 import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.common.exception.UnprocessableEntityException;
 import ecommerce.domain.category.entity.Category;
 import ecommerce.domain.category.repository.CategoryRepository;
 import ecommerce.domain.product.dto.*;
@@ -16,13 +18,13 @@ import ecommerce.domain.review.entity.Review;
 import ecommerce.domain.review.repository.ReviewRepository;
 import ecommerce.domain.seller.entity.Seller;
 import ecommerce.domain.seller.repository.SellerRepository;
-import ecommerce.domain.user.entity.User;
-import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.domain.user.service.UserCache;
 import ecommerce.domain.restock.event.ProductRestockedEvent;
 import ecommerce.infrastructure.naver.NaverShoppingApiClient;
+import ecommerce.infrastructure.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +33,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -39,24 +46,23 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final SellerRepository sellerRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ReviewRepository reviewRepository;
     private final NaverShoppingApiClient naverShoppingApiClient;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPublisher outboxPublisher;
+    private final ProductCardService productCardService;
+
+    private static final long NAVER_API_TIMEOUT_SECONDS = 5L;
 
     /**
      * 상품 생성
      */
     @Transactional
-    public ProductResponse createProduct(String email, ProductRequest request) {
-        log.info("상품 생성 시도: email={}, name={}", email, request.getName());
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public ProductResponse createProduct(Long userId, ProductRequest request) {
+        log.info("상품 생성 시도: userId={}, name={}", userId, request.getName());
 
         // 판매자 조회
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // 카테고리 조회 (선택사항)
@@ -89,15 +95,11 @@ public class ProductService {
      * 내 상품 목록 조회 (판매자)
      */
     @Transactional(readOnly = true)
-    public Page<ProductResponse> getMyProducts(String email, Pageable pageable) {
-        log.info("내 상품 목록 조회: email={}", email);
-
-        // User 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public Page<ProductResponse> getMyProducts(Long userId, Pageable pageable) {
+        log.info("내 상품 목록 조회: userId={}", userId);
 
         // Seller 조회
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // Seller의 상품 목록 조회
@@ -162,20 +164,16 @@ public class ProductService {
      * 상품 수정
      */
     @Transactional
-    public ProductResponse updateProduct(String email, Long productId, ProductRequest request) {
-        log.info("상품 수정 시도: email={}, productId={}", email, productId);
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public ProductResponse updateProduct(Long userId, Long productId, ProductRequest request) {
+        log.info("상품 수정 시도: userId={}, productId={}", userId, productId);
 
         // 상품 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 권한 확인 (본인 상품인지 또는 관리자인지)
-        if (!product.getSeller().getUser().getId().equals(user.getId()) &&
-                !user.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (!product.getSeller().getUser().getId().equals(userId) &&
+                !userCache.get(userId).hasRole(Role.ROLE_ADMIN)) {
             throw new ForbiddenException(ErrorCode.FORBIDDEN);
         }
 
@@ -209,13 +207,14 @@ public class ProductService {
         }
 
         Product updatedProduct = productRepository.save(product);
+        productCardService.evict(productId);
         log.info("상품 수정 완료: productId={}", updatedProduct.getId());
 
-        // 재입고 이벤트 발행 (재고가 0 → 1+ 변경된 경우만)
+        // 재입고 이벤트 발행 (재고가 0 → 1+ 변경된 경우만, 같은 트랜잭션으로 아웃박스에 기록)
         if (request.getStock() != null && previousStock == 0 && request.getStock() > 0) {
             log.info("재입고 이벤트 발행 (updateProduct): productId={}, previousStock={}, currentStock={}",
                     productId, previousStock, request.getStock());
-            eventPublisher.publishEvent(new ProductRestockedEvent(
+            outboxPublisher.publish(productId, new ProductRestockedEvent(
                     productId,
                     previousStock,
                     request.getStock()
@@ -229,24 +228,21 @@ public class ProductService {
      * 상품 삭제
      */
     @Transactional
-    public void deleteProduct(String email, Long productId) {
-        log.info("상품 삭제 시도: email={}, productId={}", email, productId);
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public void deleteProduct(Long userId, Long productId) {
+        log.info("상품 삭제 시도: userId={}, productId={}", userId, productId);
 
         // 상품 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 권한 확인 (본인 상품인지 또는 관리자인지)
-        if (!product.getSeller().getUser().getId().equals(user.getId()) &&
-                !user.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (!product.getSeller().getUser().getId().equals(userId) &&
+                !userCache.get(userId).hasRole(Role.ROLE_ADMIN)) {
             throw new ForbiddenException(ErrorCode.FORBIDDEN);
         }
 
         productRepository.delete(product);
+        productCardService.evict(productId);
         log.info("상품 삭제 완료: productId={}", productId);
     }
 
@@ -254,21 +250,17 @@ public class ProductService {
      * 재고 업데이트
      */
     @Transactional
-    public ProductResponse updateStock(String email, Long productId, StockUpdateRequest request) {
-        log.info("재고 업데이트 요청: email={}, productId={}, newStock={}",
-                email, productId, request.getQuantity());
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public ProductResponse updateStock(Long userId, Long productId, StockUpdateRequest request) {
+        log.info("재고 업데이트 요청: userId={}, productId={}, newStock={}",
+                userId, productId, request.getQuantity());
 
         // 상품 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 권한 확인
-        if (!product.getSeller().getUser().getId().equals(user.getId()) &&
-                !user.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (!product.getSeller().getUser().getId().equals(userId) &&
+                !userCache.get(userId).hasRole(Role.ROLE_ADMIN)) {
             throw new ForbiddenException(ErrorCode.FORBIDDEN);
         }
 
@@ -280,13 +272,14 @@ public class ProductService {
         product.setStatus(request.getQuantity() > 0 ? ProductStatus.ACTIVE : ProductStatus.OUT_OF_STOCK);
 
         Product updatedProduct = productRepository.save(product);
+        productCardService.evict(productId);
         log.info("재고 업데이트 완료: productId={}, newStock={}", productId, request.getQuantity());
 
-        // 재입고 이벤트 발행 (재고가 0 → 1+ 변경된 경우만)
+        // 재입고 이벤트 발행 (재고가 0 → 1+ 변경된 경우만, 같은 트랜잭션으로 아웃박스에 기록)
         if (previousStock == 0 && request.getQuantity() > 0) {
             log.info("재입고 이벤트 발행: productId={}, previousStock={}, currentStock={}",
                     productId, previousStock, request.getQuantity());
-            eventPublisher.publishEvent(new ProductRestockedEvent(
+            outboxPublisher.publish(productId, new ProductRestockedEvent(
                     productId,
                     previousStock,
                     request.getQuantity()
@@ -317,7 +310,31 @@ public class ProductService {
      */
     public NaverProductSearchResponse searchNaverProducts(String query, int start, int display) {
         log.info("네이버 쇼핑 검색: query={}, start={}, display={}", query, start, display);
-        return naverShoppingApiClient.searchProducts(query, start, display);
+
+        Future<NaverProductSearchResponse> future = null;
+        try {
+            // 외부 API 실행기에서 호출하고 응답 대기 시간을 제한 (요청 스레드가 무기한 묶이지 않도록)
+            future = naverShoppingApiClient.searchProductsAsync(query, start, display);
+            return future.get(NAVER_API_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        } catch (TaskRejectedException e) {
+            log.warn("네이버 쇼핑 API 실행기 포화로 요청 거부: query={}", query);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "외부 API 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        } catch (TimeoutException e) {
+            // 응답을 기다리지 않을 작업이 실행기 슬롯을 계속 점유하지 않도록 인터럽트
+            future.cancel(true);
+            log.warn("네이버 쇼핑 API 응답 시간 초과: query={}", query);
+            throw new UnprocessableEntityException(ErrorCode.EXTERNAL_API_ERROR, "네이버 쇼핑 API 응답 시간이 초과되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new UnprocessableEntityException(ErrorCode.EXTERNAL_API_ERROR, "네이버 쇼핑 API 호출에 실패했습니다");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UnprocessableEntityException(ErrorCode.EXTERNAL_API_ERROR, "네이버 쇼핑 API 호출이 중단되었습니다");
+        }
     }
 
     /**
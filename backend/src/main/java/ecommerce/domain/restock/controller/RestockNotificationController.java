@@ -1,5 +1,6 @@
 package ecommerce.domain.restock.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.restock.dto.RestockNotificationRequest;
 import ecommerce.domain.restock.dto.RestockNotificationResponse;
 import ecommerce.domain.restock.service.RestockNotificationService;
@@ -14,7 +15,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Restock Notifications", description = "재입고 알림 API")
@@ -30,9 +31,8 @@ public class RestockNotificationController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<RestockNotificationResponse> subscribeRestock(
             @Valid @RequestBody RestockNotificationRequest request,
-            Authentication authentication) {
-        String email = authentication.getName();
-        RestockNotificationResponse response = restockNotificationService.subscribeRestock(email, request);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        RestockNotificationResponse response = restockNotificationService.subscribeRestock(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -41,9 +41,8 @@ public class RestockNotificationController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Page<RestockNotificationResponse>> getMySubscriptions(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
-        String email = authentication.getName();
-        Page<RestockNotificationResponse> notifications = restockNotificationService.getMySubscriptions(email, pageable);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        Page<RestockNotificationResponse> notifications = restockNotificationService.getMySubscriptions(principal.getUserId(), pageable);
         return ResponseEntity.ok(notifications);
     }
 
@@ -53,9 +52,8 @@ public class RestockNotificationController {
     public ResponseEntity<Page<RestockNotificationResponse>> getProductSubscriptions(
             @PathVariable Long productId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
-        String email = authentication.getName();
-        Page<RestockNotificationResponse> notifications = restockNotificationService.getProductSubscriptions(email, productId, pageable);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        Page<RestockNotificationResponse> notifications = restockNotificationService.getProductSubscriptions(principal.getUserId(), productId, pageable);
         return ResponseEntity.ok(notifications);
     }
 
@@ -64,9 +62,8 @@ public class RestockNotificationController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Void> unsubscribeRestock(
             @PathVariable Long id,
-            Authentication authentication) {
-        String email = authentication.getName();
-        restockNotificationService.unsubscribeRestock(email, id);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        restockNotificationService.unsubscribeRestock(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
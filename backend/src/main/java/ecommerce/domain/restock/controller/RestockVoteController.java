@@ -1,7 +1,11 @@
 package ecommerce.domain.restock.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
+import ecommerce.domain.restock.dto.RestockLeaderboardEntry;
 import ecommerce.domain.restock.dto.RestockVoteRequest;
 import ecommerce.domain.restock.dto.RestockVoteResponse;
+import ecommerce.domain.restock.dto.RestockVoteResult;
+import ecommerce.domain.restock.service.RestockLeaderboardService;
 import ecommerce.domain.restock.service.RestockVoteService;
 import ecommerce.infrastructure.redis.RedisService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,11 +18,14 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.Map;
+
 @Tag(name = "Restock Votes", description = "재입고 투표 API")
 @RestController
 @RequestMapping("/api/restock-votes")
@@ -26,18 +33,17 @@ import jakarta.validation.Valid;
 public class RestockVoteController {
 
     private final RestockVoteService restockVoteService;
+    private final RestockLeaderboardService restockLeaderboardService;
     private final RedisService redisService;
 
-    private static final String VOTE_COUNT_KEY_PREFIX = "restock:vote:count:";
-
-    @Operation(summary = "재입고 투표", description = "상품에 대한 재입고 투표를 생성합니다")
+    @Operation(summary = "재입고 투표",
+            description = "상품에 대한 재입고 투표를 생성합니다. 투표는 Redis 에 즉시 반영되고 DB 에는 배치로 저장됩니다.")
     @PostMapping
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<RestockVoteResponse> voteForRestock(
+    public ResponseEntity<RestockVoteResult> voteForRestock(
             @Valid @RequestBody RestockVoteRequest request,
-            Authentication authentication) {
-        String email = authentication.getName();
-        RestockVoteResponse response = restockVoteService.voteForRestock(email, request);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        RestockVoteResult response = restockVoteService.voteForRestock(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -46,9 +52,8 @@ public class RestockVoteController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Page<RestockVoteResponse>> getMyVotes(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
-        String email = authentication.getName();
-        Page<RestockVoteResponse> votes = restockVoteService.getMyVotes(email, pageable);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        Page<RestockVoteResponse> votes = restockVoteService.getMyVotes(principal.getUserId(), pageable);
         return ResponseEntity.ok(votes);
     }
 
@@ -70,37 +75,51 @@ public class RestockVoteController {
             description = "Redis에서 실시간 재입고 투표수를 조회합니다. 재입고 시 즉시 0으로 초기화됩니다.")
     @GetMapping("/products/{productId}/count")
     public ResponseEntity<Long> getVoteCount(@PathVariable Long productId) {
-        String countKey = VOTE_COUNT_KEY_PREFIX + productId;
-        Object countValue = redisService.getValue(countKey);
+        String countValue = redisService.getStringValue(RestockVoteService.countKey(productId));
 
         Long count = 0L;
-
         if (countValue != null) {
-            // Redis에서 가져온 값의 타입에 따라 처리
-            if (countValue instanceof String) {
-                try {
-                    count = Long.parseLong((String) countValue);
-                } catch (NumberFormatException e) {
-                    count = 0L;
-                }
-            } else if (countValue instanceof Long) {
-                count = (Long) countValue;
-            } else if (countValue instanceof Integer) {
-                count = ((Integer) countValue).longValue();
+            try {
+                count = Long.parseLong(countValue);
+            } catch (NumberFormatException e) {
+                count = 0L;
             }
         }
 
         return ResponseEntity.ok(count);
     }
 
+    @Operation(summary = "상품별 투표수 일괄 조회 (Redis)",
+            description = "여러 상품의 실시간 재입고 투표수를 한 번에 조회합니다 (최대 100개, 투표가 없으면 0)")
+    @GetMapping("/products/counts")
+    public ResponseEntity<Map<Long, Long>> getVoteCounts(@RequestParam List<Long> productIds) {
+        return ResponseEntity.ok(restockLeaderboardService.getVoteCounts(productIds));
+    }
+
+    @Operation(summary = "재입고 투표 순위", description = "재입고 투표가 가장 많은 상품 순위를 상품 정보와 함께 조회합니다")
+    @GetMapping("/leaderboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RestockLeaderboardEntry>> getLeaderboard(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(restockLeaderboardService.getLeaderboard(limit));
+    }
+
+    @Operation(summary = "내 상품 재입고 투표 순위", description = "판매자 본인 상품의 재입고 투표 순위를 조회합니다")
+    @GetMapping("/leaderboard/my")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    public ResponseEntity<List<RestockLeaderboardEntry>> getMyLeaderboard(
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(restockLeaderboardService.getMyLeaderboard(principal.getUserId(), limit));
+    }
+
     @Operation(summary = "투표 취소", description = "재입고 투표를 취소합니다")
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Void> cancelVote(
             @PathVariable Long id,
-            Authentication authentication) {
-        String email = authentication.getName();
-        restockVoteService.cancelVote(email, id);
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        restockVoteService.cancelVote(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package ecommerce.domain.restock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품별 재입고 투표수 집계 (Redis 카운터 보정용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductVoteCount {
+
+    private Long productId;
+    private Long sellerId;
+    private Long voteCount;
+}
@@ -0,0 +1,31 @@
+package ecommerce.domain.restock.dto;
+
+import ecommerce.domain.product.dto.ProductCard;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재입고 투표 순위 항목
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재입고 투표 순위 항목")
+public class RestockLeaderboardEntry {
+
+    @Schema(description = "순위 (1부터)", example = "1")
+    private int rank;
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "투표수", example = "128")
+    private Long voteCount;
+
+    @Schema(description = "상품 카드 (삭제된 상품이면 null)")
+    private ProductCard product;
+}
@@ -0,0 +1,28 @@
+package ecommerce.domain.restock.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재입고 투표 결과
+ * 투표는 Redis 에 먼저 반영되고 DB 에는 배치로 저장되므로 투표 ID 대신 현재 투표수를 반환
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재입고 투표 결과")
+public class RestockVoteResult {
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "현재 투표수", example = "12")
+    private Long voteCount;
+
+    @Schema(description = "이번 투표로 관리자 알림 임계값에 도달했는지 여부", example = "false")
+    private boolean thresholdReached;
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(name = "unique_restock_notification", columnNames = {"product_id", "user_id"})
         },
         indexes = {
-                @Index(name = "idx_restock_notifications_product_user", columnList = "product_id, user_id")
+                @Index(name = "idx_restock_notifications_product_user", columnList = "product_id, user_id"),
+                @Index(name = "idx_restock_notifications_product_id", columnList = "product_id, is_notified, id")
         }
 )
 @Getter
@@ -2,8 +2,10 @@ package ecommerce.domain.restock.event;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ProductRestockedEvent {
     private Long productId;
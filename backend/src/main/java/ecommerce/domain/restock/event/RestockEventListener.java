@@ -2,39 +2,39 @@ package ecommerce.domain.restock.event;
 
 import ecommerce.domain.product.entity.Product;
 import ecommerce.domain.product.repository.ProductRepository;
-import ecommerce.domain.restock.repository.RestockVoteRepository;
-import ecommerce.infrastructure.redis.RedisService;
+import ecommerce.domain.restock.service.RestockVoteService;
+import ecommerce.infrastructure.outbox.OutboxEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
 
 /**
  * 재입고 이벤트 리스너
+ * 상품 재고 변경 트랜잭션에서 아웃박스에 기록된 이벤트를 커밋 후 디스패처 스레드에서 처리
+ * (재고 수정 요청은 투표 초기화/알림 발송을 기다리지 않음, 실패 시 아웃박스가 재시도)
+ * 알림 발송은 배치 실행기로 넘겨 상품별 임대로 보호되어 실행 (디스패처 선점 만료와 무관)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RestockEventListener {
+public class RestockEventListener implements OutboxEventHandler<ProductRestockedEvent> {
 
     private final ProductRepository productRepository;
-    private final RestockVoteRepository restockVoteRepository;
-    private final RedisService redisService;
+    private final RestockVoteService restockVoteService;
     private final RestockNotificationAsyncService notificationAsyncService;
 
-    private static final String VOTE_COUNT_KEY_PREFIX = "restock:vote:count:";
+    @Override
+    public Class<ProductRestockedEvent> payloadType() {
+        return ProductRestockedEvent.class;
+    }
 
     /**
-     * 재입고 이벤트 처리
-     * 1. 투표 초기화 (동기)
-     * 2. 알림 발송 (비동기 호출) - productId 전달
+     * 재입고 이벤트 처리 (재실행해도 안전)
+     * 1. 투표 초기화
+     * 2. 알림 발송 예약 (청크 단위 커밋, 중단 시 남은 신청자부터 재개)
      */
-    @EventListener
-    @Transactional
-    public void handleProductRestocked(ProductRestockedEvent event) {
+    @Override
+    public void handle(ProductRestockedEvent event) {
         log.info("=== 재입고 이벤트 수신: 상품ID={}, 이전재고={}, 현재재고={} ===",
                 event.getProductId(), event.getPreviousStock(), event.getCurrentStock());
 
@@ -53,39 +53,26 @@ public class RestockEventListener {
             return;
         }
 
-        // 1. 투표 초기화 (동기 처리 - 강한 정합성)
+        // 1. 투표 초기화
         cleanupRestockVotes(product);
 
-        // 2. 알림 발송 (비동기 서비스 호출 - productId만 전달)
-        // Product 엔티티 대신 productId를 전달하여 LAZY 로딩 문제 해결
-        log.info("비동기 알림 발송 시작: productId={}", event.getProductId());
-        notificationAsyncService.sendNotifications(event.getProductId());
+        // 2. 알림 발송 - 배치 실행기로 넘김
+        notificationAsyncService.submit(event.getProductId());
 
         log.info("=== 재입고 이벤트 처리 완료: 상품ID={} ===", event.getProductId());
     }
 
     /**
-     * 재입고 투표 초기화 (동기 처리)
+     * 재입고 투표 초기화
+     * Redis 투표 키(집합/카운트/순위/관리자 플래그)는 스크립트 한 번으로 원자적으로 삭제하고,
+     * DB 는 투표 대기열 순서대로 청크 단위 DELETE 로 삭제됨 (투표 엔티티를 읽지 않음)
+     * (아직 반영되지 않은 이전 투표가 삭제 뒤에 다시 저장되지 않도록)
      */
     private void cleanupRestockVotes(Product product) {
         log.info("재입고 투표 초기화 시작: 상품={}", product.getName());
 
-        // 재입고 투표 초기화 (DB에서 삭제)
-        List<ecommerce.domain.restock.entity.RestockVote> votes =
-                restockVoteRepository.findByProduct(product);
-
-        if (!votes.isEmpty()) {
-            restockVoteRepository.deleteAll(votes);
-            restockVoteRepository.flush(); // 즉시 DB에 반영
-            log.info("재입고 투표 DB 삭제 완료: 상품={}, 삭제된 투표수={}",
-                    product.getName(), votes.size());
-        } else {
-            log.info("삭제할 투표 없음: 상품={}", product.getName());
-        }
+        restockVoteService.resetVotes(product.getId(), product.getSeller().getId());
 
-        // Redis 투표 카운트 초기화
-        String voteCountKey = VOTE_COUNT_KEY_PREFIX + product.getId();
-        redisService.delete(voteCountKey);
-        log.info("Redis 투표 카운트 초기화 완료: key={}", voteCountKey);
+        log.info("재입고 투표 초기화 완료 (DB 삭제 예약): 상품={}", product.getName());
     }
-}
\ No newline at end of file
+}
@@ -1,135 +1,278 @@
 package ecommerce.domain.restock.event;
 
-import ecommerce.domain.notification.entity.Notification;
-import ecommerce.domain.notification.enums.NotificationType;
-import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.domain.notification.service.UnreadNotificationCounter;
+import ecommerce.domain.notification.stream.NotificationStreamPublisher;
 import ecommerce.domain.product.entity.Product;
 import ecommerce.domain.product.repository.ProductRepository;
-import ecommerce.domain.restock.entity.RestockNotification;
+import ecommerce.domain.restock.repository.RestockNotificationJdbcRepository;
 import ecommerce.domain.restock.repository.RestockNotificationRepository;
-import lombok.RequiredArgsConstructor;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
+import ecommerce.infrastructure.batch.JobProgress;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import ecommerce.infrastructure.redis.RedisService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * 재입고 알림 비동기 발송 서비스
- * RestockEventListener와 분리하여 @Async 프록시 문제 해결
+ *
+ * - 아웃박스 핸들러(RestockEventListener)는 발송 요청만 기록하고 배치 실행기로 넘김
+ *   (디스패처 스레드를 오래 점유하지 않고, 아웃박스 선점 만료 후 다른 노드가 같은 구간을 중복 발송하지 않도록 함)
+ * - 발송은 상품별 임대로 보호 (임대는 자동 연장, 다른 노드는 같은 상품을 동시에 발송하지 않음)
+ * - 완료되지 않은 요청은 Redis 에 남겨 두고 RestockFanOutScheduler 가 주기적으로 다시 넘김
+ *   (실패/노드 장애 후 재개, 최대 restock.fan-out.max-attempts 회)
+ * - 신청 ID 키셋으로 청크(1000건)씩 처리하며 청크마다 커밋
+ * - 청크 내 알림은 INSERT ... SELECT 한 번으로 생성 (User 엔티티 로딩 없음)
+ * - 처리한 신청은 같은 ID 구간을 DELETE 한 번으로 삭제
+ * - 청크 커밋 후 수신자별 읽지 않은 개수를 반영하고 수신자 목록을 알림 스트림으로 발행
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RestockNotificationAsyncService {
 
+    private static final String JOB_NAME = "restock-fan-out";
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+
+    // productId → 요청 토큰 (발송 중 다시 요청되면 토큰이 바뀌어 완료 후에도 남음)
+    private static final String PENDING_KEY = "restock:fan-out:pending";
+    private static final String FAILURE_KEY_PREFIX = "restock:fan-out:failures:";
+    private static final long FAILURE_TTL_SECONDS = Duration.ofDays(2).toSeconds();
+
+    // 요청 토큰이 그대로일 때만 요청 제거 (KEYS[1]: 요청 Hash, ARGV[1]: productId, ARGV[2]: 토큰)
+    private static final RedisScript<Long> REMOVE_PENDING_SCRIPT = RedisScript.of(
+            "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then " +
+            "  return redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
     private final RestockNotificationRepository restockNotificationRepository;
-    private final NotificationRepository notificationRepository;
+    private final RestockNotificationJdbcRepository restockNotificationJdbcRepository;
     private final ProductRepository productRepository;
+    private final ChunkJobRunner chunkJobRunner;
+    private final NotificationStreamPublisher notificationStreamPublisher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final JobLeaseManager jobLeaseManager;
+    private final RedisService redisService;
+    private final Executor batchJobExecutor;
+    private final int maxAttempts;
+
+    public RestockNotificationAsyncService(RestockNotificationRepository restockNotificationRepository,
+                                           RestockNotificationJdbcRepository restockNotificationJdbcRepository,
+                                           ProductRepository productRepository,
+                                           ChunkJobRunner chunkJobRunner,
+                                           NotificationStreamPublisher notificationStreamPublisher,
+                                           UnreadNotificationCounter unreadNotificationCounter,
+                                           JobLeaseManager jobLeaseManager,
+                                           RedisService redisService,
+                                           @Qualifier("batchJobExecutor") Executor batchJobExecutor,
+                                           @Value("${restock.fan-out.max-attempts:5}") int maxAttempts) {
+        this.restockNotificationRepository = restockNotificationRepository;
+        this.restockNotificationJdbcRepository = restockNotificationJdbcRepository;
+        this.productRepository = productRepository;
+        this.chunkJobRunner = chunkJobRunner;
+        this.notificationStreamPublisher = notificationStreamPublisher;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.jobLeaseManager = jobLeaseManager;
+        this.redisService = redisService;
+        this.batchJobExecutor = batchJobExecutor;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
 
     /**
-     * 재입고 알림 발송 (비동기 처리)
-     * productId를 받아 새로운 트랜잭션에서 Product 조회 후 알림 발송
+     * 발송 요청 기록 후 배치 실행기로 넘김
+     * 실행기가 포화면 예외를 던져 아웃박스가 나중에 다시 전달하도록 함 (기록된 요청은 스케줄러도 재시도)
+     */
+    public void submit(Long productId) {
+        String token = UUID.randomUUID().toString();
+        redisService.putHashValue(PENDING_KEY, String.valueOf(productId), token);
+        batchJobExecutor.execute(() -> run(productId, token));
+        log.info("재입고 알림 발송 예약: productId={}", productId);
+    }
+
+    /**
+     * 완료되지 않은 발송 다시 넘기기 (다른 노드가 발송 중이면 임대에서 건너뜀)
+     *
+     * @return 넘긴 요청 수
+     */
+    public int resumePending() {
+        Map<String, String> pending = redisService.getHashEntries(PENDING_KEY);
+        int submitted = 0;
+
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            Long productId;
+            try {
+                productId = Long.valueOf(entry.getKey());
+            } catch (NumberFormatException e) {
+                log.error("재입고 알림 발송 요청 형식 오류, 제거: field={}", entry.getKey());
+                redisService.deleteHashField(PENDING_KEY, entry.getKey());
+                continue;
+            }
+
+            try {
+                batchJobExecutor.execute(() -> run(productId, entry.getValue()));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                log.warn("재입고 알림 발송 재개 보류 (실행기 포화): 남은 요청={}건", pending.size() - submitted);
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * 상품 임대를 얻은 경우에만 발송
+     * 재입고는 반복되므로 완료 후 DONE 표시 없이 임대를 반납하고, 요청 토큰이 그대로일 때만 요청 제거
+     */
+    private void run(Long productId, String token) {
+        JobLeaseManager.AcquireResult result;
+        try {
+            result = jobLeaseManager.tryAcquire(JOB_NAME + ":" + productId, JOB_NAME, LEASE_TTL);
+        } catch (Exception e) {
+            log.error("재입고 알림 임대 획득 실패 (다음 점검 때 재시도): productId={}", productId, e);
+            return;
+        }
+
+        if (result.getLease().isEmpty()) {
+            log.debug("재입고 알림 발송 건너뜀 (다른 노드 발송 중): productId={}", productId);
+            return;
+        }
+
+        JobLease lease = result.getLease().get();
+        try {
+            sendNotifications(productId);
+            redisService.executeScript(REMOVE_PENDING_SCRIPT, List.of(PENDING_KEY), String.valueOf(productId), token);
+            redisService.delete(FAILURE_KEY_PREFIX + productId);
+        } catch (RuntimeException e) {
+            recordFailure(productId, token, e);
+        } finally {
+            jobLeaseManager.release(lease);
+        }
+    }
+
+    private void recordFailure(Long productId, String token, RuntimeException e) {
+        String failureKey = FAILURE_KEY_PREFIX + productId;
+        Long attempts = redisService.increment(failureKey);
+        redisService.expire(failureKey, FAILURE_TTL_SECONDS);
+
+        if (attempts != null && attempts >= maxAttempts) {
+            redisService.executeScript(REMOVE_PENDING_SCRIPT, List.of(PENDING_KEY), String.valueOf(productId), token);
+            redisService.delete(failureKey);
+            log.error("재입고 알림 발송 중단 (재시도 {}회 초과): productId={}", maxAttempts, productId, e);
+            return;
+        }
+        log.warn("재입고 알림 발송 실패 (남은 신청자부터 재시도): productId={}, 시도={}회, 에러={}",
+                productId, attempts, e.getMessage());
+    }
+
+    /**
+     * 재입고 알림 발송
      *
      * 중요: 알림 발송 후 RestockNotification 레코드를 삭제하여
      * 다음 재입고 시 중복 알림을 방지합니다.
+     * 알림 생성과 신청 삭제가 같은 청크 트랜잭션에서 커밋되므로, 중간에 실패해도
+     * 다시 실행하면 남은 신청자에게만 발송됩니다.
+     * 실패 시 예외를 던져 남은 신청자부터 다시 발송하도록 합니다.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendNotifications(Long productId) {
+    private void sendNotifications(Long productId) {
         log.info("========================================");
         log.info("재입고 알림 발송 시작: productId={}", productId);
         log.info("========================================");
 
         try {
-            // 새로운 트랜잭션에서 Product 조회
             Product product = productRepository.findById(productId).orElse(null);
             if (product == null) {
                 log.error("상품을 찾을 수 없습니다: productId={}", productId);
                 return;
             }
 
-            log.info("상품 정보: id={}, name={}, stock={}, status={}",
-                    product.getId(), product.getName(), product.getStock(), product.getStatus());
-
-            // 해당 상품의 미발송 알림 신청자 목록 조회
-            // productId를 사용하여 조회 (LAZY 로딩 문제 방지)
-            List<RestockNotification> notifications = restockNotificationRepository
-                    .findByProductIdAndIsNotifiedFalse(productId);
-
-            log.info("조회된 알림 신청자 수: {}", notifications.size());
-
-            if (notifications.isEmpty()) {
+            long maxPendingId = restockNotificationRepository.findMaxPendingId(productId);
+            if (maxPendingId == 0) {
                 log.info("⚠️ 재입고 알림 신청자 없음: productId={}", productId);
                 log.info("========================================");
                 return;
             }
 
-            log.info("알림 발송 시작: productId={}, 상품명={}, 신청자수={}",
-                    productId, product.getName(), notifications.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            // 각 사용자에게 알림 생성
-            for (RestockNotification restockNotification : notifications) {
-                try {
-                    String message = String.format("'%s' 상품이 재입고되었습니다!", product.getName());
-
-                    log.debug("알림 생성 중: userId={}, userName={}",
-                            restockNotification.getUser().getId(),
-                            restockNotification.getUser().getName());
-
-                    Notification notification = Notification.builder()
-                            .user(restockNotification.getUser())
-                            .type(NotificationType.RESTOCK)
-                            .title("재입고 알림")
-                            .content(message)
-                            .isRead(false)
-                            .build();
-
-                    notificationRepository.save(notification);
-
-                    successCount++;
-                    log.info("알림 발송 성공 [{}/{}]: userId={}, userName={}, email={}",
-                            successCount, notifications.size(),
-                            restockNotification.getUser().getId(),
-                            restockNotification.getUser().getName(),
-                            restockNotification.getUser().getEmail());
-
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("알림 발송 실패 [{}/{}]: userId={}, userName={}, 에러={}",
-                            failCount, notifications.size(),
-                            restockNotification.getUser().getId(),
-                            restockNotification.getUser().getName(),
-                            e.getMessage(), e);
-                }
-            }
+            String title = "재입고 알림";
+            String message = String.format("'%s' 상품이 재입고되었습니다!", product.getName());
+            AtomicLong sentCount = new AtomicLong();
+
+            ChunkJob<Long, Long> job = ChunkJob.<Long, Long>builder()
+                    .name(JOB_NAME)
+                    .runId(String.valueOf(productId))
+                    .minId(1L)
+                    .maxId(maxPendingId)
+                    .chunkSize(CHUNK_SIZE)
+                    .workers(1)
+                    .reader((afterId, toId, limit) -> restockNotificationRepository.findPendingIdsAfter(
+                            productId, afterId, toId, PageRequest.of(0, limit)))
+                    .keyExtractor(Long::longValue)
+                    .processor(Function.identity())
+                    .writer(ids -> sentCount.addAndGet(fanOut(productId, ids, title, message)))
+                    .build();
 
-            // 알림 발송 후 모든 RestockNotification 레코드 삭제
-            // 이렇게 하면 다음 재입고 시 이전 신청자에게 중복 알림이 발송되지 않음
-            restockNotificationRepository.deleteAll(notifications);
-            restockNotificationRepository.flush();
+            JobProgress progress = chunkJobRunner.run(job);
+
+            double notificationsPerSecond = progress.getElapsedMillis() > 0
+                    ? sentCount.get() * 1000.0 / progress.getElapsedMillis()
+                    : 0.0;
 
             log.info("========================================");
             log.info("재입고 알림 발송 완료 통계");
             log.info("  - 상품: {} (ID: {})", product.getName(), productId);
-            log.info("  - 성공: {}건", successCount);
-            log.info("  - 실패: {}건", failCount);
-            log.info("  - 총 처리: {}건", notifications.size());
+            log.info("  - 발송: {}건 (청크 {}개)", sentCount.get(), progress.getChunkCount());
+            log.info("  - 소요: {}ms, 처리량: {}건/s",
+                    progress.getElapsedMillis(), String.format("%.1f", notificationsPerSecond));
             log.info("  - 처리 후 레코드 삭제 완료");
             log.info("========================================");
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("========================================");
             log.error("재입고 알림 발송 중 예외 발생");
             log.error("  - productId: {}", productId);
             log.error("  - 에러 메시지: {}", e.getMessage());
-            log.error("  - 스택 트레이스:", e);
             log.error("========================================");
+            throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 청크 하나 발송: 신청 ID 구간에 대해 알림 INSERT ... SELECT 후 같은 구간 DELETE
+     *
+     * @return 생성된 알림 수
+     */
+    private int fanOut(Long productId, List<Long> ids, String title, String message) {
+        long fromId = ids.get(0);
+        long toId = ids.get(ids.size() - 1);
+
+        List<Long> userIds = restockNotificationJdbcRepository.findUserIdsForRange(productId, fromId, toId);
+        int inserted = restockNotificationJdbcRepository.insertNotificationsForRange(
+                productId, fromId, toId, title, message);
+        Map<Long, Long> countsByUser = new LinkedHashMap<>();
+        userIds.forEach(userId -> countsByUser.merge(userId, 1L, Long::sum));
+        unreadNotificationCounter.adjustAll(countsByUser);
+        notificationStreamPublisher.publishBulk(countsByUser.keySet());
+        int deleted = restockNotificationJdbcRepository.deleteRange(productId, fromId, toId);
+
+        log.debug("재입고 알림 청크 발송: productId={}, range=[{}, {}], 생성={}건, 삭제={}건",
+                productId, fromId, toId, inserted, deleted);
+        return inserted;
+    }
+}
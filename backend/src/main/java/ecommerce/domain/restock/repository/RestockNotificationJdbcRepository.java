@@ -0,0 +1,61 @@
+package ecommerce.domain.restock.repository;
+
+import ecommerce.domain.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재입고 알림 대량 발송 전용 JDBC 리포지토리
+ * 신청자 행을 애플리케이션으로 읽지 않고 INSERT ... SELECT / 구간 DELETE 로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestockNotificationJdbcRepository {
+
+    private static final String FAN_OUT_SQL =
+            "INSERT INTO notifications (user_id, type, title, content, is_read, created_at) " +
+                    "SELECT rn.user_id, ?, ?, ?, false, ? FROM restock_notifications rn " +
+                    "WHERE rn.product_id = ? AND rn.is_notified = false AND rn.id BETWEEN ? AND ?";
+
+    private static final String USER_IDS_FOR_RANGE_SQL =
+            "SELECT rn.user_id FROM restock_notifications rn " +
+                    "WHERE rn.product_id = ? AND rn.is_notified = false AND rn.id BETWEEN ? AND ?";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM restock_notifications " +
+                    "WHERE product_id = ? AND is_notified = false AND id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신청 ID 구간 [fromId, toId] 의 미발송 신청자에게 알림 일괄 생성
+     *
+     * @return 생성된 알림 수
+     */
+    public int insertNotificationsForRange(Long productId, long fromId, long toId, String title, String content) {
+        return jdbcTemplate.update(FAN_OUT_SQL,
+                NotificationType.RESTOCK.name(), title, content, Timestamp.valueOf(LocalDateTime.now()),
+                productId, fromId, toId);
+    }
+
+    /**
+     * 신청 ID 구간 [fromId, toId] 의 미발송 신청자 ID (알림 스트림 발행용)
+     */
+    public List<Long> findUserIdsForRange(Long productId, long fromId, long toId) {
+        return jdbcTemplate.queryForList(USER_IDS_FOR_RANGE_SQL, Long.class, productId, fromId, toId);
+    }
+
+    /**
+     * 신청 ID 구간 [fromId, toId] 의 미발송 신청 일괄 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteRange(Long productId, long fromId, long toId) {
+        return jdbcTemplate.update(DELETE_RANGE_SQL, productId, fromId, toId);
+    }
+}
@@ -6,6 +6,8 @@ import ecommerce.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,6 +26,19 @@ public interface RestockNotificationRepository extends JpaRepository<RestockNoti
 
     List<RestockNotification> findByProductIdAndIsNotifiedFalse(Long productId);
 
+    // 재입고 알림 청크 발송용 키셋 조회 (afterId < id <= toId)
+    @Query("SELECT rn.id FROM RestockNotification rn " +
+            "WHERE rn.product.id = :productId AND rn.isNotified = false " +
+            "AND rn.id > :afterId AND rn.id <= :toId ORDER BY rn.id")
+    List<Long> findPendingIdsAfter(@Param("productId") Long productId,
+                                   @Param("afterId") Long afterId,
+                                   @Param("toId") Long toId,
+                                   Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(rn.id), 0) FROM RestockNotification rn " +
+            "WHERE rn.product.id = :productId AND rn.isNotified = false")
+    Long findMaxPendingId(@Param("productId") Long productId);
+
     // 추가 메서드
     boolean existsByUserAndProduct(User user, Product product);
 
@@ -0,0 +1,70 @@
+package ecommerce.domain.restock.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 재입고 투표 write-behind 반영 전용 JDBC 리포지토리
+ * Redis 에 먼저 기록된 투표/취소를 배치로 DB 에 반영 (재실행해도 결과가 같도록 멱등하게 작성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestockVoteJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // (product_id, user_id) 유니크 제약으로 이미 반영된 투표는 무시
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO restock_votes (product_id, user_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM restock_votes WHERE product_id = ? AND user_id = ?";
+
+    // (product_id, user_id) 유니크 인덱스로 상품 범위만 잠그며 청크 단위 삭제
+    private static final String DELETE_BY_PRODUCT_CHUNK_SQL =
+            "DELETE FROM restock_votes WHERE product_id = ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표 일괄 INSERT (이미 있는 투표는 무시)
+     */
+    public void batchInsertIgnore(List<RestockVoteRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getProductId());
+            ps.setLong(2, row.getUserId());
+            ps.setTimestamp(3, new Timestamp(row.getVotedAtMillis()));
+        });
+    }
+
+    /**
+     * 투표 일괄 삭제 (취소)
+     */
+    public void batchDelete(List<RestockVoteRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getProductId());
+            ps.setLong(2, row.getUserId());
+        });
+    }
+
+    /**
+     * 상품의 투표를 최대 limit 건 삭제 (재입고 초기화, 반환값이 limit 보다 작을 때까지 반복 호출)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteByProductIdChunk(Long productId, int limit) {
+        return jdbcTemplate.update(DELETE_BY_PRODUCT_CHUNK_SQL, productId, limit);
+    }
+}
@@ -1,11 +1,14 @@
 package ecommerce.domain.restock.repository;
 
 import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.restock.dto.ProductVoteCount;
 import ecommerce.domain.restock.entity.RestockVote;
 import ecommerce.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -28,6 +31,28 @@ public interface RestockVoteRepository extends JpaRepository<RestockVote, Long>
 
     Page<RestockVote> findByProductOrderByCreatedAtDesc(Product product, Pageable pageable);
 
-    // 재입고 투표 초기화를 위한 메서드
-    List<RestockVote> findByProduct(Product product);
-}
\ No newline at end of file
+    /**
+     * 상품별 투표수 집계 (Redis 카운터/순위 보정용, 상품 ID 키셋 청크)
+     */
+    @Query("SELECT new ecommerce.domain.restock.dto.ProductVoteCount(p.id, p.seller.id, COUNT(v)) " +
+            "FROM RestockVote v JOIN v.product p " +
+            "WHERE p.id > :afterProductId " +
+            "GROUP BY p.id, p.seller.id " +
+            "ORDER BY p.id")
+    List<ProductVoteCount> countVotesByProductAfter(
+            @Param("afterProductId") Long afterProductId,
+            Pageable pageable
+    );
+
+    /**
+     * 상품의 투표 사용자 ID (Redis 투표 집합 복구용, 사용자 ID 키셋 청크)
+     */
+    @Query("SELECT v.user.id FROM RestockVote v " +
+            "WHERE v.product.id = :productId AND v.user.id > :afterUserId " +
+            "ORDER BY v.user.id")
+    List<Long> findUserIdsByProductIdAfter(
+            @Param("productId") Long productId,
+            @Param("afterUserId") Long afterUserId,
+            Pageable pageable
+    );
+}
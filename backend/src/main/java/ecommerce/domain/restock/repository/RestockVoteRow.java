@@ -0,0 +1,16 @@
+package ecommerce.domain.restock.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JDBC 배치 반영용 재입고 투표 행 (취소 시 votedAtMillis 는 사용하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class RestockVoteRow {
+
+    private long productId;
+    private long userId;
+    private long votedAtMillis;
+}
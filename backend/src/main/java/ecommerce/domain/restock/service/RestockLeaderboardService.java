@@ -0,0 +1,159 @@
+package ecommerce.domain.restock.service;
+
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.product.dto.ProductCard;
+import ecommerce.domain.product.service.ProductCardService;
+import ecommerce.domain.restock.dto.RestockLeaderboardEntry;
+import ecommerce.domain.seller.entity.Seller;
+import ecommerce.domain.seller.repository.SellerRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 재입고 투표 순위 조회 서비스
+ * 투표/취소 시 갱신되는 Sorted Set(전체/판매자별)에서 상위 N개를 상품 카드와 함께 한 번의 왕복으로 조회
+ * (restock_votes GROUP BY 집계 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RestockLeaderboardService {
+
+    private final SellerRepository sellerRepository;
+    private final ProductCardService productCardService;
+    private final RedisService redisService;
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_COUNT_IDS = 100;
+
+    /**
+     * ZREVRANGE WITHSCORES + 상품 카드 MGET 을 한 번에 실행
+     * 반환: [상품ID, 투표수, 카드 JSON(없으면 빈 문자열)] 반복
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEADERBOARD_SCRIPT = RedisScript.of("""
+            local top = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            if #top == 0 then
+                return {}
+            end
+            local cardKeys = {}
+            for i = 1, #top, 2 do
+                cardKeys[#cardKeys + 1] = ARGV[2] .. top[i]
+            end
+            local cards = redis.call('MGET', unpack(cardKeys))
+            local result = {}
+            for i = 1, #cardKeys do
+                result[#result + 1] = top[2 * i - 1]
+                result[#result + 1] = top[2 * i]
+                result[#result + 1] = cards[i] or ''
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 전체 재입고 투표 순위
+     */
+    public List<RestockLeaderboardEntry> getLeaderboard(int limit) {
+        return getLeaderboard(RestockVoteService.rankKey(), limit);
+    }
+
+    /**
+     * 내 상품 재입고 투표 순위 (판매자)
+     */
+    public List<RestockLeaderboardEntry> getMyLeaderboard(Long userId, int limit) {
+        Seller seller = sellerRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
+
+        return getLeaderboard(RestockVoteService.sellerRankKey(seller.getId()), limit);
+    }
+
+    /**
+     * 여러 상품의 투표수 일괄 조회 (MGET, 투표가 없으면 0)
+     */
+    public Map<Long, Long> getVoteCounts(List<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().collect(Collectors.toList());
+        if (ids.size() > MAX_COUNT_IDS) {
+            throw new BadRequestException(ErrorCode.INVALID_QUERY_PARAM,
+                    "한 번에 조회할 수 있는 상품은 최대 " + MAX_COUNT_IDS + "개입니다");
+        }
+
+        List<String> values = redisService.getStringValues(ids.stream()
+                .map(RestockVoteService::countKey)
+                .collect(Collectors.toList()));
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = i < values.size() ? values.get(i) : null;
+            counts.put(ids.get(i), parseCount(value));
+        }
+        return counts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RestockLeaderboardEntry> getLeaderboard(String rankKey, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<Object> rows = redisService.executeScript(LEADERBOARD_SCRIPT, List.of(rankKey),
+                String.valueOf(size), ProductCardService.CARD_KEY_PREFIX);
+        if (rows == null || rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<RestockLeaderboardEntry> entries = new ArrayList<>(rows.size() / 3);
+        List<Long> missingCardIds = new ArrayList<>();
+
+        for (int i = 0; i + 2 < rows.size(); i += 3) {
+            Long productId = Long.valueOf(rows.get(i).toString());
+            ProductCard card = productCardService.parse(rows.get(i + 2).toString());
+            if (card == null) {
+                missingCardIds.add(productId);
+            }
+
+            entries.add(RestockLeaderboardEntry.builder()
+                    .rank(entries.size() + 1)
+                    .productId(productId)
+                    .voteCount((long) Double.parseDouble(rows.get(i + 1).toString()))
+                    .product(card)
+                    .build());
+        }
+
+        // 캐시에 없는 카드만 DB 에서 한 번에 채움
+        if (!missingCardIds.isEmpty()) {
+            Map<Long, ProductCard> loaded = productCardService.loadCards(missingCardIds);
+            entries = entries.stream()
+                    .map(entry -> entry.getProduct() != null ? entry : RestockLeaderboardEntry.builder()
+                            .rank(entry.getRank())
+                            .productId(entry.getProductId())
+                            .voteCount(entry.getVoteCount())
+                            .product(loaded.get(entry.getProductId()))
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        return entries;
+    }
+
+    private long parseCount(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
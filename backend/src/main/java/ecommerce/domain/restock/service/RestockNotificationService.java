@@ -34,18 +34,14 @@ public class RestockNotificationService {
     private final SellerRepository sellerRepository;
 
     @Transactional
-    public RestockNotificationResponse subscribeRestock(String email, RestockNotificationRequest request) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
+    public RestockNotificationResponse subscribeRestock(Long userId, RestockNotificationRequest request) {
         // 상품 조회
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 기존 알림 신청 확인
         Optional<RestockNotification> existingNotification =
-                restockNotificationRepository.findByProductIdAndUserId(product.getId(), user.getId());
+                restockNotificationRepository.findByProductIdAndUserId(product.getId(), userId);
 
         if (existingNotification.isPresent()) {
             // 이미 신청된 알림이 있으면 중복 에러
@@ -54,36 +50,30 @@ public class RestockNotificationService {
 
         // 새로운 알림 신청 생성
         RestockNotification notification = RestockNotification.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .product(product)
                 .isNotified(false)
                 .build();
 
         RestockNotification savedNotification = restockNotificationRepository.save(notification);
 
-        log.info("재입고 알림 신청: 사용자={}, 상품={}", email, product.getName());
+        log.info("재입고 알림 신청: 사용자ID={}, 상품={}", userId, product.getName());
 
         return mapToResponse(savedNotification);
     }
 
-    public Page<RestockNotificationResponse> getMySubscriptions(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        return restockNotificationRepository.findByUserOrderByCreatedAtDesc(user, pageable)
+    public Page<RestockNotificationResponse> getMySubscriptions(Long userId, Pageable pageable) {
+        return restockNotificationRepository.findByUserOrderByCreatedAtDesc(userRepository.getReferenceById(userId), pageable)
                 .map(this::mapToResponse);
     }
 
-    public Page<RestockNotificationResponse> getProductSubscriptions(String email, Long productId, Pageable pageable) {
+    public Page<RestockNotificationResponse> getProductSubscriptions(Long userId, Long productId, Pageable pageable) {
         // 상품 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 판매자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // 본인 상품인지 확인
@@ -96,20 +86,17 @@ public class RestockNotificationService {
     }
 
     @Transactional
-    public void unsubscribeRestock(String email, Long notificationId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
+    public void unsubscribeRestock(Long userId, Long notificationId) {
         RestockNotification notification = restockNotificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
         // 본인 신청인지 확인
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(userId)) {
             throw new BadRequestException(ErrorCode.FORBIDDEN);
         }
 
         restockNotificationRepository.delete(notification);
-        log.info("재입고 알림 취소: 사용자={}, 알림ID={}", email, notificationId);
+        log.info("재입고 알림 취소: 사용자ID={}, 알림ID={}", userId, notificationId);
     }
 
     private RestockNotificationResponse mapToResponse(RestockNotification notification) {
@@ -1,16 +1,16 @@
 package ecommerce.domain.restock.service;
 
-import ecommerce.common.enums.Role;
 import ecommerce.common.exception.BadRequestException;
+import ecommerce.common.exception.BusinessException;
 import ecommerce.common.exception.ErrorCode;
 import ecommerce.common.exception.ResourceNotFoundException;
-import ecommerce.domain.notification.entity.Notification;
-import ecommerce.domain.notification.enums.NotificationType;
-import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.domain.product.dto.ProductCard;
 import ecommerce.domain.product.entity.Product;
 import ecommerce.domain.product.repository.ProductRepository;
+import ecommerce.domain.product.service.ProductCardService;
 import ecommerce.domain.restock.dto.RestockVoteRequest;
 import ecommerce.domain.restock.dto.RestockVoteResponse;
+import ecommerce.domain.restock.dto.RestockVoteResult;
 import ecommerce.domain.restock.entity.RestockVote;
 import ecommerce.domain.restock.repository.RestockVoteRepository;
 import ecommerce.domain.user.entity.User;
@@ -20,9 +20,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 재입고 투표 서비스
+ *
+ * - 투표/취소는 Lua 스크립트 한 번으로 Redis 에 원자적으로 반영 (투표 집합 SADD/SREM + 카운트 + 순위 + 임계값 플래그)
+ * - DB(restock_votes) 반영과 관리자 알림은 대기열에 쌓아 RestockVoteSyncService 가 배치로 처리 (write-behind)
+ * - 투표 요청 경로에서는 MySQL 을 사용하지 않음 (사용자 ID/상품 카드도 Redis 캐시로 확인)
+ *   단, 상품별 투표 집합이 아직 DB 투표자로 채워지지 않았으면 (배포 직후, Redis 유실) 한 번 채운 뒤 다시 투표
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -32,54 +44,136 @@ public class RestockVoteService {
     private final RestockVoteRepository restockVoteRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-    private final NotificationRepository notificationRepository;
+    private final ProductCardService productCardService;
     private final RedisService redisService;
+    private final RestockVoteSyncService restockVoteSyncService;
 
     private static final String VOTE_COUNT_KEY_PREFIX = "restock:vote:count:";
-    private static final int VOTE_THRESHOLD = 50;
+    private static final String VOTES_KEY_PREFIX = "restock:votes:";
+    // 투표 집합에 DB 투표자를 채운 상품 표시 (없으면 투표를 받지 않고 먼저 채움)
+    private static final String SEEDED_KEY_PREFIX = "restock:votes:seeded:";
+    private static final String ADMIN_NOTIFIED_KEY_PREFIX = "restock:admin:notified:";
+    // 투표수 순위 (member=productId, score=투표수): 전체 / 판매자별
+    private static final String RANK_KEY = "restock:vote:rank";
+    private static final String SELLER_RANK_KEY_PREFIX = "restock:vote:rank:seller:";
+    // write-behind 대기열 (V:상품:사용자:투표시각 / C:상품:사용자 / R:상품 / A:상품:투표수)
+    public static final String PENDING_QUEUE_KEY = "restock:vote:pending";
+
+    private static final long ADMIN_NOTIFIED_TTL = 86400L; // 24시간
 
-    @Transactional
-    public RestockVoteResponse voteForRestock(String email, RestockVoteRequest request) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    private static final int VOTE_THRESHOLD = 50;
 
-        // 상품 조회
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
+    private static final long DUPLICATE = -1L;
+    private static final long NOT_SEEDED = -2L;
+
+    /**
+     * 투표: 새 투표일 때만 카운트 증가 + DB 반영 대기열 추가,
+     * 임계값 도달 시 관리자 알림 플래그를 SET NX 로 선점한 요청만 알림 대기열에 추가
+     * 반환: {투표수, 관리자 알림 여부} (중복 투표면 투표수 -1, 투표 집합을 아직 채우지 않았으면 -2)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VOTE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[7]) == 0 then
+                return {-2, 0}
+            end
+            if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+                return {-1, 0}
+            end
+            local count = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[5], count, ARGV[4])
+            redis.call('ZADD', KEYS[6], count, ARGV[4])
+            redis.call('RPUSH', KEYS[4], 'V:' .. ARGV[4] .. ':' .. ARGV[1] .. ':' .. ARGV[5])
+            local notify = 0
+            if count >= tonumber(ARGV[2]) and redis.call('SET', KEYS[3], '1', 'NX', 'EX', ARGV[3]) then
+                notify = 1
+                redis.call('RPUSH', KEYS[4], 'A:' .. ARGV[4] .. ':' .. count)
+            end
+            return {count, notify}
+            """, List.class);
+
+    /**
+     * 취소: 투표 집합에 있을 때만 카운트 감소, DB 삭제는 항상 대기열에 추가
+     * 반환: 남은 투표수 (집합에 없던 투표면 -1)
+     */
+    private static final RedisScript<Long> CANCEL_SCRIPT = RedisScript.of("""
+            local removed = redis.call('SREM', KEYS[1], ARGV[1])
+            redis.call('RPUSH', KEYS[3], 'C:' .. ARGV[2] .. ':' .. ARGV[1])
+            if removed == 0 then
+                return -1
+            end
+            local count = redis.call('DECR', KEYS[2])
+            if count <= 0 then
+                redis.call('SET', KEYS[2], 0)
+                redis.call('ZREM', KEYS[4], ARGV[2])
+                redis.call('ZREM', KEYS[5], ARGV[2])
+                return 0
+            end
+            redis.call('ZADD', KEYS[4], count, ARGV[2])
+            redis.call('ZADD', KEYS[5], count, ARGV[2])
+            return count
+            """, Long.class);
+
+    /**
+     * 재입고 초기화: 투표 집합/카운트/관리자 플래그/순위 삭제 + DB 삭제를 대기열에 추가
+     * (앞서 쌓인 투표가 먼저 반영된 뒤 삭제되도록 같은 대기열 순서를 따름)
+     */
+    private static final RedisScript<Long> RESET_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            redis.call('ZREM', KEYS[5], ARGV[1])
+            redis.call('ZREM', KEYS[6], ARGV[1])
+            redis.call('RPUSH', KEYS[4], 'R:' .. ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 재입고 투표 (트랜잭션/DB 커넥션 없이 Redis 만 사용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RestockVoteResult voteForRestock(Long userId, RestockVoteRequest request) {
+        Long productId = request.getProductId();
+        ProductCard card = productCardService.getCard(productId);
+        String now = String.valueOf(System.currentTimeMillis());
+
+        List<?> result = vote(userId, productId, card.getSellerId(), now);
+        if (((Number) result.get(0)).longValue() == NOT_SEEDED) {
+            // 기존 DB 투표자가 집합에 없으면 중복 투표를 막을 수 없으므로 먼저 채움
+            if (!restockVoteSyncService.seedVoters(productId, card.getSellerId())) {
+                throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "투표 준비 중입니다. 잠시 후 다시 시도해주세요");
+            }
+            result = vote(userId, productId, card.getSellerId(), now);
+        }
 
-        // 중복 투표 체크
-        if (restockVoteRepository.existsByUserAndProduct(user, product)) {
+        long voteCount = ((Number) result.get(0)).longValue();
+        if (voteCount == DUPLICATE) {
             throw new BadRequestException(ErrorCode.DUPLICATE_VOTE);
         }
+        if (voteCount < 0) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "투표 준비 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        boolean thresholdReached = ((Number) result.get(1)).longValue() == 1;
 
-        // 투표 생성
-        RestockVote vote = RestockVote.builder()
-                .user(user)
-                .product(product)
-                .build();
-
-        RestockVote savedVote = restockVoteRepository.save(vote);
-
-        // Redis 카운트 증가
-        String countKey = VOTE_COUNT_KEY_PREFIX + product.getId();
-        Long voteCount = redisService.increment(countKey);
-
-        log.info("재입고 투표 생성: 사용자={}, 상품={}, 현재 투표수={}", email, product.getName(), voteCount);
-
-        // 임계값 체크
-        if (voteCount != null && voteCount >= VOTE_THRESHOLD) {
-            createAdminNotification(product, voteCount.intValue());
+        log.info("재입고 투표 생성: 사용자ID={}, 상품ID={}, 현재 투표수={}", userId, productId, voteCount);
+        if (thresholdReached) {
+            log.info("재입고 투표 임계값 도달, 관리자 알림 예약: 상품ID={}, 투표수={}", productId, voteCount);
         }
 
-        return mapToResponse(savedVote);
+        return RestockVoteResult.builder()
+                .productId(productId)
+                .voteCount(voteCount)
+                .thresholdReached(thresholdReached)
+                .build();
     }
 
-    public Page<RestockVoteResponse> getMyVotes(String email, Pageable pageable) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    private List<?> vote(Long userId, Long productId, Long sellerId, String now) {
+        return redisService.executeScript(VOTE_SCRIPT,
+                List.of(votesKey(productId), countKey(productId), adminNotifiedKey(productId), PENDING_QUEUE_KEY,
+                        rankKey(), sellerRankKey(sellerId), seededKey(productId)),
+                String.valueOf(userId), String.valueOf(VOTE_THRESHOLD), String.valueOf(ADMIN_NOTIFIED_TTL),
+                String.valueOf(productId), now);
+    }
 
-        return restockVoteRepository.findByUserOrderByCreatedAtDesc(user, pageable)
+    public Page<RestockVoteResponse> getMyVotes(Long userId, Pageable pageable) {
+        return restockVoteRepository.findByUserOrderByCreatedAtDesc(userRepository.getReferenceById(userId), pageable)
                 .map(this::mapToResponse);
     }
 
@@ -91,63 +185,58 @@ public class RestockVoteService {
                 .map(this::mapToResponse);
     }
 
-    @Transactional
-    public void cancelVote(String email, Long voteId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
+    public void cancelVote(Long userId, Long voteId) {
         RestockVote vote = restockVoteRepository.findById(voteId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.VOTE_NOT_FOUND));
 
         // 본인 투표인지 확인
-        if (!vote.getUser().getId().equals(user.getId())) {
+        if (!vote.getUser().getId().equals(userId)) {
             throw new BadRequestException(ErrorCode.FORBIDDEN);
         }
 
-        // Redis 카운트 감소
-        String countKey = VOTE_COUNT_KEY_PREFIX + vote.getProduct().getId();
-        redisService.decrement(countKey);
+        // Redis 집합/카운트 반영 후 DB 삭제는 대기열에서 처리
+        Long productId = vote.getProduct().getId();
+        Long sellerId = vote.getProduct().getSeller().getId();
+        redisService.executeScript(CANCEL_SCRIPT,
+                List.of(votesKey(productId), countKey(productId), PENDING_QUEUE_KEY,
+                        rankKey(), sellerRankKey(sellerId)),
+                String.valueOf(userId), String.valueOf(productId));
 
-        restockVoteRepository.delete(vote);
-        log.info("재입고 투표 취소: 사용자={}, 투표ID={}", email, voteId);
+        log.info("재입고 투표 취소: 사용자ID={}, 투표ID={}", userId, voteId);
     }
 
-    private void createAdminNotification(Product product, int voteCount) {
-        // 기존 알림이 있는지 확인 (중복 방지)
-        String redisKey = "restock:admin:notified:" + product.getId();
-        if (redisService.getValue(redisKey) != null) {
-            return;
-        }
-
-        // 관리자용 더미 사용자 조회 또는 생성 (admin@system.com)
-        // 또는 user를 null로 허용하도록 Notification 엔티티 수정 필요
-        // 현재는 임시로 첫 번째 관리자 사용자를 조회
-        User adminUser = userRepository.findFirstByRolesContaining(Role.ROLE_ADMIN)
-                .orElse(null);
+    /**
+     * 재입고 시 투표 초기화 (Redis 는 즉시, DB 는 대기열 순서대로 삭제)
+     */
+    public void resetVotes(Long productId, Long sellerId) {
+        redisService.executeScript(RESET_SCRIPT,
+                List.of(votesKey(productId), countKey(productId), adminNotifiedKey(productId), PENDING_QUEUE_KEY,
+                        rankKey(), sellerRankKey(sellerId)),
+                String.valueOf(productId));
+    }
 
-        if (adminUser == null) {
-            log.warn("관리자 사용자를 찾을 수 없습니다. 알림 생성 건너뜀");
-            return;
-        }
+    public static String votesKey(Long productId) {
+        return VOTES_KEY_PREFIX + productId;
+    }
 
-        // 관리자 알림 생성
-        String message = String.format("상품 '%s'에 대한 재입고 투표가 %d개에 도달했습니다.",
-                product.getName(), voteCount);
+    public static String seededKey(Long productId) {
+        return SEEDED_KEY_PREFIX + productId;
+    }
 
-        Notification notification = Notification.builder()
-                .user(adminUser)  // 수정: userId 대신 user 객체 사용
-                .type(NotificationType.RESTOCK)
-                .title("재입고 투표 임계값 도달")
-                .content(message)  // 수정: message 대신 content 필드 사용
-                .isRead(false)
-                .build();
+    public static String countKey(Long productId) {
+        return VOTE_COUNT_KEY_PREFIX + productId;
+    }
 
-        notificationRepository.save(notification);
+    public static String rankKey() {
+        return RANK_KEY;
+    }
 
-        // Redis에 알림 발송 플래그 저장 (24시간 TTL)
-        redisService.setValue(redisKey, "true", 86400L);
+    public static String sellerRankKey(Long sellerId) {
+        return SELLER_RANK_KEY_PREFIX + sellerId;
+    }
 
-        log.info("관리자 알림 생성: 상품={}, 투표수={}", product.getName(), voteCount);
+    private static String adminNotifiedKey(Long productId) {
+        return ADMIN_NOTIFIED_KEY_PREFIX + productId;
     }
 
     private RestockVoteResponse mapToResponse(RestockVote vote) {
@@ -0,0 +1,446 @@
+package ecommerce.domain.restock.service;
+
+import ecommerce.common.enums.Role;
+import ecommerce.domain.notification.enums.NotificationType;
+import ecommerce.domain.notification.repository.NotificationRow;
+import ecommerce.domain.notification.service.NotificationService;
+import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.product.repository.ProductRepository;
+import ecommerce.domain.restock.dto.ProductVoteCount;
+import ecommerce.domain.restock.repository.RestockVoteJdbcRepository;
+import ecommerce.domain.restock.repository.RestockVoteRepository;
+import ecommerce.domain.restock.repository.RestockVoteRow;
+import ecommerce.domain.user.entity.User;
+import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 재입고 투표 Redis ↔ DB 동기화 서비스
+ *
+ * - flush: 대기열의 투표/취소/초기화/관리자 알림을 배치로 DB 에 반영 (커밋 후 대기열에서 제거)
+ * - reconcile: DB 기준으로 Redis 투표 집합/카운트/순위를 보정 (Redis 유실, 기존 DB 투표 이관 등)
+ * - seed: 투표 집합을 아직 채우지 않은 상품에 첫 투표가 들어오면 DB 투표자로 한 번 채움 (배포 직후 중복 투표 방지)
+ */
+@Slf4j
+@Service
+public class RestockVoteSyncService {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_FLUSH = 20;
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+    private static final int MEMBER_BATCH_SIZE = 1000;
+    private static final int RESET_CHUNK_SIZE = 1000;
+    private static final int SEED_ATTEMPTS = 3;
+
+    // 대기열 반영 횟수 (보정 중 대기열이 반영되었는지 확인용)
+    private static final String FLUSH_SEQ_KEY = "restock:vote:flush-seq";
+
+    private static final String ADMIN_TITLE = "재입고 투표 임계값 도달";
+
+    /**
+     * 반영이 끝난 대기열 앞부분 제거 + 반영 횟수 증가
+     */
+    private static final RedisScript<Long> TRIM_SCRIPT = RedisScript.of("""
+            redis.call('LTRIM', KEYS[1], ARGV[1], -1)
+            return redis.call('INCR', KEYS[2])
+            """, Long.class);
+
+    /**
+     * 보정: 대기열이 비어 있고 DB 조회 이후 반영된 대기열이 없을 때만 적용
+     * (ARGV[1] = DB 조회 전 반영 횟수, ARGV[2] = 상품 ID, ARGV[3..] = 집합에 복구할 사용자 ID)
+     * 반환: 보정된 투표수 (조건 불충족 시 -1)
+     */
+    private static final RedisScript<Long> RECONCILE_SCRIPT = RedisScript.of("""
+            if redis.call('LLEN', KEYS[3]) > 0 then
+                return -1
+            end
+            if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[1] then
+                return -1
+            end
+            if #ARGV > 2 then
+                redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            end
+            local count = redis.call('SCARD', KEYS[1])
+            redis.call('SET', KEYS[2], count)
+            if count > 0 then
+                redis.call('ZADD', KEYS[5], count, ARGV[2])
+                redis.call('ZADD', KEYS[6], count, ARGV[2])
+            else
+                redis.call('ZREM', KEYS[5], ARGV[2])
+                redis.call('ZREM', KEYS[6], ARGV[2])
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * 투표 집합 채우기: DB 조회 이후 반영된 대기열이 없을 때만 적용 (이미 채워졌으면 그대로 둠)
+     * 대기열에 남은 취소는 제외하고, 초기화가 남아 있으면 DB 투표자는 모두 제외 (곧 삭제됨)
+     * (ARGV[1] = DB 조회 전 반영 횟수, ARGV[2] = 상품 ID, ARGV[3..] = DB 투표자 ID)
+     * 반환: 투표수 (조건 불충족 시 -1)
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return redis.call('SCARD', KEYS[1])
+            end
+            if (redis.call('GET', KEYS[5]) or '0') ~= ARGV[1] then
+                return -1
+            end
+            local cancelled = {}
+            local reset = false
+            for _, entry in ipairs(redis.call('LRANGE', KEYS[4], 0, -1)) do
+                local kind, productId, userId = string.match(entry, '^(%a):(%d+):?(%d*)')
+                if productId == ARGV[2] then
+                    if kind == 'C' then
+                        cancelled[userId] = true
+                    elseif kind == 'R' then
+                        reset = true
+                    end
+                end
+            end
+            if not reset then
+                for i = 3, #ARGV do
+                    if not cancelled[ARGV[i]] then
+                        redis.call('SADD', KEYS[1], ARGV[i])
+                    end
+                end
+            end
+            local count = redis.call('SCARD', KEYS[1])
+            redis.call('SET', KEYS[2], count)
+            if count > 0 then
+                redis.call('ZADD', KEYS[6], count, ARGV[2])
+                redis.call('ZADD', KEYS[7], count, ARGV[2])
+            end
+            redis.call('SET', KEYS[3], '1')
+            return count
+            """, Long.class);
+
+    private final RestockVoteRepository restockVoteRepository;
+    private final RestockVoteJdbcRepository restockVoteJdbcRepository;
+    private final NotificationService notificationService;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+
+    public RestockVoteSyncService(RestockVoteRepository restockVoteRepository,
+                                  RestockVoteJdbcRepository restockVoteJdbcRepository,
+                                  NotificationService notificationService,
+                                  ProductRepository productRepository,
+                                  UserRepository userRepository,
+                                  RedisService redisService,
+                                  PlatformTransactionManager transactionManager) {
+        this.restockVoteRepository = restockVoteRepository;
+        this.restockVoteJdbcRepository = restockVoteJdbcRepository;
+        this.notificationService = notificationService;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.redisService = redisService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대기열 반영 (한 노드에서만 호출되어야 함)
+     * 배치마다 커밋 후 대기열에서 제거하므로, 제거 전 실패하면 같은 배치를 다시 반영함 (반영은 멱등)
+     *
+     * @return 반영한 대기열 항목 수
+     */
+    public int flushPending() {
+        int flushed = 0;
+
+        for (int i = 0; i < MAX_BATCHES_PER_FLUSH; i++) {
+            List<String> entries = redisService.getListRange(
+                    RestockVoteService.PENDING_QUEUE_KEY, 0, FLUSH_BATCH_SIZE - 1);
+            if (entries.isEmpty()) {
+                break;
+            }
+
+            PendingBatch batch = PendingBatch.of(entries);
+            resetProducts(batch.resets);
+            transactionTemplate.executeWithoutResult(status -> apply(batch));
+
+            redisService.executeScript(TRIM_SCRIPT,
+                    List.of(RestockVoteService.PENDING_QUEUE_KEY, FLUSH_SEQ_KEY),
+                    String.valueOf(entries.size()));
+            flushed += entries.size();
+
+            log.debug("재입고 투표 반영: 투표={}건, 취소={}건, 초기화={}건, 관리자 알림={}건",
+                    batch.votes.size(), batch.cancels.size(), batch.resets.size(), batch.alerts.size());
+
+            if (entries.size() < FLUSH_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return flushed;
+    }
+
+    /**
+     * 재입고 초기화: 상품별 투표를 청크(1000건)마다 커밋하며 삭제 (잠금 시간/undo 크기 제한)
+     * 배치 반영 전에 실행되므로 초기화 이후 쌓인 투표는 삭제되지 않음
+     */
+    private void resetProducts(Set<Long> productIds) {
+        for (Long productId : productIds) {
+            long deleted = 0;
+            int chunk;
+
+            do {
+                chunk = transactionTemplate.execute(status ->
+                        restockVoteJdbcRepository.deleteByProductIdChunk(productId, RESET_CHUNK_SIZE));
+                deleted += chunk;
+            } while (chunk == RESET_CHUNK_SIZE);
+
+            log.info("재입고 투표 DB 초기화: 상품ID={}, 삭제된 투표수={}", productId, deleted);
+        }
+    }
+
+    /**
+     * 취소 → 투표 순으로 반영 (초기화 이전 항목은 PendingBatch 에서 이미 제외됨)
+     */
+    private void apply(PendingBatch batch) {
+        restockVoteJdbcRepository.batchDelete(new ArrayList<>(batch.cancels.values()));
+        restockVoteJdbcRepository.batchInsertIgnore(new ArrayList<>(batch.votes.values()));
+
+        if (!batch.alerts.isEmpty()) {
+            createAdminNotifications(batch.alerts);
+        }
+    }
+
+    private void createAdminNotifications(Map<Long, Long> alerts) {
+        User adminUser = userRepository.findFirstByRolesContaining(Role.ROLE_ADMIN)
+                .orElse(null);
+
+        if (adminUser == null) {
+            log.warn("관리자 사용자를 찾을 수 없습니다. 알림 생성 건너뜀");
+            return;
+        }
+
+        Map<Long, String> productNames = productRepository.findAllById(alerts.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+
+        List<NotificationRow> rows = new ArrayList<>();
+        alerts.forEach((productId, voteCount) -> {
+            String productName = productNames.get(productId);
+            if (productName == null) {
+                return;
+            }
+            String message = String.format("상품 '%s'에 대한 재입고 투표가 %d개에 도달했습니다.",
+                    productName, voteCount);
+            rows.add(new NotificationRow(adminUser.getId(), NotificationType.RESTOCK, ADMIN_TITLE, message));
+            log.info("관리자 알림 생성: 상품={}, 투표수={}", productName, voteCount);
+        });
+
+        notificationService.createBulk(rows);
+    }
+
+    /**
+     * 상품의 DB 투표자를 투표 집합에 채움 (보정 중 대기열이 반영되면 다시 조회, 최대 SEED_ATTEMPTS 회)
+     *
+     * @return 채웠으면 (또는 이미 채워져 있으면) true
+     */
+    public boolean seedVoters(Long productId, Long sellerId) {
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            String flushSeq = currentFlushSeq();
+            List<Long> userIds = findAllVoterIds(productId);
+
+            String[] args = new String[userIds.size() + 2];
+            args[0] = flushSeq;
+            args[1] = String.valueOf(productId);
+            for (int i = 0; i < userIds.size(); i++) {
+                args[i + 2] = String.valueOf(userIds.get(i));
+            }
+
+            Long result = redisService.executeScript(SEED_SCRIPT,
+                    List.of(RestockVoteService.votesKey(productId), RestockVoteService.countKey(productId),
+                            RestockVoteService.seededKey(productId), RestockVoteService.PENDING_QUEUE_KEY, FLUSH_SEQ_KEY,
+                            RestockVoteService.rankKey(), RestockVoteService.sellerRankKey(sellerId)),
+                    args);
+            if (result != null && result >= 0) {
+                log.info("재입고 투표 집합 채움: 상품ID={}, DB 투표자={}명, 투표수={}", productId, userIds.size(), result);
+                return true;
+            }
+        }
+
+        log.warn("재입고 투표 집합 채우기 실패 (대기열 반영과 겹침): 상품ID={}", productId);
+        return false;
+    }
+
+    private List<Long> findAllVoterIds(Long productId) {
+        List<Long> result = new ArrayList<>();
+        long afterUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = restockVoteRepository.findUserIdsByProductIdAfter(
+                    productId, afterUserId, PageRequest.of(0, MEMBER_BATCH_SIZE));
+            result.addAll(userIds);
+            if (userIds.size() < MEMBER_BATCH_SIZE) {
+                return result;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+    }
+
+    /**
+     * DB 기준 Redis 보정
+     * - 카운트/순위 점수는 투표 집합 크기로 맞춤
+     * - 집합이 DB 보다 작으면 (Redis 유실 등) DB 투표자를 집합에 복구
+     * - 보정 중 새 투표가 대기열에 있거나 반영되면 해당 상품은 건너뛰고 다음 실행에서 보정
+     */
+    public void reconcileCounters() {
+        long afterProductId = 0L;
+        int checked = 0;
+        int repaired = 0;
+        int skipped = 0;
+
+        while (true) {
+            String flushSeq = currentFlushSeq();
+            List<ProductVoteCount> counts = restockVoteRepository.countVotesByProductAfter(
+                    afterProductId, PageRequest.of(0, RECONCILE_CHUNK_SIZE));
+            if (counts.isEmpty()) {
+                break;
+            }
+
+            List<Object> setSizes = redisService.executePipelined(connection -> counts.forEach(count ->
+                    connection.sCard(RestockVoteService.votesKey(count.getProductId()))));
+
+            for (int i = 0; i < counts.size(); i++) {
+                ProductVoteCount count = counts.get(i);
+                long setSize = i < setSizes.size() && setSizes.get(i) instanceof Long size ? size : 0L;
+
+                long result = setSize < count.getVoteCount()
+                        ? restoreMembers(count, flushSeq)
+                        : reconcile(count, flushSeq, List.of());
+
+                checked++;
+                if (result < 0) {
+                    skipped++;
+                } else if (setSize < count.getVoteCount()) {
+                    repaired++;
+                }
+            }
+
+            afterProductId = counts.get(counts.size() - 1).getProductId();
+            if (counts.size() < RECONCILE_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        log.info("재입고 투표 보정 완료: 확인={}개 상품, 복구={}개, 건너뜀={}개", checked, repaired, skipped);
+    }
+
+    /**
+     * DB 투표자를 배치로 집합에 추가 (마지막 호출의 결과 투표수 반환)
+     */
+    private long restoreMembers(ProductVoteCount count, String flushSeq) {
+        long afterUserId = 0L;
+        long result = -1L;
+
+        while (true) {
+            List<Long> userIds = restockVoteRepository.findUserIdsByProductIdAfter(
+                    count.getProductId(), afterUserId, PageRequest.of(0, MEMBER_BATCH_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            result = reconcile(count, flushSeq,
+                    userIds.stream().map(String::valueOf).collect(Collectors.toList()));
+            if (result < 0) {
+                return result;
+            }
+
+            afterUserId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < MEMBER_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    private long reconcile(ProductVoteCount count, String flushSeq, List<String> members) {
+        String[] args = new String[members.size() + 2];
+        args[0] = flushSeq;
+        args[1] = String.valueOf(count.getProductId());
+        for (int i = 0; i < members.size(); i++) {
+            args[i + 2] = members.get(i);
+        }
+
+        Long result = redisService.executeScript(RECONCILE_SCRIPT,
+                List.of(RestockVoteService.votesKey(count.getProductId()),
+                        RestockVoteService.countKey(count.getProductId()),
+                        RestockVoteService.PENDING_QUEUE_KEY, FLUSH_SEQ_KEY,
+                        RestockVoteService.rankKey(), RestockVoteService.sellerRankKey(count.getSellerId())),
+                args);
+        return result != null ? result : -1L;
+    }
+
+    private String currentFlushSeq() {
+        String seq = redisService.getStringValue(FLUSH_SEQ_KEY);
+        return seq != null ? seq : "0";
+    }
+
+    /**
+     * 대기열 배치를 (상품, 사용자)별 최종 상태로 접어 둔 결과
+     */
+    private static class PendingBatch {
+
+        private final Set<Long> resets = new LinkedHashSet<>();
+        private final Map<String, RestockVoteRow> votes = new LinkedHashMap<>();
+        private final Map<String, RestockVoteRow> cancels = new LinkedHashMap<>();
+        private final Map<Long, Long> alerts = new LinkedHashMap<>();
+
+        static PendingBatch of(List<String> entries) {
+            PendingBatch batch = new PendingBatch();
+            for (String entry : entries) {
+                try {
+                    batch.add(entry.split(":"));
+                } catch (RuntimeException e) {
+                    log.warn("재입고 투표 대기열 항목 형식 오류, 건너뜀: {}", entry);
+                }
+            }
+            return batch;
+        }
+
+        private void add(String[] parts) {
+            long productId = Long.parseLong(parts[1]);
+
+            switch (parts[0]) {
+                case "V" -> {
+                    long userId = Long.parseLong(parts[2]);
+                    String key = productId + ":" + userId;
+                    cancels.remove(key);
+                    votes.put(key, new RestockVoteRow(productId, userId, Long.parseLong(parts[3])));
+                }
+                case "C" -> {
+                    long userId = Long.parseLong(parts[2]);
+                    String key = productId + ":" + userId;
+                    votes.remove(key);
+                    cancels.put(key, new RestockVoteRow(productId, userId, 0L));
+                }
+                case "R" -> {
+                    // 초기화 이전에 쌓인 같은 상품의 투표/취소/알림은 의미가 없음
+                    String prefix = productId + ":";
+                    votes.keySet().removeIf(key -> key.startsWith(prefix));
+                    cancels.keySet().removeIf(key -> key.startsWith(prefix));
+                    alerts.remove(productId);
+                    resets.add(productId);
+                }
+                case "A" -> alerts.put(productId, Long.parseLong(parts[2]));
+                default -> throw new IllegalArgumentException("알 수 없는 항목: " + parts[0]);
+            }
+        }
+    }
+}
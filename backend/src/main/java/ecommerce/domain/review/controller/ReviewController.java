@@ -1,5 +1,6 @@
 package ecommerce.domain.review.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.review.dto.ReviewRequest;
 import ecommerce.domain.review.dto.ReviewResponse;
 import ecommerce.domain.review.service.ReviewService;
@@ -40,11 +41,11 @@ public class ReviewController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", content = @Content)
     public ResponseEntity<ReviewResponse> createReview(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody ReviewRequest request
     ) {
-        log.info("POST /api/reviews - email: {}, productId: {}", email, request.getProductId());
-        ReviewResponse response = reviewService.createReview(email, request);
+        log.info("POST /api/reviews - userId: {}, productId: {}", principal.getUserId(), request.getProductId());
+        ReviewResponse response = reviewService.createReview(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -54,11 +55,11 @@ public class ReviewController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     public ResponseEntity<Page<ReviewResponse>> getMyReviews(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        log.info("GET /api/reviews/my - email: {}, page: {}", email, pageable.getPageNumber());
-        Page<ReviewResponse> response = reviewService.getMyReviews(email, pageable);
+        log.info("GET /api/reviews/my - userId: {}, page: {}", principal.getUserId(), pageable.getPageNumber());
+        Page<ReviewResponse> response = reviewService.getMyReviews(principal.getUserId(), pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -71,12 +72,12 @@ public class ReviewController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 리뷰 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "리뷰를 찾을 수 없음", content = @Content)
     public ResponseEntity<ReviewResponse> updateReview(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id,
             @Valid @RequestBody ReviewRequest request
     ) {
-        log.info("PUT /api/reviews/{} - email: {}", id, email);
-        ReviewResponse response = reviewService.updateReview(email, id, request);
+        log.info("PUT /api/reviews/{} - userId: {}", id, principal.getUserId());
+        ReviewResponse response = reviewService.updateReview(principal.getUserId(), id, request);
         return ResponseEntity.ok(response);
     }
 
@@ -88,11 +89,11 @@ public class ReviewController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (본인 리뷰 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "리뷰를 찾을 수 없음", content = @Content)
     public ResponseEntity<Void> deleteReview(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable Long id
     ) {
-        log.info("DELETE /api/reviews/{} - email: {}", id, email);
-        reviewService.deleteReview(email, id);
+        log.info("DELETE /api/reviews/{} - userId: {}", id, principal.getUserId());
+        reviewService.deleteReview(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
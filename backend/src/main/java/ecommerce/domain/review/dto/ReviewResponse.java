@@ -23,12 +23,19 @@ public class ReviewResponse {
     private LocalDateTime updatedAt;
 
     public static ReviewResponse from(Review review) {
+        return from(review, review.getUser() != null ? review.getUser().getName() : null);
+    }
+
+    /**
+     * 사용자 이름을 따로 받는 변환 (사용자 프록시를 초기화하지 않음)
+     */
+    public static ReviewResponse from(Review review, String userName) {
         return ReviewResponse.builder()
                 .id(review.getId())
                 .productId(review.getProduct() != null ? review.getProduct().getId() : null)
                 .productName(review.getProduct() != null ? review.getProduct().getName() : null)
                 .userId(review.getUser() != null ? review.getUser().getId() : null)
-                .userName(review.getUser() != null ? review.getUser().getName() : null)
+                .userName(userName)
                 .rating(review.getRating())
                 .content(review.getContent())
                 .createdAt(review.getCreatedAt())
@@ -11,8 +11,8 @@ import ecommerce.domain.review.dto.ReviewRequest;
 import ecommerce.domain.review.dto.ReviewResponse;
 import ecommerce.domain.review.entity.Review;
 import ecommerce.domain.review.repository.ReviewRepository;
-import ecommerce.domain.user.entity.User;
 import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,6 +27,7 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
 
@@ -34,13 +35,9 @@ public class ReviewService {
      * 리뷰 작성
      */
     @Transactional
-    public ReviewResponse createReview(String email, ReviewRequest request) {
-        log.info("리뷰 작성 시도: email={}, productId={}, rating={}",
-                email, request.getProductId(), request.getRating());
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public ReviewResponse createReview(Long userId, ReviewRequest request) {
+        log.info("리뷰 작성 시도: userId={}, productId={}, rating={}",
+                userId, request.getProductId(), request.getRating());
 
         // 상품 조회
         Product product = productRepository.findById(request.getProductId())
@@ -56,7 +53,7 @@ public class ReviewService {
         // 리뷰 생성
         Review review = Review.builder()
                 .product(product)
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .orderItem(orderItem)
                 .rating(request.getRating())
                 .content(request.getContent())
@@ -65,39 +62,34 @@ public class ReviewService {
         Review savedReview = reviewRepository.save(review);
         log.info("리뷰 작성 완료: reviewId={}", savedReview.getId());
 
-        return ReviewResponse.from(savedReview);
+        return ReviewResponse.from(savedReview, userCache.get(userId).getName());
     }
 
     /**
      * 내 리뷰 목록 조회
      */
     @Transactional(readOnly = true)
-    public Page<ReviewResponse> getMyReviews(String email, Pageable pageable) {
-        log.info("내 리뷰 목록 조회: email={}, page={}", email, pageable.getPageNumber());
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public Page<ReviewResponse> getMyReviews(Long userId, Pageable pageable) {
+        log.info("내 리뷰 목록 조회: userId={}, page={}", userId, pageable.getPageNumber());
 
-        Page<Review> reviews = reviewRepository.findByUserId(user.getId(), pageable);
+        Page<Review> reviews = reviewRepository.findByUserId(userId, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        String userName = userCache.get(userId).getName();
+        return reviews.map(review -> ReviewResponse.from(review, userName));
     }
 
     /**
      * 리뷰 수정
      */
     @Transactional
-    public ReviewResponse updateReview(String email, Long id, ReviewRequest request) {
-        log.info("리뷰 수정: email={}, reviewId={}", email, id);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public ReviewResponse updateReview(Long userId, Long id, ReviewRequest request) {
+        log.info("리뷰 수정: userId={}, reviewId={}", userId, id);
 
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REVIEW_NOT_FOUND));
 
         // 본인 리뷰인지 확인
-        if (!review.getUser().getId().equals(user.getId())) {
+        if (!review.getUser().getId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.ACCESS_DENIED, "본인의 리뷰만 수정할 수 있습니다");
         }
 
@@ -112,24 +104,21 @@ public class ReviewService {
         Review updatedReview = reviewRepository.save(review);
         log.info("리뷰 수정 완료: reviewId={}", updatedReview.getId());
 
-        return ReviewResponse.from(updatedReview);
+        return ReviewResponse.from(updatedReview, userCache.get(userId).getName());
     }
 
     /**
      * 리뷰 삭제
      */
     @Transactional
-    public void deleteReview(String email, Long id) {
-        log.info("리뷰 삭제: email={}, reviewId={}", email, id);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public void deleteReview(Long userId, Long id) {
+        log.info("리뷰 삭제: userId={}, reviewId={}", userId, id);
 
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REVIEW_NOT_FOUND));
 
         // 본인 리뷰인지 확인
-        if (!review.getUser().getId().equals(user.getId())) {
+        if (!review.getUser().getId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.ACCESS_DENIED, "본인의 리뷰만 삭제할 수 있습니다");
         }
 
@@ -0,0 +1,54 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.cart.service.CartSyncService;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 장바구니 반영 스케줄러
+ * - Redis 장바구니 변경분 반영: 2초마다, 임대를 얻은 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartSyncScheduler {
+
+    private final CartSyncService cartSyncService;
+    private final JobLeaseManager jobLeaseManager;
+
+    private static final String FLUSH_JOB_NAME = "cart-flush";
+    private static final Duration FLUSH_LEASE_TTL = Duration.ofSeconds(30);
+
+    @Scheduled(fixedDelayString = "${cart.flush-interval-ms:2000}")
+    public void flushDirtyCarts() {
+        Optional<JobLease> lease;
+        try {
+            lease = jobLeaseManager.tryAcquire(FLUSH_JOB_NAME, FLUSH_JOB_NAME, FLUSH_LEASE_TTL).getLease();
+        } catch (Exception e) {
+            log.error("장바구니 반영 임대 획득 실패", e);
+            return;
+        }
+
+        if (lease.isEmpty()) {
+            return;
+        }
+
+        try {
+            int flushed = cartSyncService.flushDirty();
+            if (flushed > 0) {
+                log.debug("장바구니 DB 반영: 사용자 {}명", flushed);
+            }
+        } catch (Exception e) {
+            log.error("장바구니 DB 반영 실패 (다음 주기에 재시도)", e);
+        } finally {
+            jobLeaseManager.release(lease.get());
+        }
+    }
+}
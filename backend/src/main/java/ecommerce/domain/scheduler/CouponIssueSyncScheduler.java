@@ -0,0 +1,54 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.coupon.service.CouponIssueSyncService;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 선착순 쿠폰 발급 저장 스케줄러
+ * - 대기열 반영: 0.5초마다, 임대를 얻은 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueSyncScheduler {
+
+    private final CouponIssueSyncService couponIssueSyncService;
+    private final JobLeaseManager jobLeaseManager;
+
+    private static final String FLUSH_JOB_NAME = "coupon-issue-flush";
+    private static final Duration FLUSH_LEASE_TTL = Duration.ofSeconds(30);
+
+    @Scheduled(fixedDelayString = "${coupon.drop.flush-interval-ms:500}")
+    public void flushPendingIssues() {
+        Optional<JobLease> lease;
+        try {
+            lease = jobLeaseManager.tryAcquire(FLUSH_JOB_NAME, FLUSH_JOB_NAME, FLUSH_LEASE_TTL).getLease();
+        } catch (Exception e) {
+            log.error("선착순 쿠폰 저장 임대 획득 실패", e);
+            return;
+        }
+
+        if (lease.isEmpty()) {
+            return;
+        }
+
+        try {
+            int flushed = couponIssueSyncService.flushPending();
+            if (flushed > 0) {
+                log.debug("선착순 쿠폰 발급 저장: {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("선착순 쿠폰 발급 저장 실패 (다음 주기에 재시도)", e);
+        } finally {
+            jobLeaseManager.release(lease.get());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.product.service.DemandForecastService;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수요 예측 일별 롤업 스케줄러
+ * 매일 자정 30분에 실행되어 전날까지 반영되지 않은 판매량을 상품별 EWMA 예측값에 반영
+ * (새벽 1시 자동 발주 권장 체크 전에 완료되어야 함)
+ * 기동 직후에도 한 번 실행하여 배포 직후 초기화/실패한 날을 바로 따라잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DemandForecastRollupScheduler {
+
+    private final DemandForecastService demandForecastService;
+    private final ClusterJobExecutor clusterJobExecutor;
+
+    private static final String JOB_NAME = "demand-forecast-rollup";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+
+    @Scheduled(cron = "0 30 0 * * ?") // 매일 0시 30분 실행
+    public void rollupYesterday() {
+        rollupThroughYesterday();
+    }
+
+    @Scheduled(initialDelayString = "${forecast.startup-catch-up-delay-ms:30000}") // 기동 후 한 번 실행
+    public void catchUpOnStartup() {
+        rollupThroughYesterday();
+    }
+
+    private void rollupThroughYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        log.info("========================================");
+        log.info("수요 예측 롤업 시작: ~{}", yesterday);
+        log.info("========================================");
+
+        long startTime = System.currentTimeMillis();
+        AtomicInteger days = new AtomicInteger();
+        boolean executed = clusterJobExecutor.runOnce(JOB_NAME, yesterday.toString(), LEASE_TTL,
+                lease -> days.set(demandForecastService.catchUp(yesterday)));
+
+        log.info("========================================");
+        log.info("수요 예측 롤업 종료: 실행={}, 반영 일수={}, 소요: {}ms",
+                executed, days.get(), System.currentTimeMillis() - startTime);
+        log.info("========================================");
+    }
+}
@@ -0,0 +1,51 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.notification.retention.NotificationPartitionManager;
+import ecommerce.domain.notification.retention.NotificationRetentionService;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 알림 보관 기간 정리 스케줄러
+ * 매일 새벽 3시 30분, 클러스터에서 한 번 실행
+ *
+ * - 월별 파티션을 쓰는 경우 파티션 추가/만료 파티션 삭제를 먼저 수행
+ * - 남은 만료 알림은 키셋 배치로 천천히 삭제 (임대는 실행 중 자동 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private static final String JOB_NAME = "notification-retention";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(2);
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationPartitionManager notificationPartitionManager;
+    private final ClusterJobExecutor clusterJobExecutor;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(cron = "0 30 3 * * ?") // 매일 새벽 3시 30분
+    public void purgeExpiredNotifications() {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        boolean executed = clusterJobExecutor.runOnce(JOB_NAME, LocalDate.now().toString(), LEASE_TTL, lease -> {
+            notificationPartitionManager.maintain();
+            notificationRetentionService.purgeExpired(lease);
+        });
+
+        log.info("알림 보관 기간 정리 종료: 실행={}, 소요: {}ms", executed, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,33 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.restock.event.RestockNotificationAsyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재입고 알림 발송 재개 스케줄러
+ * - 완료되지 않은 발송(실패/노드 장애)을 1분마다 배치 실행기로 다시 넘김
+ * - 모든 노드에서 실행되지만 상품별 임대로 한 노드만 실제로 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestockFanOutScheduler {
+
+    private final RestockNotificationAsyncService restockNotificationAsyncService;
+
+    @Scheduled(initialDelayString = "${restock.fan-out.resume-interval-ms:60000}",
+            fixedDelayString = "${restock.fan-out.resume-interval-ms:60000}")
+    public void resumePendingFanOuts() {
+        try {
+            int submitted = restockNotificationAsyncService.resumePending();
+            if (submitted > 0) {
+                log.info("재입고 알림 발송 재개 점검: {}건 넘김", submitted);
+            }
+        } catch (Exception e) {
+            log.error("재입고 알림 발송 재개 점검 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
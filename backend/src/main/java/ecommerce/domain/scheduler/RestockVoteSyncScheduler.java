@@ -0,0 +1,72 @@
+package ecommerce.domain.scheduler;
+
+import ecommerce.domain.restock.service.RestockVoteSyncService;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 재입고 투표 동기화 스케줄러
+ * - 대기열 반영: 1초마다, 임대를 얻은 한 노드만 실행 (대기열 순서 보장)
+ * - 카운터 보정: 매시 45분, 클러스터에서 한 번
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestockVoteSyncScheduler {
+
+    private final RestockVoteSyncService restockVoteSyncService;
+    private final JobLeaseManager jobLeaseManager;
+    private final ClusterJobExecutor clusterJobExecutor;
+
+    private static final String FLUSH_JOB_NAME = "restock-vote-flush";
+    private static final String RECONCILE_JOB_NAME = "restock-vote-reconcile";
+    private static final Duration FLUSH_LEASE_TTL = Duration.ofSeconds(30);
+    private static final Duration RECONCILE_LEASE_TTL = Duration.ofSeconds(60);
+
+    @Scheduled(fixedDelayString = "${restock.vote.flush-interval-ms:1000}")
+    public void flushPendingVotes() {
+        Optional<JobLease> lease;
+        try {
+            lease = jobLeaseManager.tryAcquire(FLUSH_JOB_NAME, FLUSH_JOB_NAME, FLUSH_LEASE_TTL).getLease();
+        } catch (Exception e) {
+            log.error("재입고 투표 반영 임대 획득 실패", e);
+            return;
+        }
+
+        if (lease.isEmpty()) {
+            return;
+        }
+
+        try {
+            int flushed = restockVoteSyncService.flushPending();
+            if (flushed > 0) {
+                log.debug("재입고 투표 대기열 반영: {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("재입고 투표 대기열 반영 실패 (다음 주기에 재시도)", e);
+        } finally {
+            jobLeaseManager.release(lease.get());
+        }
+    }
+
+    @Scheduled(cron = "0 45 * * * ?") // 매시 45분 실행
+    public void reconcileVoteCounters() {
+        String runId = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).toString();
+
+        long startTime = System.currentTimeMillis();
+        boolean executed = clusterJobExecutor.runOnce(RECONCILE_JOB_NAME, runId, RECONCILE_LEASE_TTL,
+                lease -> restockVoteSyncService.reconcileCounters());
+
+        log.info("재입고 투표 카운터 보정 종료: 실행={}, 소요: {}ms", executed, System.currentTimeMillis() - startTime);
+    }
+}
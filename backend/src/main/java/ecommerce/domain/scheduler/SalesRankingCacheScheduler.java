@@ -1,103 +1,108 @@
 package ecommerce.domain.scheduler;
 
-import ecommerce.domain.order.entity.OrderItem;
+import ecommerce.domain.order.dto.ProductSalesAggregate;
 import ecommerce.domain.order.repository.OrderItemRepository;
-import ecommerce.domain.product.entity.Product;
-import ecommerce.domain.seller.entity.Seller;
 import ecommerce.domain.seller.repository.SellerRepository;
-import ecommerce.infrastructure.redis.RedisService;
+import ecommerce.domain.seller.service.SalesRankingCacheWriter;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
+import ecommerce.infrastructure.batch.JobProgress;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import ecommerce.infrastructure.job.IdRange;
+import ecommerce.infrastructure.job.JobLease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * 판매 순위 캐시 워밍 스케줄러
  * 매시간 정각에 실행되어 판매자별 상품 판매 순위를 Redis에 캐싱
+ *
+ * - 판매자 ID 를 청크(100명) 단위로 읽어 최근 7일 주문 아이템을 GROUP BY seller_id, product_id 로 묶음 집계
+ *   (seller_id, created_at 인덱스 사용, 청크별 체크포인트로 중단 지점부터 재개)
+ * - 판매자별 Sorted Set(판매량) + Hash(매출) 기록과 교체는 SalesRankingCacheWriter 가 담당
+ *   (스테이징 키에 기록 후 임대 소유자일 때만 RENAME 으로 교체)
+ * - 판매자 ID 구간을 샤드로 나누어 클러스터 노드들이 나눠 처리 (트리거당 샤드별 한 번)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SalesRankingCacheScheduler {
 
-    private final SellerRepository sellerRepository;
     private final OrderItemRepository orderItemRepository;
-    private final RedisService redisService;
+    private final SellerRepository sellerRepository;
+    private final SalesRankingCacheWriter salesRankingCacheWriter;
+    private final ClusterJobExecutor clusterJobExecutor;
+    private final ChunkJobRunner chunkJobRunner;
 
-    private static final String REDIS_RANKING_PREFIX = "seller:ranking:";
-    private static final Long CACHE_TTL = 3600L; // 1시간
+    private static final String JOB_NAME = "sales-ranking";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final int SELLER_CHUNK_SIZE = 100;
+
+    @Value("${scheduler.sales-ranking.shard-count:8}")
+    private int shardCount;
 
     @Scheduled(cron = "0 0 * * * ?") // 매시간 정각 실행
-    @Transactional(readOnly = true)
     public void updateSalesRanking() {
         log.info("========================================");
         log.info("판매 순위 캐시 워밍 시작");
         log.info("========================================");
 
-        List<Seller> sellers = sellerRepository.findAll();
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+        long startTime = System.currentTimeMillis();
+        String runId = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).toString();
+        long maxSellerId = sellerRepository.findMaxId();
 
-        int successCount = 0;
-        int failCount = 0;
-
-        for (Seller seller : sellers) {
-            try {
-                // 판매자의 최근 7일 주문 아이템 조회
-                List<OrderItem> orderItems = orderItemRepository.findAll().stream()
-                        .filter(item -> item.getSeller().getId().equals(seller.getId()))
-                        .filter(item -> item.getCreatedAt().isAfter(sevenDaysAgo))
-                        .collect(Collectors.toList());
-
-                if (orderItems.isEmpty()) {
-                    log.debug("판매자 {}의 최근 7일 판매 데이터 없음", seller.getId());
-                    continue;
-                }
-
-                // 상품별로 그룹화
-                Map<Product, List<OrderItem>> groupedByProduct = orderItems.stream()
-                        .collect(Collectors.groupingBy(OrderItem::getProduct));
-
-                // 순위 데이터 생성 (형식: "productId:salesCount:revenue|...")
-                String rankingData = groupedByProduct.entrySet().stream()
-                        .map(entry -> {
-                            Product product = entry.getKey();
-                            List<OrderItem> items = entry.getValue();
-
-                            long salesCount = items.stream()
-                                    .mapToLong(OrderItem::getQuantity)
-                                    .sum();
-
-                            BigDecimal revenue = items.stream()
-                                    .map(OrderItem::getSubtotal)
-                                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                            return product.getId() + ":" + salesCount + ":" + revenue;
-                        })
-                        .collect(Collectors.joining("|"));
-
-                // Redis에 저장
-                String key = REDIS_RANKING_PREFIX + seller.getId();
-                redisService.setValue(key, rankingData, CACHE_TTL);
-
-                successCount++;
-                log.debug("판매자 {} 순위 캐시 업데이트 완료", seller.getId());
-
-            } catch (Exception e) {
-                failCount++;
-                log.error("판매자 {} 순위 캐시 업데이트 실패: {}", seller.getId(), e.getMessage(), e);
-            }
-        }
+        int processedShards = clusterJobExecutor.runSharded(
+                JOB_NAME, runId, 1L, maxSellerId, shardCount, LEASE_TTL,
+                (range, lease) -> updateShard(runId, range, lease));
 
         log.info("========================================");
         log.info("판매 순위 캐시 워밍 완료");
-        log.info("성공: {}개, 실패: {}개", successCount, failCount);
+        log.info("이 노드 처리 샤드: {}개, 소요: {}ms", processedShards, System.currentTimeMillis() - startTime);
         log.info("========================================");
     }
-}
\ No newline at end of file
+
+    /**
+     * 판매자 ID 구간 하나의 순위 갱신 (청크 단위: 판매자 ID 조회 → 판매자 묶음 집계 → 스테이징 기록 후 교체)
+     */
+    private void updateShard(String runId, IdRange range, JobLease lease) {
+        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+
+        ChunkJob<Long, Long> job = ChunkJob.<Long, Long>builder()
+                .name(JOB_NAME)
+                .runId(runId + ":" + range.getShardIndex())
+                .minId(range.getFromId())
+                .maxId(range.getToId())
+                .chunkSize(SELLER_CHUNK_SIZE)
+                .reader((afterId, toId, limit) -> sellerRepository.findIdsAfter(afterId, toId, PageRequest.of(0, limit)))
+                .keyExtractor(Long::longValue)
+                .processor(Function.identity())
+                .writer(sellerIds -> updateSellers(sellerIds, sevenDaysAgo, range, lease))
+                .build();
+
+        JobProgress progress = chunkJobRunner.run(job);
+
+        log.debug("판매 순위 샤드 완료: range={}, 판매자={}명", range, progress.getReadCount());
+    }
+
+    /**
+     * 판매자 묶음의 상품별 판매량을 한 번에 집계하여 순위 키 교체
+     */
+    private void updateSellers(List<Long> sellerIds, LocalDateTime fromDate, IdRange range, JobLease lease) {
+        List<ProductSalesAggregate> rows = orderItemRepository.findSalesBySellerIdsSince(sellerIds, fromDate);
+
+        // 임대를 잃은 경우 (다른 노드가 인계) 결과를 반영하지 않음
+        if (!salesRankingCacheWriter.writeFenced(rows, lease)) {
+            throw new IllegalStateException("임대 상실로 순위 반영 중단: " + range);
+        }
+    }
+}
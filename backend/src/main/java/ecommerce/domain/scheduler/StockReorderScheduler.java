@@ -1,136 +1,234 @@
 package ecommerce.domain.scheduler;
 
-import ecommerce.domain.notification.entity.Notification;
 import ecommerce.domain.notification.enums.NotificationType;
-import ecommerce.domain.notification.repository.NotificationRepository;
-import ecommerce.domain.order.entity.OrderItem;
-import ecommerce.domain.order.repository.OrderItemRepository;
-import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.notification.service.NotificationService;
+import ecommerce.domain.notification.repository.NotificationRow;
+import ecommerce.domain.product.dto.ProductForecastStock;
 import ecommerce.domain.product.enums.ProductStatus;
+import ecommerce.domain.product.repository.ProductDemandForecastRepository;
 import ecommerce.domain.product.repository.ProductRepository;
-import ecommerce.domain.user.entity.User;
+import ecommerce.domain.product.service.DemandForecastService;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
+import ecommerce.infrastructure.batch.JobProgress;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import ecommerce.infrastructure.job.IdRange;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
 import ecommerce.infrastructure.redis.RedisService;
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 자동 발주 권장 스케줄러
  * 매일 새벽 1시에 실행되어 재고 소진 예상 상품에 대해 발주 권장 알림 생성
+ *
+ * - 상품별 수요 예측값(일 판매량 EWMA/분산)을 재고/판매자 정보와 함께 조회 (주문 이력 스캔 없음)
+ * - 소진 예상 일수는 안전재고(z * σ * √기간)를 반영하여 계산
+ * - 샤드 내부는 청크 작업(키셋 조회 → 계산 → 알림 일괄 저장)으로 처리, 청크별 커밋/체크포인트
+ * - 중복 알림 방지는 파이프라인 SET NX EX 로 일괄 처리
+ * - 알림은 JDBC 배치 INSERT 로 일괄 저장
+ * - 상품 ID 구간을 샤드로 나누어 클러스터 노드들이 나눠 처리 (트리거당 샤드별 한 번)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StockReorderScheduler {
 
+    private final ProductDemandForecastRepository forecastRepository;
     private final ProductRepository productRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final NotificationRepository notificationRepository;
+    private final DemandForecastService demandForecastService;
+    private final NotificationService notificationService;
     private final RedisService redisService;
+    private final ClusterJobExecutor clusterJobExecutor;
+    private final JobLeaseManager jobLeaseManager;
+    private final ChunkJobRunner chunkJobRunner;
 
+    private static final String JOB_NAME = "stock-reorder";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
     private static final String REDIS_REORDER_ALERT_PREFIX = "reorder:alert:";
     private static final int CRITICAL_DAYS = 3; // 소진 예상 일수 임계값
+    private static final double SAFETY_FACTOR = 1.65; // 안전재고 z 값 (서비스 수준 약 95%)
+    private static final long ALERT_TTL = 86400L; // 24시간
+    private static final int CHUNK_SIZE = 1000;
+
+    @Value("${scheduler.stock-reorder.shard-count:16}")
+    private int shardCount;
 
     @Scheduled(cron = "0 0 1 * * ?") // 매일 새벽 1시 실행
-    @Transactional
     public void checkStockLevels() {
         log.info("========================================");
         log.info("자동 발주 권장 체크 시작");
         log.info("========================================");
 
-        // 활성 상품 중 재고가 있는 상품만 조회
-        List<Product> activeProducts = productRepository.findAll().stream()
-                .filter(p -> p.getStatus() == ProductStatus.ACTIVE && p.getStock() > 0)
-                .collect(Collectors.toList());
+        long startTime = System.currentTimeMillis();
+        String runId = LocalDate.now().toString();
+        long maxProductId = productRepository.findMaxId();
+
+        int processedShards = clusterJobExecutor.runSharded(
+                JOB_NAME, runId, 1L, maxProductId, shardCount, LEASE_TTL,
+                (range, lease) -> checkShard(runId, range, lease));
 
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        int alertCount = 0;
-        int skippedCount = 0;
+        log.info("========================================");
+        log.info("자동 발주 권장 체크 완료");
+        log.info("이 노드 처리 샤드: {}개, 소요: {}ms", processedShards, System.currentTimeMillis() - startTime);
+        log.info("========================================");
+    }
 
-        log.info("체크 대상 활성 상품 수: {}", activeProducts.size());
+    /**
+     * 상품 ID 구간 하나의 재고 소진 체크 (청크 단위: 예측값 조회 → 소진 예상 계산 → 알림 일괄 저장)
+     */
+    private void checkShard(String runId, IdRange range, JobLease lease) {
+        // 예측값은 전날까지 반영되어 있으므로 전날 기준으로 추정
+        LocalDate asOf = LocalDate.now().minusDays(1);
+
+        ChunkJob<ProductForecastStock, ReorderAlert> job = ChunkJob.<ProductForecastStock, ReorderAlert>builder()
+                .name(JOB_NAME)
+                .runId(runId + ":" + range.getShardIndex())
+                .minId(range.getFromId())
+                .maxId(range.getToId())
+                .chunkSize(CHUNK_SIZE)
+                .reader((afterId, toId, limit) -> forecastRepository.findForecastStockAfter(
+                        ProductStatus.ACTIVE, afterId, toId, PageRequest.of(0, limit)))
+                .keyExtractor(ProductForecastStock::getProductId)
+                .processor(row -> toReorderAlert(row, asOf))
+                .writer(alerts -> {
+                    // 임대를 잃은 경우 (다른 노드가 인계) 조기 중단
+                    // 확인 직후 인계되어 겹쳐 실행되어도 중복 알림은 SET NX 플래그로 막힘
+                    if (!jobLeaseManager.isCurrent(lease)) {
+                        throw new IllegalStateException("임대 상실로 알림 생성 중단: " + range);
+                    }
+                    createAlerts(alerts);
+                })
+                .build();
 
-        for (Product product : activeProducts) {
-            try {
-                // 최근 7일간 판매량 집계
-                List<OrderItem> orderItems = orderItemRepository.findAll().stream()
-                        .filter(item -> item.getProduct().getId().equals(product.getId()))
-                        .filter(item -> item.getCreatedAt().isAfter(sevenDaysAgo))
-                        .collect(Collectors.toList());
+        JobProgress progress = chunkJobRunner.run(job);
 
-                if (orderItems.isEmpty()) {
-                    skippedCount++;
-                    continue;
-                }
+        log.info("재고 체크 샤드 완료: range={}, 예측 대상 상품={}개, 소진 임박={}개",
+                range, progress.getReadCount(), progress.getWriteCount());
+    }
 
-                // 총 판매량 계산
-                long totalSales = orderItems.stream()
-                        .mapToLong(OrderItem::getQuantity)
-                        .sum();
+    /**
+     * 안전재고(z * σ * √기간)를 반영한 소진 예상 일수 계산
+     *
+     * @return 임계값 이내로 소진 예상이면 알림 대상, 아니면 null
+     */
+    private ReorderAlert toReorderAlert(ProductForecastStock row, LocalDate asOf) {
+        DemandForecastService.DemandEstimate estimate = demandForecastService.estimate(
+                row.getEwmaDailyUnits(), row.getEwmaVariance(), row.getLastObservedDate(), asOf);
+
+        double dailyAverage = estimate.getDailyMean();
+        if (dailyAverage <= 0.01) {
+            return null;
+        }
 
-                // 일평균 판매량 계산
-                double dailyAverage = totalSales / 7.0;
+        double safetyStock = SAFETY_FACTOR * estimate.getDailyStdDev() * Math.sqrt(CRITICAL_DAYS);
+        double daysUntilStockout = Math.max(0.0, row.getStock() - safetyStock) / dailyAverage;
 
-                if (dailyAverage <= 0) {
-                    skippedCount++;
-                    continue;
-                }
+        return daysUntilStockout <= CRITICAL_DAYS
+                ? new ReorderAlert(row, dailyAverage, daysUntilStockout, safetyStock)
+                : null;
+    }
 
-                // 예상 소진 일수 계산
-                double daysUntilStockout = product.getStock() / dailyAverage;
+    /**
+     * 중복 알림 플래그를 SET NX EX 로 선점하고, 선점에 성공한 상품만 알림 생성
+     * 청크 트랜잭션이 커밋되지 않으면 (저장/커밋 실패) 선점한 플래그를 해제하여 다음 실행에서 다시 알림
+     *
+     * @return 생성된 알림 수
+     */
+    private int createAlerts(List<ReorderAlert> batch) {
+        List<Object> acquired = redisService.executePipelined(connection -> {
+            for (ReorderAlert alert : batch) {
+                connection.set(alertKey(alert), "1",
+                        Expiration.seconds(ALERT_TTL), RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+        });
 
-                // 소진 예상 일수가 임계값 이하이면 알림 생성
-                if (daysUntilStockout <= CRITICAL_DAYS) {
-                    String redisKey = REDIS_REORDER_ALERT_PREFIX + product.getId();
+        List<NotificationRow> rows = new ArrayList<>();
+        List<String> acquiredKeys = new ArrayList<>();
 
-                    // 중복 알림 방지 (24시간 내 이미 알림 생성된 경우 스킵)
-                    if (redisService.hasKey(redisKey)) {
-                        log.debug("상품 {} 중복 알림 스킵 (24시간 내 이미 발송)", product.getId());
-                        skippedCount++;
-                        continue;
-                    }
+        for (int i = 0; i < batch.size(); i++) {
+            // Redis 장애로 결과가 없으면 알림 누락보다 중복을 택함
+            boolean isNew = i >= acquired.size() || Boolean.TRUE.equals(acquired.get(i));
+            if (!isNew) {
+                continue;
+            }
+
+            ReorderAlert alert = batch.get(i);
+            rows.add(toNotificationRow(alert));
+            acquiredKeys.add(alertKey(alert));
+        }
+
+        if (acquiredKeys.isEmpty()) {
+            return 0;
+        }
 
-                    // 판매자 알림 생성
-                    User sellerUser = product.getSeller().getUser();
-
-                    Notification notification = Notification.builder()
-                            .user(sellerUser)
-                            .type(NotificationType.STOCK_ALERT)
-                            .title("재고 부족 알림")
-                            .content(String.format(
-                                    "상품 '%s'의 재고가 부족합니다. " +
-                                            "현재 재고: %d개, 일평균 판매량: %.1f개, 예상 소진: %.1f일 후",
-                                    product.getName(),
-                                    product.getStock(),
-                                    dailyAverage,
-                                    daysUntilStockout
-                            ))
-                            .isRead(false)
-                            .build();
-
-                    notificationRepository.save(notification);
-
-                    // Redis에 알림 플래그 저장 (24시간 TTL)
-                    redisService.setValue(redisKey, "1", 86400L);
-
-                    alertCount++;
-                    log.info("✅ 재고 부족 알림 생성: 상품 '{}', 현재 재고 {}개, 예상 소진 {:.1f}일",
-                            product.getName(), product.getStock(), daysUntilStockout);
+        // 알림 행이 롤백되면 플래그만 남아 24시간 알림이 막히지 않도록 트랜잭션 결과에 맞춰 해제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseAlertFlags(acquiredKeys);
+                    }
                 }
+            });
+        }
 
-            } catch (Exception e) {
-                log.error("상품 {} 재고 체크 실패: {}", product.getId(), e.getMessage(), e);
-            }
+        // 저장 실패 시 청크 트랜잭션이 롤백되어 위 동기화가 플래그를 해제함 (다음 실행에서 재시도)
+        return notificationService.createBulk(rows);
+    }
+
+    private void releaseAlertFlags(List<String> keys) {
+        try {
+            redisService.executePipelined(connection -> keys.forEach(connection::del));
+        } catch (Exception e) {
+            log.error("재고 부족 알림 플래그 해제 실패 (TTL 만료 후 다시 알림): {}건, 에러={}", keys.size(), e.getMessage());
         }
+    }
 
-        log.info("========================================");
-        log.info("자동 발주 권장 체크 완료");
-        log.info("알림 생성: {}건, 스킵: {}건", alertCount, skippedCount);
-        log.info("========================================");
+    private NotificationRow toNotificationRow(ReorderAlert alert) {
+        ProductForecastStock product = alert.product;
+
+        return new NotificationRow(
+                product.getSellerUserId(),
+                NotificationType.STOCK_ALERT,
+                "재고 부족 알림",
+                String.format(
+                        "상품 '%s'의 재고가 부족합니다. " +
+                                "현재 재고: %d개, 예상 일판매량: %.1f개, 안전재고: %.0f개, 예상 소진: %.1f일 후",
+                        product.getProductName(),
+                        product.getStock(),
+                        alert.dailyAverage,
+                        alert.safetyStock,
+                        alert.daysUntilStockout
+                )
+        );
+    }
+
+    private String alertKey(ReorderAlert alert) {
+        return REDIS_REORDER_ALERT_PREFIX + alert.product.getProductId();
+    }
+
+    @AllArgsConstructor
+    private static class ReorderAlert {
+        private final ProductForecastStock product;
+        private final double dailyAverage;
+        private final double daysUntilStockout;
+        private final double safetyStock;
     }
-}
\ No newline at end of file
+}
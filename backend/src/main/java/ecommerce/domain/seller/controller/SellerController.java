@@ -1,9 +1,11 @@
 package ecommerce.domain.seller.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.seller.dto.DashboardResponse;
 import ecommerce.domain.seller.dto.SellerRequest;
 import ecommerce.domain.seller.dto.SellerResponse;
 import ecommerce.domain.seller.service.DashboardService;
+import ecommerce.domain.seller.service.SalesRankingService;
 import ecommerce.domain.seller.service.SellerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +22,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/sellers")
@@ -30,6 +34,7 @@ public class SellerController {
 
     private final SellerService sellerService;
     private final DashboardService dashboardService; // 의존성 주입 추가 필요
+    private final SalesRankingService salesRankingService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
@@ -39,11 +44,11 @@ public class SellerController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "409", description = "이미 판매자로 등록되어 있거나 사업자 번호 중복", content = @Content)
     public ResponseEntity<SellerResponse> registerSeller(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody SellerRequest request
     ) {
-        log.info("POST /api/sellers - email: {}", email);
-        SellerResponse response = sellerService.registerSeller(email, request);
+        log.info("POST /api/sellers - userId: {}", principal.getUserId());
+        SellerResponse response = sellerService.registerSeller(principal.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -55,10 +60,10 @@ public class SellerController {
     @ApiResponse(responseCode = "403", description = "권한 없음 (판매자 아님)", content = @Content)
     @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
     public ResponseEntity<SellerResponse> getMySeller(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("GET /api/sellers/me - email: {}", email);
-        SellerResponse response = sellerService.getMySeller(email);
+        log.info("GET /api/sellers/me - userId: {}", principal.getUserId());
+        SellerResponse response = sellerService.getMySeller(principal.getUserId());
         return ResponseEntity.ok(response);
     }
 
@@ -72,11 +77,11 @@ public class SellerController {
     @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
     @ApiResponse(responseCode = "409", description = "사업자 번호 중복", content = @Content)
     public ResponseEntity<SellerResponse> updateMySeller(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody SellerRequest request
     ) {
-        log.info("PUT /api/sellers/me - email: {}", email);
-        SellerResponse response = sellerService.updateMySeller(email, request);
+        log.info("PUT /api/sellers/me - userId: {}", principal.getUserId());
+        SellerResponse response = sellerService.updateMySeller(principal.getUserId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -88,10 +93,10 @@ public class SellerController {
     @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
     @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
     public ResponseEntity<Void> deleteMySeller(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("DELETE /api/sellers/me - email: {}", email);
-        sellerService.deleteMySeller(email);
+        log.info("DELETE /api/sellers/me - userId: {}", principal.getUserId());
+        sellerService.deleteMySeller(principal.getUserId());
         return ResponseEntity.noContent().build();
     }
 
@@ -103,10 +108,26 @@ public class SellerController {
     @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
     @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
     public ResponseEntity<DashboardResponse> getDashboard(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
+    ) {
+        log.info("GET /api/sellers/me/dashboard - userId: {}", principal.getUserId());
+        DashboardResponse response = dashboardService.getDashboard(principal.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/me/sales-ranking")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    @Operation(summary = "판매 순위 조회", description = "최근 7일 상품별 판매 순위를 조회합니다 (매시간 갱신되는 캐시 사용)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
+    @ApiResponse(responseCode = "404", description = "판매자 정보를 찾을 수 없음", content = @Content)
+    public ResponseEntity<List<DashboardResponse.ProductSalesDto>> getSalesRanking(
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false, defaultValue = "10") Integer limit
     ) {
-        log.info("GET /api/sellers/me/dashboard - email: {}", email);
-        DashboardResponse response = dashboardService.getDashboard(email);
+        log.info("GET /api/sellers/me/sales-ranking - userId: {}, limit: {}", principal.getUserId(), limit);
+        List<DashboardResponse.ProductSalesDto> response = salesRankingService.getMySalesRanking(principal.getUserId(), limit);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package ecommerce.domain.seller.repository;
 
 import ecommerce.domain.seller.entity.Seller;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,12 @@ public interface SellerRepository extends JpaRepository<Seller, Long> {
     Optional<Seller> findByUserId(Long userId);
 
     boolean existsByBusinessNumber(String businessNumber);
-}
\ No newline at end of file
+
+    // 샤드 분할용 최대 ID
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Seller s")
+    Long findMaxId();
+
+    // 청크 작업용 키셋 조회 (afterId < id <= toId)
+    @Query("SELECT s.id FROM Seller s WHERE s.id > :afterId AND s.id <= :toId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+}
@@ -13,8 +13,6 @@ import ecommerce.domain.review.repository.ReviewRepository;
 import ecommerce.domain.seller.dto.DashboardResponse;
 import ecommerce.domain.seller.entity.Seller;
 import ecommerce.domain.seller.repository.SellerRepository;
-import ecommerce.domain.user.entity.User;
-import ecommerce.domain.user.repository.UserRepository;
 import ecommerce.infrastructure.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,7 +34,6 @@ import java.util.stream.Collectors;
 public class DashboardService {
 
     private final SellerRepository sellerRepository;
-    private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
@@ -48,14 +45,11 @@ public class DashboardService {
     /**
      * 판매자 대시보드 조회
      */
-    public DashboardResponse getDashboard(String email) {
-        log.info("대시보드 조회 시작: email={}", email);
+    public DashboardResponse getDashboard(Long userId) {
+        log.info("대시보드 조회 시작: userId={}", userId);
 
-        // User 조회 후 Seller 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        // Seller 조회
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // 1. 오늘의 주문 수 및 매출
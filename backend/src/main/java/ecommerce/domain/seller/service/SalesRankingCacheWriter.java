@@ -0,0 +1,184 @@
+package ecommerce.domain.seller.service;
+
+import ecommerce.domain.order.dto.ProductSalesAggregate;
+import ecommerce.domain.order.repository.OrderItemRepository;
+import ecommerce.infrastructure.job.JobLease;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 순위 캐시 기록
+ *
+ * - 집계 결과를 스테이징 키에 파이프라인으로 기록 후 RENAME 으로 교체하여 조회 중 부분 데이터가 보이지 않도록 함
+ * - 정각 갱신(SalesRankingCacheScheduler)은 임대 값 비교와 함께 Lua 로 교체해 임대를 잃은 노드의 결과가 반영되지 않도록 함
+ * - 캐시 미스 시 워밍(SalesRankingService)은 판매자 한 명만 별도 스테이징 키로 갱신
+ * - 반영되지 못한 스테이징 키는 STAGING_TTL 후 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRankingCacheWriter {
+
+    private final OrderItemRepository orderItemRepository;
+    private final RedisService redisService;
+    private final JobLeaseManager jobLeaseManager;
+
+    private static final Long CACHE_TTL = 3600L; // 1시간
+    private static final Long STAGING_TTL = 600L; // 10분 (중단된 실행의 스테이징 키 정리)
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    private static final int RANKING_DAYS = 7;
+    private static final String STAGING_SUFFIX = ":staging";
+    private static final String WARMING_STAGING_SUFFIX = ":staging:warm"; // 정각 갱신과 스테이징 키가 겹치지 않도록 분리
+
+    // 임대 소유자일 때만 스테이징 키를 실제 키로 교체 (KEYS[2..]: 스테이징/실제 키 쌍, ARGV[2]: TTL)
+    private static final RedisScript<Long> FENCED_PUBLISH_SCRIPT = RedisScript.of(
+            JobLeaseManager.FENCE_CHECK +
+            "for i = 2, #KEYS, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('RENAME', KEYS[i], KEYS[i + 1]) " +
+            "    redis.call('EXPIRE', KEYS[i + 1], ARGV[2]) " +
+            "  end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final Set<Long> warmingSellers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 정각 갱신 결과 반영: 스테이징 키에 기록 후 임대 소유자일 때만 실제 키로 교체
+     *
+     * @return 임대를 잃어 중단했으면 false (이미 교체된 배치는 그대로 유지)
+     */
+    public boolean writeFenced(List<ProductSalesAggregate> rows, JobLease lease) {
+        return publishFenced(stage(rows, STAGING_SUFFIX), lease);
+    }
+
+    /**
+     * 판매자 한 명의 순위 캐시 즉시 갱신 (조회 시 캐시 미스일 때 호출, 최선 노력)
+     * 캐시 워밍 실행기가 가득 차면 요청은 버려지고 다음 정각 갱신을 기다림
+     */
+    @Async("cacheWarmingExecutor")
+    public void warmSeller(Long sellerId) {
+        // 같은 판매자에 대한 워밍이 이미 진행 중이면 스킵
+        if (!warmingSellers.add(sellerId)) {
+            return;
+        }
+
+        try {
+            List<ProductSalesAggregate> rows = orderItemRepository.findSalesBySellerIdsSince(
+                    List.of(sellerId), LocalDateTime.now().minusDays(RANKING_DAYS));
+            publish(stage(rows, WARMING_STAGING_SUFFIX), WARMING_STAGING_SUFFIX);
+            log.debug("판매 순위 캐시 워밍 완료: sellerId={}, 상품={}개", sellerId, rows.size());
+        } catch (Exception e) {
+            log.warn("판매 순위 캐시 워밍 실패: sellerId={}, 에러={}", sellerId, e.getMessage());
+        } finally {
+            warmingSellers.remove(sellerId);
+        }
+    }
+
+    /**
+     * 집계 결과를 파이프라인 배치로 스테이징 키에 기록
+     *
+     * @return 기록된 판매자 ID
+     */
+    private Set<Long> stage(List<ProductSalesAggregate> rows, String suffix) {
+        Set<Long> sellerIds = new HashSet<>();
+
+        for (int from = 0; from < rows.size(); from += PIPELINE_BATCH_SIZE) {
+            writeStaging(rows.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, rows.size())), sellerIds, suffix);
+        }
+        return sellerIds;
+    }
+
+    /**
+     * 집계 결과를 스테이징 키에 파이프라인으로 기록
+     * 이번 실행에서 처음 만난 판매자는 이전 실행의 잔여 스테이징 키를 먼저 삭제하고,
+     * 기록한 스테이징 키에는 교체되지 못한 경우를 대비해 TTL 설정
+     */
+    private void writeStaging(List<ProductSalesAggregate> rows, Set<Long> sellerIds, String suffix) {
+        Set<Long> batchSellerIds = new HashSet<>();
+
+        redisService.executePipelined(connection -> {
+            for (ProductSalesAggregate row : rows) {
+                String rankingKey = SalesRankingService.rankingKey(row.getSellerId()) + suffix;
+                String revenueKey = SalesRankingService.revenueKey(row.getSellerId()) + suffix;
+
+                if (sellerIds.add(row.getSellerId())) {
+                    connection.del(rankingKey, revenueKey);
+                }
+                batchSellerIds.add(row.getSellerId());
+
+                String member = String.valueOf(row.getProductId());
+                connection.zAdd(rankingKey, row.getSalesCount(), member);
+                connection.hSet(revenueKey, member, row.getRevenue().toPlainString());
+            }
+
+            for (Long sellerId : batchSellerIds) {
+                connection.expire(SalesRankingService.rankingKey(sellerId) + suffix, STAGING_TTL);
+                connection.expire(SalesRankingService.revenueKey(sellerId) + suffix, STAGING_TTL);
+            }
+        });
+    }
+
+    /**
+     * 임대 소유자일 때만 스테이징 키를 실제 키로 교체하고 TTL 설정 (배치마다 임대 값 비교)
+     */
+    private boolean publishFenced(Set<Long> sellerIds, JobLease lease) {
+        List<Long> ids = new ArrayList<>(sellerIds);
+
+        for (int from = 0; from < ids.size(); from += PIPELINE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, ids.size()));
+
+            List<String> keys = new ArrayList<>(batch.size() * 4);
+            for (Long sellerId : batch) {
+                String rankingKey = SalesRankingService.rankingKey(sellerId);
+                String revenueKey = SalesRankingService.revenueKey(sellerId);
+                keys.add(rankingKey + STAGING_SUFFIX);
+                keys.add(rankingKey);
+                keys.add(revenueKey + STAGING_SUFFIX);
+                keys.add(revenueKey);
+            }
+
+            Long result = jobLeaseManager.executeFenced(lease, FENCED_PUBLISH_SCRIPT, keys, String.valueOf(CACHE_TTL));
+            if (result == null || result == JobLeaseManager.FENCE_LOST) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 스테이징 키를 실제 키로 교체하고 TTL 설정 (임대 없이 실행되는 워밍용)
+     */
+    private void publish(Set<Long> sellerIds, String suffix) {
+        List<Long> ids = new ArrayList<>(sellerIds);
+
+        for (int from = 0; from < ids.size(); from += PIPELINE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, ids.size()));
+
+            redisService.executePipelined(connection -> {
+                for (Long sellerId : batch) {
+                    String rankingKey = SalesRankingService.rankingKey(sellerId);
+                    String revenueKey = SalesRankingService.revenueKey(sellerId);
+
+                    connection.rename(rankingKey + suffix, rankingKey);
+                    connection.rename(revenueKey + suffix, revenueKey);
+                    connection.expire(rankingKey, CACHE_TTL);
+                    connection.expire(revenueKey, CACHE_TTL);
+                }
+            });
+        }
+    }
+}
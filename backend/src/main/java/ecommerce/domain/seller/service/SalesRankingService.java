@@ -0,0 +1,134 @@
+package ecommerce.domain.seller.service;
+
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.order.dto.ProductSalesAggregate;
+import ecommerce.domain.order.repository.OrderItemRepository;
+import ecommerce.domain.product.entity.Product;
+import ecommerce.domain.product.repository.ProductRepository;
+import ecommerce.domain.seller.dto.DashboardResponse;
+import ecommerce.domain.seller.entity.Seller;
+import ecommerce.domain.seller.repository.SellerRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 판매자별 판매 순위 조회 서비스
+ * SalesRankingCacheScheduler 가 매시간 갱신하는 Redis 순위를 우선 사용하고,
+ * 캐시가 없으면 DB 집계 쿼리로 대체하고 SalesRankingCacheWriter 로 해당 판매자만 비동기로 다시 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesRankingService {
+
+    private final SellerRepository sellerRepository;
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final RedisService redisService;
+    private final SalesRankingCacheWriter salesRankingCacheWriter;
+
+    private static final String REDIS_RANKING_PREFIX = "seller:ranking:";
+    private static final String REDIS_REVENUE_PREFIX = "seller:ranking:revenue:";
+    private static final int RANKING_DAYS = 7;
+    private static final int MAX_LIMIT = 100;
+
+    /**
+     * 판매자별 판매량 Sorted Set 키 (member=productId, score=판매량)
+     */
+    public static String rankingKey(Long sellerId) {
+        return REDIS_RANKING_PREFIX + sellerId;
+    }
+
+    /**
+     * 판매자별 매출 Hash 키 (field=productId, value=매출)
+     */
+    public static String revenueKey(Long sellerId) {
+        return REDIS_REVENUE_PREFIX + sellerId;
+    }
+
+    /**
+     * 내 상품 판매 순위 조회 (최근 7일)
+     */
+    public List<DashboardResponse.ProductSalesDto> getMySalesRanking(Long userId, int limit) {
+        Seller seller = sellerRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
+
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<ProductSalesAggregate> ranking = getCachedRanking(seller.getId(), size);
+        if (ranking.isEmpty()) {
+            log.debug("판매 순위 캐시 없음, DB 집계: sellerId={}", seller.getId());
+            ranking = orderItemRepository.findTopSalesBySellerSince(
+                    seller.getId(), LocalDateTime.now().minusDays(RANKING_DAYS), PageRequest.of(0, size));
+
+            // 판매 이력이 있으면 다음 조회부터 캐시를 쓰도록 비동기로 워밍
+            if (!ranking.isEmpty()) {
+                salesRankingCacheWriter.warmSeller(seller.getId());
+            }
+        }
+
+        return toProductSalesDtos(ranking);
+    }
+
+    /**
+     * Redis 순위 조회 (ZREVRANGE + HMGET)
+     */
+    private List<ProductSalesAggregate> getCachedRanking(Long sellerId, int size) {
+        Set<ZSetOperations.TypedTuple<String>> top = redisService.getTopByScore(rankingKey(sellerId), size);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> productIds = top.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .collect(Collectors.toList());
+        List<Object> revenues = redisService.getHashValues(revenueKey(sellerId), productIds);
+
+        List<ProductSalesAggregate> ranking = new ArrayList<>(top.size());
+        int index = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : top) {
+            Object revenue = index < revenues.size() ? revenues.get(index) : null;
+            ranking.add(new ProductSalesAggregate(
+                    sellerId,
+                    Long.valueOf(tuple.getValue()),
+                    tuple.getScore() != null ? tuple.getScore().longValue() : 0L,
+                    revenue != null ? new BigDecimal(revenue.toString()) : BigDecimal.ZERO
+            ));
+            index++;
+        }
+        return ranking;
+    }
+
+    private List<DashboardResponse.ProductSalesDto> toProductSalesDtos(List<ProductSalesAggregate> ranking) {
+        Map<Long, Product> products = productRepository.findAllById(
+                        ranking.stream().map(ProductSalesAggregate::getProductId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return ranking.stream()
+                .map(row -> DashboardResponse.ProductSalesDto.builder()
+                        .productId(row.getProductId())
+                        .productName(products.containsKey(row.getProductId())
+                                ? products.get(row.getProductId()).getName() : null)
+                        .salesCount(row.getSalesCount())
+                        .revenue(row.getRevenue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
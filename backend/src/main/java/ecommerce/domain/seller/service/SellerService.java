@@ -10,6 +10,7 @@ import ecommerce.domain.seller.entity.Seller;
 import ecommerce.domain.seller.repository.SellerRepository;
 import ecommerce.domain.user.entity.User;
 import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,20 +23,21 @@ public class SellerService {
 
     private final SellerRepository sellerRepository;
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 판매자 등록
      */
     @Transactional
-    public SellerResponse registerSeller(String email, SellerRequest request) {
-        log.info("판매자 등록 시도: email={}, businessNumber={}", email, request.getBusinessNumber());
+    public SellerResponse registerSeller(Long userId, SellerRequest request) {
+        log.info("판매자 등록 시도: userId={}, businessNumber={}", userId, request.getBusinessNumber());
 
         // 사용자 조회
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         // 이미 판매자로 등록되어 있는지 확인
-        if (sellerRepository.findByUserId(user.getId()).isPresent()) {
+        if (sellerRepository.findByUserId(userId).isPresent()) {
             throw new DuplicateResourceException(ErrorCode.DUPLICATE_RESOURCE, "이미 판매자로 등록되어 있습니다");
         }
 
@@ -57,9 +59,10 @@ public class SellerService {
         // 사용자에게 SELLER 역할 추가 (USER 역할은 유지)
         user.addRole(Role.ROLE_SELLER);
         userRepository.save(user);
+        userCache.evict(userId);
 
         log.info("판매자 등록 완료: sellerId={}, userId={}, roles={}",
-                savedSeller.getId(), user.getId(), user.getRoles());
+                savedSeller.getId(), userId, user.getRoles());
 
         return SellerResponse.from(savedSeller);
     }
@@ -68,13 +71,10 @@ public class SellerService {
      * 내 판매자 정보 조회
      */
     @Transactional(readOnly = true)
-    public SellerResponse getMySeller(String email) {
-        log.info("내 판매자 정보 조회: email={}", email);
+    public SellerResponse getMySeller(Long userId) {
+        log.info("내 판매자 정보 조회: userId={}", userId);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         return SellerResponse.from(seller);
@@ -84,13 +84,10 @@ public class SellerService {
      * 내 판매자 정보 수정
      */
     @Transactional
-    public SellerResponse updateMySeller(String email, SellerRequest request) {
-        log.info("내 판매자 정보 수정: email={}", email);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    public SellerResponse updateMySeller(Long userId, SellerRequest request) {
+        log.info("내 판매자 정보 수정: userId={}", userId);
 
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // 사업자 번호가 변경되는 경우 중복 체크
@@ -120,13 +117,13 @@ public class SellerService {
      * 판매자 등록 해제
      */
     @Transactional
-    public void deleteMySeller(String email) {
-        log.info("판매자 등록 해제: email={}", email);
+    public void deleteMySeller(Long userId) {
+        log.info("판매자 등록 해제: userId={}", userId);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
-        Seller seller = sellerRepository.findByUserId(user.getId())
+        Seller seller = sellerRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SELLER_NOT_FOUND));
 
         // 판매자 삭제
@@ -135,8 +132,9 @@ public class SellerService {
         // SELLER 역할 제거 (USER 역할은 유지)
         user.removeRole(Role.ROLE_SELLER);
         userRepository.save(user);
+        userCache.evict(userId);
 
         log.info("판매자 등록 해제 완료: sellerId={}, userId={}, roles={}",
-                seller.getId(), user.getId(), user.getRoles());
+                seller.getId(), userId, user.getRoles());
     }
 }
\ No newline at end of file
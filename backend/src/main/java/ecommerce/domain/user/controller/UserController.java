@@ -1,5 +1,6 @@
 package ecommerce.domain.user.controller;
 
+import ecommerce.domain.auth.provider.JwtPrincipal;
 import ecommerce.domain.user.dto.UserResponse;
 import ecommerce.domain.user.dto.UserUpdateRequest;
 import ecommerce.domain.user.service.UserService;
@@ -38,10 +39,10 @@ public class UserController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     public ResponseEntity<UserResponse> getMyInfo(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("GET /api/users/me - email: {}", email);
-        UserResponse response = userService.getMyInfo(email);
+        log.info("GET /api/users/me - userId: {}", principal.getUserId());
+        UserResponse response = userService.getMyInfo(principal.getUserId());
         return ResponseEntity.ok(response);
     }
 
@@ -53,11 +54,11 @@ public class UserController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     public ResponseEntity<UserResponse> updateMyInfo(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody UserUpdateRequest request
     ) {
-        log.info("PUT /api/users/me - email: {}", email);
-        UserResponse response = userService.updateMyInfo(email, request);
+        log.info("PUT /api/users/me - userId: {}", principal.getUserId());
+        UserResponse response = userService.updateMyInfo(principal.getUserId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -68,10 +69,10 @@ public class UserController {
     @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     public ResponseEntity<Void> deleteMyAccount(
-            @Parameter(hidden = true) @AuthenticationPrincipal String email
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        log.info("DELETE /api/users/me - email: {}", email);
-        userService.deleteMyAccount(email);
+        log.info("DELETE /api/users/me - userId: {}", principal.getUserId());
+        userService.deleteMyAccount(principal.getUserId());
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,37 @@
+package ecommerce.domain.user.dto;
+
+import ecommerce.common.enums.Role;
+import ecommerce.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 사용자 조회 캐시 항목 (읽기 전용 필드만, 변경 불가)
+ * 누적 구매액처럼 자주 바뀌는 값은 포함하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class CachedUser {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final Set<Role> roles;
+    private final LocalDateTime createdAt;
+
+    public static CachedUser from(User user) {
+        return new CachedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                Set.copyOf(user.getRoles()),
+                user.getCreatedAt());
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+}
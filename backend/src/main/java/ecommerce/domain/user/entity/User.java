@@ -13,7 +13,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 구매액 구간(세그먼트) 조회용, InnoDB 보조 인덱스라 id 도 포함
+        @Index(name = "idx_users_total_purchase_amount", columnList = "total_purchase_amount")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,86 @@
+package ecommerce.domain.user.service;
+
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.user.dto.CachedUser;
+import ecommerce.domain.user.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 ID → 사용자 정보 로컬 캐시 (짧은 TTL)
+ *
+ * - 요청 사용자 ID 는 토큰에서 오므로, 이름/역할/가입 시각이 필요한 경로만 이 캐시를 사용
+ *   (FK 만 필요하면 getReferenceById, 엔티티를 수정해야 하면 findById)
+ * - 정보를 바꾼 노드는 커밋 후 즉시 무효화, 다른 노드는 TTL 이 지나면 다시 조회
+ * - 최대 개수를 넘으면 만료된 항목부터 정리, 그래도 가득 차면 전체 비움
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMs;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.ttl-ms:30000}") long ttlMs,
+                     @Value("${user.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 사용자 정보 (캐시 미스/만료일 때만 DB 조회)
+     */
+    public CachedUser get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.user;
+        }
+
+        CachedUser user = userRepository.findById(userId)
+                .map(CachedUser::from)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(cached -> cached.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(userId, new Entry(user, now + ttlMs));
+        return user;
+    }
+
+    /**
+     * 사용자 정보 무효화 (트랜잭션 안이면 커밋 후)
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+        } else {
+            entries.remove(userId);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final CachedUser user;
+        private final long expiresAt;
+    }
+}
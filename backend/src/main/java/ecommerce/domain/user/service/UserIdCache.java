@@ -0,0 +1,45 @@
+package ecommerce.domain.user.service;
+
+import ecommerce.common.exception.ErrorCode;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.user.entity.User;
+import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 → 사용자 ID 캐시 (Redis, 1시간 TTL)
+ * 요청 사용자 ID 는 토큰(uid 클레임)에서 오므로, uid 클레임 도입 전에 발급된 토큰을 인증할 때만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdCache {
+
+    private static final String KEY_PREFIX = "user:id:";
+    private static final long TTL = 3600L; // 1시간
+
+    private final UserRepository userRepository;
+    private final RedisService redisService;
+
+    /**
+     * 사용자 ID (캐시 미스일 때만 DB 조회)
+     */
+    public Long getUserId(String email) {
+        String key = KEY_PREFIX + email;
+        String cached = redisService.getStringValue(key);
+        if (cached != null) {
+            try {
+                return Long.valueOf(cached);
+            } catch (NumberFormatException e) {
+                redisService.delete(key);
+            }
+        }
+
+        Long userId = userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        redisService.setStringValue(key, String.valueOf(userId), TTL);
+        return userId;
+    }
+}
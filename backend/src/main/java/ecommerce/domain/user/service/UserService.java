@@ -19,15 +19,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 내 정보 조회
      */
     @Transactional(readOnly = true)
-    public UserResponse getMyInfo(String email) {
-        log.info("내 정보 조회: email={}", email);
+    public UserResponse getMyInfo(Long userId) {
+        log.info("내 정보 조회: userId={}", userId);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         return UserResponse.from(user);
@@ -37,10 +38,10 @@ public class UserService {
      * 내 정보 수정
      */
     @Transactional
-    public UserResponse updateMyInfo(String email, UserUpdateRequest request) {
-        log.info("내 정보 수정: email={}", email);
+    public UserResponse updateMyInfo(Long userId, UserUpdateRequest request) {
+        log.info("내 정보 수정: userId={}", userId);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         // 변경 사항 적용
@@ -55,6 +56,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userCache.evict(userId);
         log.info("내 정보 수정 완료: userId={}", updatedUser.getId());
 
         return UserResponse.from(updatedUser);
@@ -64,17 +66,18 @@ public class UserService {
      * 회원 탈퇴 (소프트 삭제)
      */
     @Transactional
-    public void deleteMyAccount(String email) {
-        log.info("회원 탈퇴: email={}", email);
+    public void deleteMyAccount(Long userId) {
+        log.info("회원 탈퇴: userId={}", userId);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         // 소프트 삭제 (is_active = false)
         user.setIsActive(false);
         userRepository.save(user);
+        userCache.evict(userId);
 
-        log.info("회원 탈퇴 완료: userId={}", user.getId());
+        log.info("회원 탈퇴 완료: userId={}", userId);
     }
 
     /**
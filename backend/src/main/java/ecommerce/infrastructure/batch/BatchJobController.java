@@ -0,0 +1,28 @@
+package ecommerce.infrastructure.batch;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/batch")
+@Tag(name = "Batch", description = "배치 작업 모니터링")
+@SecurityRequirement(name = "bearerAuth")
+public class BatchJobController {
+
+    private final ChunkJobRunner chunkJobRunner;
+
+    @GetMapping("/jobs")
+    @Operation(summary = "배치 작업 진행 상황 조회", description = "이 노드에서 실행된 작업별 최근 진행 상황(처리 건수, 처리량, 상태)을 조회합니다")
+    public ResponseEntity<List<JobProgress>> getJobs() {
+        return ResponseEntity.ok(chunkJobRunner.getLatestProgress());
+    }
+}
@@ -0,0 +1,41 @@
+package ecommerce.infrastructure.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 청크 작업 정의 (reader → processor → writer)
+ *
+ * - [minId, maxId] 구간을 workers 개 파티션으로 나누어 병렬 처리
+ * - 청크마다 별도 트랜잭션으로 커밋하고, 커밋 후 파티션별 체크포인트(마지막 키)를 Redis 에 저장
+ * - 같은 name/runId 로 다시 실행하면 체크포인트 이후부터 재개
+ */
+@Getter
+@Builder
+public class ChunkJob<I, O> {
+
+    private final String name;
+    private final String runId;
+    private final long minId;
+    private final long maxId;
+
+    @Builder.Default
+    private final int chunkSize = 500;
+
+    // 0 이하이면 ChunkJobRunner 기본 워커 수 사용
+    @Builder.Default
+    private final int workers = 0;
+
+    private final ChunkReader<I> reader;
+
+    // 체크포인트로 저장할 항목의 키 (reader 정렬 기준과 같아야 함)
+    private final ToLongFunction<I> keyExtractor;
+
+    // null 을 반환하면 해당 항목은 writer 로 전달하지 않음
+    private final Function<I, O> processor;
+
+    private final ChunkWriter<O> writer;
+}
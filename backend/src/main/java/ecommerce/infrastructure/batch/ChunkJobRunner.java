@@ -0,0 +1,238 @@
+package ecommerce.infrastructure.batch;
+
+import ecommerce.infrastructure.job.IdRange;
+import ecommerce.infrastructure.redis.RedisService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 청크 작업 실행기
+ *
+ * - 한 번에 chunkSize 개만 메모리에 올려 reader → processor → writer 순으로 처리 (메모리 사용량 고정)
+ * - 청크마다 트랜잭션을 커밋하고, 커밋 후 파티션별 마지막 키를 체크포인트로 저장
+ *   (체크포인트 저장 전 실패하면 해당 청크를 다시 처리하므로 writer 는 멱등이어야 함)
+ * - 실패 후 같은 name/runId 로 다시 실행하면 체크포인트 이후부터 이어서 처리
+ * - 파티션은 워커 스레드에서 병렬로 처리하며, 작업별 최근 진행 상황/처리량을 보관
+ */
+@Slf4j
+@Component
+public class ChunkJobRunner {
+
+    private static final String CHECKPOINT_PREFIX = "batch:checkpoint:";
+    private static final long CHECKPOINT_TTL = 172800L; // 2일
+    private static final int PROGRESS_LOG_INTERVAL = 10; // 청크 10개마다 진행 로그
+
+    private final RedisService redisService;
+    private final PlatformTransactionManager transactionManager;
+    private final int defaultWorkers;
+    private final int maxWorkers;
+
+    // 작업 이름별 최근 실행 진행 상황
+    private final Map<String, JobProgress> latestProgress = new ConcurrentHashMap<>();
+
+    public ChunkJobRunner(RedisService redisService,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${batch.default-workers:1}") int defaultWorkers,
+                          @Value("${batch.max-workers:8}") int maxWorkers) {
+        this.redisService = redisService;
+        this.transactionManager = transactionManager;
+        this.maxWorkers = Math.max(1, maxWorkers);
+        this.defaultWorkers = Math.min(Math.max(1, defaultWorkers), this.maxWorkers);
+    }
+
+    /**
+     * 청크 작업 실행
+     * 파티션 중 하나라도 실패하면 체크포인트를 남긴 채 예외를 던짐
+     */
+    public <I, O> JobProgress run(ChunkJob<I, O> job) {
+        JobProgress progress = new JobProgress(job.getName(), job.getRunId());
+        latestProgress.put(job.getName(), progress);
+
+        int workers = job.getWorkers() > 0 ? Math.min(job.getWorkers(), maxWorkers) : defaultWorkers;
+        List<IdRange> partitions = IdRange.split(job.getMinId(), job.getMaxId(), workers);
+        String checkpointKey = checkpointKey(job);
+
+        log.info("청크 작업 시작: job={}, runId={}, range=[{}, {}], chunkSize={}, 파티션={}개",
+                job.getName(), job.getRunId(), job.getMinId(), job.getMaxId(), job.getChunkSize(), partitions.size());
+
+        if (partitions.size() <= 1) {
+            for (IdRange partition : partitions) {
+                runPartitionSafely(job, partition, checkpointKey, progress);
+            }
+        } else {
+            runInParallel(job, partitions, checkpointKey, progress);
+        }
+
+        progress.finish();
+
+        if (progress.getStatus() == JobProgress.Status.FAILED) {
+            log.error("청크 작업 실패: job={}, runId={}, 실패 파티션={}개, 처리={}건 (체크포인트 유지)",
+                    job.getName(), job.getRunId(), progress.getFailedPartitions(), progress.getReadCount());
+            throw new IllegalStateException("청크 작업 실패: " + job.getName() + ":" + job.getRunId());
+        }
+
+        redisService.delete(checkpointKey);
+
+        log.info("청크 작업 완료: job={}, runId={}, 읽기={}건, 쓰기={}건, 청크={}개, 소요={}ms, 처리량={}/s",
+                job.getName(), job.getRunId(), progress.getReadCount(), progress.getWriteCount(),
+                progress.getChunkCount(), progress.getElapsedMillis(),
+                String.format("%.1f", progress.getItemsPerSecond()));
+        return progress;
+    }
+
+    /**
+     * 작업별 최근 진행 상황 (시작 시각 역순)
+     */
+    public List<JobProgress> getLatestProgress() {
+        List<JobProgress> result = new ArrayList<>(latestProgress.values());
+        result.sort(Comparator.comparing(JobProgress::getStartedAt).reversed());
+        return result;
+    }
+
+    private <I, O> void runInParallel(ChunkJob<I, O> job, List<IdRange> partitions,
+                                      String checkpointKey, JobProgress progress) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "batch-" + job.getName() + "-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (IdRange partition : partitions) {
+                futures.add(executor.submit(() -> runPartitionSafely(job, partition, checkpointKey, progress)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.recordPartitionFailure();
+        } catch (ExecutionException e) {
+            log.error("청크 파티션 실행 오류: job={}", job.getName(), e.getCause());
+            progress.recordPartitionFailure();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <I, O> void runPartitionSafely(ChunkJob<I, O> job, IdRange partition,
+                                           String checkpointKey, JobProgress progress) {
+        try {
+            runPartition(job, partition, checkpointKey, progress);
+        } catch (RuntimeException e) {
+            log.error("청크 파티션 실패: job={}, runId={}, partition={}",
+                    job.getName(), job.getRunId(), partition, e);
+            progress.recordPartitionFailure();
+        }
+    }
+
+    /**
+     * 파티션 하나를 체크포인트 이후부터 청크 단위로 끝까지 처리
+     */
+    private <I, O> void runPartition(ChunkJob<I, O> job, IdRange partition,
+                                     String checkpointKey, JobProgress progress) {
+        // 파티션 경계가 같을 때만 체크포인트를 이어받음 (워커 수가 바뀌면 처음부터)
+        String field = partition.getFromId() + "-" + partition.getToId();
+        long afterId = resumePoint(checkpointKey, field, partition);
+
+        if (afterId > partition.getFromId() - 1) {
+            log.info("체크포인트에서 재개: job={}, partition={}, afterId={}", job.getName(), partition, afterId);
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        boolean checkpointed = false;
+
+        while (afterId < partition.getToId()) {
+            long chunkStart = afterId;
+            ChunkResult result = transaction.execute(status -> processChunk(job, chunkStart, partition.getToId()));
+
+            if (result == null || result.readCount == 0) {
+                break;
+            }
+
+            afterId = result.lastKey;
+            redisService.putHashValue(checkpointKey, field, String.valueOf(afterId));
+            if (!checkpointed) {
+                redisService.expire(checkpointKey, CHECKPOINT_TTL);
+                checkpointed = true;
+            }
+
+            progress.recordChunk(result.readCount, result.writeCount);
+            if (progress.getChunkCount() % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("청크 작업 진행: job={}, 읽기={}건, 쓰기={}건, 처리량={}/s",
+                        job.getName(), progress.getReadCount(), progress.getWriteCount(),
+                        String.format("%.1f", progress.getItemsPerSecond()));
+            }
+
+            if (result.readCount < job.getChunkSize()) {
+                break;
+            }
+        }
+    }
+
+    private <I, O> ChunkResult processChunk(ChunkJob<I, O> job, long afterId, long toId) {
+        List<I> items = job.getReader().read(afterId, toId, job.getChunkSize());
+        if (items.isEmpty()) {
+            return new ChunkResult(0, 0, afterId);
+        }
+
+        List<O> outputs = new ArrayList<>(items.size());
+        for (I item : items) {
+            O output = job.getProcessor().apply(item);
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+
+        if (!outputs.isEmpty()) {
+            job.getWriter().write(outputs);
+        }
+
+        long lastKey = job.getKeyExtractor().applyAsLong(items.get(items.size() - 1));
+        return new ChunkResult(items.size(), outputs.size(), lastKey);
+    }
+
+    private long resumePoint(String checkpointKey, String field, IdRange partition) {
+        long start = partition.getFromId() - 1;
+        String saved = redisService.getHashValue(checkpointKey, field);
+        if (saved == null) {
+            return start;
+        }
+
+        try {
+            return Math.max(start, Long.parseLong(saved));
+        } catch (NumberFormatException e) {
+            log.warn("체크포인트 형식 오류, 처음부터 처리: key={}, field={}, value={}", checkpointKey, field, saved);
+            return start;
+        }
+    }
+
+    private String checkpointKey(ChunkJob<?, ?> job) {
+        return CHECKPOINT_PREFIX + job.getName() + ":" + job.getRunId();
+    }
+
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final int readCount;
+        private final int writeCount;
+        private final long lastKey;
+    }
+}
@@ -0,0 +1,13 @@
+package ecommerce.infrastructure.batch;
+
+import java.util.List;
+
+/**
+ * 키셋 기반 청크 리더
+ * (afterId, toId] 구간에서 키 오름차순으로 최대 limit 개를 읽음
+ */
+@FunctionalInterface
+public interface ChunkReader<I> {
+
+    List<I> read(long afterId, long toId, int limit);
+}
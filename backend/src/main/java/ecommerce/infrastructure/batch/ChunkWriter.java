@@ -0,0 +1,12 @@
+package ecommerce.infrastructure.batch;
+
+import java.util.List;
+
+/**
+ * 청크 단위 일괄 writer (청크 트랜잭션 안에서 호출됨)
+ */
+@FunctionalInterface
+public interface ChunkWriter<O> {
+
+    void write(List<O> items);
+}
@@ -0,0 +1,97 @@
+package ecommerce.infrastructure.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 청크 작업 진행 상황 및 처리량
+ */
+public class JobProgress {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobName;
+    private final String runId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong failedPartitions = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile long elapsedNanos = -1;
+
+    public JobProgress(String jobName, String runId) {
+        this.jobName = jobName;
+        this.runId = runId;
+    }
+
+    void recordChunk(int read, int written) {
+        readCount.addAndGet(read);
+        writeCount.addAndGet(written);
+        chunkCount.incrementAndGet();
+    }
+
+    void recordPartitionFailure() {
+        failedPartitions.incrementAndGet();
+    }
+
+    void finish() {
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        this.finishedAt = LocalDateTime.now();
+        this.status = failedPartitions.get() > 0 ? Status.FAILED : Status.COMPLETED;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getReadCount() {
+        return readCount.get();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getChunkCount() {
+        return chunkCount.get();
+    }
+
+    public long getFailedPartitions() {
+        return failedPartitions.get();
+    }
+
+    public long getElapsedMillis() {
+        long nanos = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        return Duration.ofNanos(nanos).toMillis();
+    }
+
+    /**
+     * 읽은 항목 기준 초당 처리량
+     */
+    public double getItemsPerSecond() {
+        long millis = getElapsedMillis();
+        return millis > 0 ? getReadCount() * 1000.0 / millis : 0.0;
+    }
+}
@@ -0,0 +1,75 @@
+package ecommerce.infrastructure.benchmark;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/benchmark")
+@Tag(name = "Benchmark", description = "성능 측정")
+@SecurityRequirement(name = "bearerAuth")
+public class BenchmarkController {
+
+    private final NotificationBenchmarkService notificationBenchmarkService;
+    private final JwtBenchmarkService jwtBenchmarkService;
+
+    @PostMapping("/notifications")
+    @Operation(
+            summary = "알림 일괄 읽음/삭제 벤치마크",
+            description = """
+            지정한 사용자에게 알림을 건수별로 생성한 뒤 읽음/삭제 처리 시간을 측정합니다.
+            
+            - 기존 방식(엔티티 로딩 + 건별 UPDATE)과 청크 UPDATE/DELETE 를 비교
+            - 해당 사용자의 기존 알림도 읽음/삭제되므로 전용 사용자로 실행
+            - 배포 환경에서는 비활성화됨
+            """
+    )
+    public ResponseEntity<List<NotificationBenchmarkResult>> benchmarkNotifications(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "10000,100000") List<Integer> sizes,
+            @RequestParam(defaultValue = "true") boolean includeLegacy) {
+        String profile = System.getenv("SPRING_PROFILES_ACTIVE");
+        if ("prod".equals(profile) || "production".equals(profile)) {
+            log.warn("배포 환경에서 벤치마크 API 실행 시도 차단");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok(notificationBenchmarkService.run(userId, sizes, includeLegacy));
+    }
+
+    @PostMapping("/jwt")
+    @Operation(
+            summary = "요청당 JWT 인증 비용 벤치마크",
+            description = """
+            같은 토큰을 방식별로 반복 검증하여 요청 1건당 평균 인증 시간을 측정합니다.
+            
+            - legacy: 요청마다 파서 생성 + 세 번 검증 (변경 전)
+            - single-parse: 공유 파서로 한 번 검증
+            - cached: 검증된 토큰 캐시 사용
+            - 배포 환경에서는 비활성화됨
+            """
+    )
+    public ResponseEntity<List<JwtBenchmarkResult>> benchmarkJwt(
+            @RequestParam(defaultValue = "100000") int iterations,
+            @RequestParam(defaultValue = "20000") int warmupIterations) {
+        String profile = System.getenv("SPRING_PROFILES_ACTIVE");
+        if ("prod".equals(profile) || "production".equals(profile)) {
+            log.warn("배포 환경에서 벤치마크 API 실행 시도 차단");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok(jwtBenchmarkService.run(iterations, warmupIterations));
+    }
+}
@@ -0,0 +1,18 @@
+package ecommerce.infrastructure.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청당 JWT 인증 비용 벤치마크 결과 (방식 한 가지에 대한 측정값)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtBenchmarkResult {
+
+    private String mode;
+    private int iterations;
+    // 요청 1건당 평균 소요 시간
+    private double nanosPerOp;
+    private double opsPerSecond;
+}
@@ -0,0 +1,95 @@
+package ecommerce.infrastructure.benchmark;
+
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.domain.auth.provider.JwtPrincipal;
+import ecommerce.domain.auth.provider.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 요청당 JWT 인증 비용 벤치마크 (DB/Redis 사용 없음)
+ *
+ * - 전용 키로 만든 토큰 하나를 같은 조건에서 방식별로 반복 검증하여 요청당 평균 시간을 비교
+ * - legacy: 요청마다 파서를 새로 만들어 validate/email/roles 로 세 번 검증 (변경 전 필터 동작)
+ * - single-parse: 공유 파서로 한 번 검증 + 클레임 추출
+ * - cached: verify (첫 요청 이후에는 검증된 토큰 캐시에서 반환)
+ * - 방식마다 워밍업 후 측정 (JIT 컴파일 전 구간 제외)
+ */
+@Slf4j
+@Service
+public class JwtBenchmarkService {
+
+    private static final int MAX_ITERATIONS = 1_000_000;
+    private static final String SECRET = "jwt-benchmark-secret-key-minimum-256-bits-long-for-hs256";
+    private static final long EXPIRATION_MS = 3600000L;
+
+    public List<JwtBenchmarkResult> run(int iterations, int warmupIterations) {
+        if (iterations <= 0 || iterations > MAX_ITERATIONS || warmupIterations < 0 || warmupIterations > MAX_ITERATIONS) {
+            throw new BadRequestException("iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, EXPIRATION_MS, EXPIRATION_MS, 10000);
+        String token = provider.createAccessToken("benchmark@example.com", 1L, "ROLE_USER,ROLE_SELLER");
+
+        List<JwtBenchmarkResult> results = new ArrayList<>();
+        results.add(measure("legacy", iterations, warmupIterations, token, jwt -> legacyAuthenticate(key, jwt)));
+        results.add(measure("single-parse", iterations, warmupIterations, token,
+                jwt -> authorityCount(provider.parsePrincipal(jwt))));
+        results.add(measure("cached", iterations, warmupIterations, token,
+                jwt -> authorityCount(provider.verify(jwt))));
+
+        results.forEach(result -> log.info("JWT 인증 벤치마크: 방식={}, 반복={}회, {}ns/op, {}ops/s",
+                result.getMode(), result.getIterations(),
+                String.format("%.0f", result.getNanosPerOp()), String.format("%.0f", result.getOpsPerSecond())));
+        return results;
+    }
+
+    private JwtBenchmarkResult measure(String mode, int iterations, int warmupIterations,
+                                       String token, ToIntFunction<String> authenticate) {
+        // 결과를 누적해 JIT 가 호출을 제거하지 못하도록 함
+        long sink = 0;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink += authenticate.applyAsInt(token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += authenticate.applyAsInt(token);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (sink < 0) {
+            log.debug("sink={}", sink);
+        }
+
+        double nanosPerOp = (double) elapsed / iterations;
+        return new JwtBenchmarkResult(mode, iterations, nanosPerOp, nanosPerOp > 0 ? 1_000_000_000.0 / nanosPerOp : 0.0);
+    }
+
+    /**
+     * 변경 전 필터 동작: 파서를 매번 생성하여 검증 1회 + 이메일 추출 1회 + 역할 추출 1회
+     */
+    private int legacyAuthenticate(SecretKey key, String token) {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        Claims emailClaims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        Claims roleClaims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+
+        String email = emailClaims.getSubject();
+        String roles = roleClaims.get("roles", String.class);
+        return email.length() + roles.split(",").length;
+    }
+
+    private int authorityCount(JwtPrincipal principal) {
+        return principal.getEmail().length() + principal.getRoles().size();
+    }
+}
@@ -0,0 +1,20 @@
+package ecommerce.infrastructure.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 일괄 처리 벤치마크 결과 (알림 수 한 가지에 대한 측정값)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationBenchmarkResult {
+
+    private int size;
+    // 기존 방식: 엔티티 전체 로딩 + 변경 감지 (건너뛰면 null)
+    private Long legacyMarkReadMs;
+    // UPDATE 청크 반복
+    private long bulkMarkReadMs;
+    // DELETE 청크 반복
+    private long bulkDeleteMs;
+}
@@ -0,0 +1,109 @@
+package ecommerce.infrastructure.benchmark;
+
+import ecommerce.common.exception.BadRequestException;
+import ecommerce.common.exception.ResourceNotFoundException;
+import ecommerce.domain.notification.entity.Notification;
+import ecommerce.domain.notification.enums.NotificationType;
+import ecommerce.domain.notification.repository.NotificationRepository;
+import ecommerce.domain.notification.repository.NotificationRow;
+import ecommerce.domain.notification.service.NotificationService;
+import ecommerce.domain.notification.service.UnreadNotificationCounter;
+import ecommerce.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 일괄 읽음/삭제 벤치마크
+ *
+ * - 알림 수마다 읽지 않은 알림을 JDBC 배치로 생성한 뒤 처리 시간을 측정
+ * - 기존 방식(엔티티 로딩 + 건별 UPDATE)과 청크 UPDATE 를 같은 건수로 비교
+ * - 측정 대상 사용자의 기존 알림도 함께 읽음/삭제되므로 전용 사용자로 실행해야 함
+ */
+@Slf4j
+@Service
+public class NotificationBenchmarkService {
+
+    private static final int MAX_SIZE = 200_000;
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    private final NotificationService notificationService;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationBenchmarkService(NotificationService notificationService,
+                                       NotificationRepository notificationRepository,
+                                       UnreadNotificationCounter unreadNotificationCounter,
+                                       UserRepository userRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.notificationService = notificationService;
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<NotificationBenchmarkResult> run(Long userId, List<Integer> sizes, boolean includeLegacy) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        for (Integer size : sizes) {
+            if (size == null || size <= 0 || size > MAX_SIZE) {
+                throw new BadRequestException("size must be between 1 and " + MAX_SIZE);
+            }
+        }
+
+        List<NotificationBenchmarkResult> results = new ArrayList<>();
+        for (int size : sizes) {
+            Long legacyMs = null;
+            if (includeLegacy) {
+                seed(userId, size);
+                legacyMs = measure(() -> legacyMarkAllAsRead(userId));
+            }
+
+            seed(userId, size);
+            long bulkMarkReadMs = measure(() -> notificationService.markAllAsRead(userId, null));
+            long bulkDeleteMs = measure(() -> notificationService.deleteReadNotifications(userId, null));
+
+            log.info("알림 벤치마크: userId={}, 건수={}, 기존 읽음={}ms, 일괄 읽음={}ms, 일괄 삭제={}ms",
+                    userId, size, legacyMs, bulkMarkReadMs, bulkDeleteMs);
+            results.add(new NotificationBenchmarkResult(size, legacyMs, bulkMarkReadMs, bulkDeleteMs));
+        }
+        return results;
+    }
+
+    private void seed(Long userId, int size) {
+        for (int from = 0; from < size; from += INSERT_CHUNK_SIZE) {
+            int count = Math.min(INSERT_CHUNK_SIZE, size - from);
+            List<NotificationRow> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(new NotificationRow(userId, NotificationType.ORDER, "벤치마크 알림", "벤치마크 알림 " + (from + i)));
+            }
+            transactionTemplate.executeWithoutResult(status -> notificationService.createBulk(rows));
+        }
+    }
+
+    /**
+     * 기존 방식: 읽지 않은 알림 엔티티를 모두 로딩해 변경 감지로 건별 UPDATE
+     */
+    private void legacyMarkAllAsRead(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Notification> unread = notificationRepository.findUnreadByUserId(userId);
+            unread.forEach(notification -> notification.setIsRead(true));
+            unreadNotificationCounter.adjust(userId, -unread.size());
+        });
+    }
+
+    private long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
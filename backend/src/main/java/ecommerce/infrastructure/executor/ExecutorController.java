@@ -0,0 +1,30 @@
+package ecommerce.infrastructure.executor;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/executors")
+@Tag(name = "Executors", description = "비동기 실행기 모니터링")
+@SecurityRequirement(name = "bearerAuth")
+public class ExecutorController {
+
+    private final List<InstrumentedExecutor> executors;
+
+    @GetMapping
+    @Operation(summary = "실행기 상태 조회", description = "실행기별 큐 길이, 활성 스레드, 대기/실행 시간, 거부 건수를 조회합니다")
+    public ResponseEntity<List<ExecutorStats>> getExecutors() {
+        return ResponseEntity.ok(executors.stream()
+                .map(InstrumentedExecutor::getStats)
+                .toList());
+    }
+}
@@ -0,0 +1,90 @@
+package ecommerce.infrastructure.executor;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행기 작업 지표 (제출/완료/실패/거부 건수, 대기·실행 시간)
+ * TaskDecorator 로 작업을 감싸 제출 시각부터 시작/종료 시각을 측정
+ */
+class ExecutorMetrics {
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong running = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong totalExecutionNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    /**
+     * 작업 래핑: 큐 대기 시간(제출 → 시작)과 실행 시간 기록
+     */
+    TaskDecorator decorator(TaskDecorator delegate) {
+        return runnable -> {
+            Runnable task = delegate != null ? delegate.decorate(runnable) : runnable;
+            long submittedAt = System.nanoTime();
+            submitted.incrementAndGet();
+
+            return () -> {
+                long startedAt = System.nanoTime();
+                record(totalQueueWaitNanos, maxQueueWaitNanos, startedAt - submittedAt);
+                running.incrementAndGet();
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    failed.incrementAndGet();
+                    throw e;
+                } finally {
+                    running.decrementAndGet();
+                    completed.incrementAndGet();
+                    record(totalExecutionNanos, maxExecutionNanos, System.nanoTime() - startedAt);
+                }
+            };
+        };
+    }
+
+    /**
+     * 거부 건수를 센 뒤 원래 정책에 위임 (CallerRuns 로 호출 스레드에서 실행된 경우도 거부로 집계)
+     */
+    RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+        return (runnable, executor) -> {
+            rejected.incrementAndGet();
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+
+    void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    long getRunning() {
+        return running.get();
+    }
+
+    ExecutorStats.ExecutorStatsBuilder fill(ExecutorStats.ExecutorStatsBuilder builder) {
+        long done = completed.get();
+        return builder
+                .submitted(submitted.get())
+                .completed(done)
+                .failed(failed.get())
+                .rejected(rejected.get())
+                .avgQueueWaitMs(done > 0 ? nanosToMillis(totalQueueWaitNanos.get()) / done : 0.0)
+                .maxQueueWaitMs(nanosToMillis(maxQueueWaitNanos.get()))
+                .avgExecutionMs(done > 0 ? nanosToMillis(totalExecutionNanos.get()) / done : 0.0)
+                .maxExecutionMs(nanosToMillis(maxExecutionNanos.get()));
+    }
+
+    private void record(AtomicLong total, AtomicLong max, long nanos) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    private double nanosToMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
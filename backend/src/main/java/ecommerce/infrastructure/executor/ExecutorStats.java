@@ -0,0 +1,28 @@
+package ecommerce.infrastructure.executor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실행기 상태 스냅샷
+ */
+@Getter
+@Builder
+public class ExecutorStats {
+
+    private final String name;
+    private final String type;       // PLATFORM_POOL / VIRTUAL
+    private final int poolSize;
+    private final int maxPoolSize;
+    private final long activeCount;
+    private final int queueSize;
+    private final int queueCapacity;
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+    private final double avgQueueWaitMs;
+    private final double maxQueueWaitMs;
+    private final double avgExecutionMs;
+    private final double maxExecutionMs;
+}
@@ -0,0 +1,9 @@
+package ecommerce.infrastructure.executor;
+
+/**
+ * 상태 조회가 가능한 실행기
+ */
+public interface InstrumentedExecutor {
+
+    ExecutorStats getStats();
+}
@@ -0,0 +1,47 @@
+package ecommerce.infrastructure.executor;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 제한된 큐 + 거부 정책을 갖는 플랫폼 스레드 풀 (작업 지표 수집)
+ */
+public class InstrumentedThreadPoolTaskExecutor extends ThreadPoolTaskExecutor implements InstrumentedExecutor {
+
+    private final String name;
+    private final transient ExecutorMetrics metrics = new ExecutorMetrics();
+
+    public InstrumentedThreadPoolTaskExecutor(String name) {
+        this.name = name;
+        setThreadNamePrefix(name + "-");
+        // 데코레이터/거부 정책을 따로 지정하지 않아도 지표는 수집
+        setTaskDecorator(null);
+        setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        super.setTaskDecorator(metrics.decorator(taskDecorator));
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler rejectedExecutionHandler) {
+        super.setRejectedExecutionHandler(metrics.countingRejections(rejectedExecutionHandler));
+    }
+
+    @Override
+    public ExecutorStats getStats() {
+        return metrics.fill(ExecutorStats.builder())
+                .name(name)
+                .type("PLATFORM_POOL")
+                .poolSize(getPoolSize())
+                .maxPoolSize(getMaxPoolSize())
+                .activeCount(getActiveCount())
+                .queueSize(getQueueSize())
+                .queueCapacity(getQueueCapacity())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package ecommerce.infrastructure.executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 가상 스레드 기반 실행기 (I/O 대기 위주 작업용, JDK 21 이상에서만 사용 가능)
+ * 작업마다 가상 스레드를 만들고 동시 실행 수만 제한 (초과 시 거부하여 부하를 버림)
+ * 허가는 제출 시 선점하고 작업이 끝나면 반환 (동시에 제출되어도 한도를 넘지 않음)
+ */
+public class InstrumentedVirtualThreadTaskExecutor extends SimpleAsyncTaskExecutor implements InstrumentedExecutor {
+
+    private final String name;
+    private final int concurrencyLimit;
+    private final transient Semaphore permits;
+    private final transient ExecutorMetrics metrics = new ExecutorMetrics();
+
+    public InstrumentedVirtualThreadTaskExecutor(String name, int concurrencyLimit, long shutdownTimeoutMillis) {
+        super(name + "-");
+        this.name = name;
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+        setVirtualThreads(true);
+        setTaskDecorator(metrics.decorator(null));
+        // 종료 시 실행 중인 작업이 끝날 때까지 대기
+        setTaskTerminationTimeout(shutdownTimeoutMillis);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        // 동시 실행 수 초과 시 대기하지 않고 거부
+        if (!permits.tryAcquire()) {
+            metrics.recordRejected();
+            throw new TaskRejectedException("동시 실행 한도 초과: " + name + " (" + concurrencyLimit + ")");
+        }
+
+        try {
+            super.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public ExecutorStats getStats() {
+        return metrics.fill(ExecutorStats.builder())
+                .name(name)
+                .type("VIRTUAL")
+                .poolSize((int) metrics.getRunning())
+                .maxPoolSize(concurrencyLimit)
+                .activeCount(metrics.getRunning())
+                .queueSize(0)
+                .queueCapacity(0)
+                .build();
+    }
+}
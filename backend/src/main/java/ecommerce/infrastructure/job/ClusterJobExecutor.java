@@ -0,0 +1,129 @@
+package ecommerce.infrastructure.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 클러스터 안전 작업 실행기
+ * 모든 노드에서 같은 cron 으로 트리거되어도 실행 ID(runId) 단위로 정확히 한 번만 수행되도록 보장
+ *
+ * - runOnce: 작업 전체를 하나의 임대로 실행
+ * - runSharded: ID 구간을 샤드로 나누어 살아 있는 노드들이 나눠서 처리
+ *   (죽은 노드의 샤드는 임대 만료 후 대기 중인 다른 노드가 이어서 처리)
+ * - 임대 TTL 이 지나 다른 노드가 인계받을 수 있으므로 작업의 쓰기는 멱등이어야 하며,
+ *   Redis 결과 반영은 JobLeaseManager.executeFenced 로 임대 소유 여부를 함께 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobExecutor {
+
+    private static final Duration DONE_RETENTION = Duration.ofHours(25);
+    private static final long POLL_INTERVAL_MS = 1000L;
+
+    private final JobLeaseManager leaseManager;
+
+    /**
+     * 작업을 클러스터 전체에서 한 번만 실행
+     *
+     * @return 이 노드에서 실행했으면 true
+     */
+    public boolean runOnce(String jobName, String runId, Duration leaseTtl, Consumer<JobLease> task) {
+        JobLeaseManager.AcquireResult result =
+                leaseManager.tryAcquire(jobName + ":" + runId, jobName, leaseTtl);
+
+        if (result.getLease().isEmpty()) {
+            log.info("작업 스킵 ({}): job={}, runId={}, nodeId={}",
+                    result.isDone() ? "이미 완료" : "다른 노드 실행 중", jobName, runId, leaseManager.getNodeId());
+            return false;
+        }
+
+        JobLease lease = result.getLease().get();
+        try {
+            task.accept(lease);
+            leaseManager.complete(lease, DONE_RETENTION);
+            return true;
+        } catch (RuntimeException e) {
+            leaseManager.release(lease);
+            throw e;
+        }
+    }
+
+    /**
+     * ID 구간 [minId, maxId] 를 shardCount 개로 나누어 샤드 단위로 처리
+     * 각 샤드는 개별 임대로 보호되며, 모든 샤드가 완료되거나 진행이 멈출 때까지 미처리 샤드를 계속 가져감
+     *
+     * @return 이 노드가 처리한 샤드 수
+     */
+    public int runSharded(String jobName, String runId, long minId, long maxId, int shardCount,
+                          Duration leaseTtl, BiConsumer<IdRange, JobLease> task) {
+        List<IdRange> pending = IdRange.split(minId, maxId, shardCount);
+        int processed = 0;
+        long lastProgressAt = System.currentTimeMillis();
+        // 다른 노드의 샤드가 만료되어 넘어올 때까지 기다리는 최대 시간
+        long maxIdleMillis = leaseTtl.toMillis() * 2;
+
+        while (!pending.isEmpty()) {
+            boolean progressed = false;
+
+            Iterator<IdRange> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                IdRange range = iterator.next();
+                JobLeaseManager.AcquireResult result = leaseManager.tryAcquire(
+                        jobName + ":" + runId + ":" + range.getShardIndex(), jobName, leaseTtl);
+
+                if (result.isDone()) {
+                    iterator.remove();
+                    progressed = true;
+                    continue;
+                }
+                if (result.getLease().isEmpty()) {
+                    continue;
+                }
+
+                JobLease lease = result.getLease().get();
+                try {
+                    task.accept(range, lease);
+                    leaseManager.complete(lease, DONE_RETENTION);
+                    iterator.remove();
+                    processed++;
+                    progressed = true;
+                } catch (RuntimeException e) {
+                    log.error("샤드 처리 실패: job={}, runId={}, range={}", jobName, runId, range, e);
+                    leaseManager.release(lease);
+                }
+            }
+
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            if (progressed) {
+                lastProgressAt = System.currentTimeMillis();
+                continue;
+            }
+            if (System.currentTimeMillis() - lastProgressAt > maxIdleMillis) {
+                log.warn("샤드 대기 시간 초과, 중단: job={}, runId={}, 남은 샤드={}", jobName, runId, pending.size());
+                break;
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.info("샤드 작업 종료: job={}, runId={}, nodeId={}, 처리 샤드={}",
+                jobName, runId, leaseManager.getNodeId(), processed);
+        return processed;
+    }
+}
@@ -0,0 +1,44 @@
+package ecommerce.infrastructure.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드 단위 ID 구간 (양 끝 포함)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class IdRange {
+
+    private final int shardIndex;
+    private final long fromId;
+    private final long toId;
+
+    /**
+     * [minId, maxId] 구간을 최대 count 개의 연속 구간으로 분할
+     */
+    public static List<IdRange> split(long minId, long maxId, int count) {
+        List<IdRange> ranges = new ArrayList<>();
+        if (maxId < minId) {
+            return ranges;
+        }
+
+        long total = maxId - minId + 1;
+        int parts = (int) Math.max(1, Math.min(count, total));
+        long size = (total + parts - 1) / parts;
+
+        for (int i = 0; i < parts; i++) {
+            long from = minId + i * size;
+            if (from > maxId) {
+                break;
+            }
+            ranges.add(new IdRange(i, from, Math.min(from + size - 1, maxId)));
+        }
+        return ranges;
+    }
+}
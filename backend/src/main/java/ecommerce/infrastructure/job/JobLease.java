@@ -0,0 +1,46 @@
+package ecommerce.infrastructure.job;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 기반 작업 임대(lease)
+ * fencingToken 은 작업별로 단조 증가하며, 더 큰 토큰을 가진 임대가 항상 최신 소유자
+ */
+@Getter
+public class JobLease {
+
+    private final String key;
+    private final String owner;
+    private final long fencingToken;
+    private final long ttlMillis;
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean lost = new AtomicBoolean(false);
+
+    JobLease(String key, String owner, long fencingToken, long ttlMillis) {
+        this.key = key;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Redis 에 저장되는 소유자 값 (nodeId:fencingToken)
+     */
+    String getValue() {
+        return owner + ":" + fencingToken;
+    }
+
+    /**
+     * 갱신 실패 등으로 임대를 잃었는지 여부
+     */
+    public boolean isLost() {
+        return lost.get();
+    }
+
+    void markLost() {
+        lost.set(true);
+    }
+}
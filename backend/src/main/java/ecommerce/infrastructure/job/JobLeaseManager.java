@@ -0,0 +1,246 @@
+package ecommerce.infrastructure.job;
+
+import ecommerce.infrastructure.redis.RedisService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 임대(lease) 관리자
+ * - 획득: 키가 없을 때만 fencing token 을 발급하고 PX TTL 로 저장 (Lua 로 원자 처리)
+ * - 갱신: 보유 중인 임대는 TTL 의 1/3 주기로 자동 연장, 실패 시 lost 로 표시
+ * - 만료: 노드가 죽으면 갱신이 멈추고 TTL 경과 후 다른 노드가 획득 가능
+ * - 완료: 키를 DONE 으로 바꿔 같은 트리거에서 다시 실행되지 않도록 함
+ * - fencing: Redis 쓰기는 executeFenced 로 임대 값 비교와 쓰기를 한 스크립트에서 수행
+ *   (isCurrent 는 확인과 쓰기 사이에 임대가 넘어갈 수 있어 진행 중단 판단에만 사용)
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private static final String FENCE_KEY_PREFIX = "job:fence:";
+    private static final String DONE = "DONE";
+
+    // executeFenced 스크립트 결과: 임대를 잃어 쓰기를 하지 않음
+    public static final long FENCE_LOST = -1L;
+    // executeFenced 스크립트 첫 줄 (임대 값이 다르면 아무것도 쓰지 않고 FENCE_LOST 반환)
+    public static final String FENCE_CHECK =
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return " + FENCE_LOST + " end ";
+
+    // 반환값: 발급된 fencing token, 0=다른 노드가 보유 중, -1=이미 완료
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if current == '" + DONE + "' then return -1 end " +
+                    "if current then return 0 end " +
+                    "local token = redis.call('INCR', KEYS[2]) " +
+                    "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+                    "return token",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) end " +
+                    "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], '" + DONE + "', 'PX', ARGV[2]) return 1 end " +
+                    "return 0",
+            Long.class);
+
+    private final RedisService redisService;
+    private final String nodeId;
+    private final Map<String, JobLease> activeLeases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
+
+    public JobLeaseManager(RedisService redisService,
+                           @Value("${job.node-id:}") String configuredNodeId,
+                           @Value("${job.lease.renew-interval-ms:5000}") long renewIntervalMs) {
+        this.redisService = redisService;
+        this.nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.renewer.scheduleAtFixedRate(this::renewAll, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("JobLeaseManager 초기화: nodeId={}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 임대 획득 시도
+     *
+     * @param name 임대 이름 (작업명 + 실행 ID + 샤드 등)
+     * @param fenceScope fencing token 을 공유하는 범위 (보통 작업명)
+     */
+    public AcquireResult tryAcquire(String name, String fenceScope, Duration ttl) {
+        String key = leaseKey(name);
+        long ttlMillis = ttl.toMillis();
+
+        Long token = redisService.executeScript(ACQUIRE_SCRIPT,
+                List.of(key, FENCE_KEY_PREFIX + fenceScope), nodeId, String.valueOf(ttlMillis));
+
+        if (token == null || token == 0) {
+            return AcquireResult.held();
+        }
+        if (token < 0) {
+            return AcquireResult.done();
+        }
+
+        JobLease lease = new JobLease(key, nodeId, token, ttlMillis);
+        activeLeases.put(key, lease);
+        log.debug("임대 획득: key={}, fencingToken={}", key, token);
+        return AcquireResult.acquired(lease);
+    }
+
+    /**
+     * 현재도 이 임대의 소유자인지 확인 (최선 노력, 임대를 잃었으면 작업을 일찍 중단하기 위한 용도)
+     * 확인 직후 임대가 넘어갈 수 있으므로 쓰기 보호는 executeFenced 를 사용
+     */
+    public boolean isCurrent(JobLease lease) {
+        if (lease.isLost()) {
+            return false;
+        }
+        String value = redisService.getStringValue(lease.getKey());
+        return lease.getValue().equals(value);
+    }
+
+    /**
+     * 임대 소유자일 때만 쓰기 스크립트 실행 (임대 값 비교와 쓰기가 Redis 에서 원자적으로 수행됨)
+     * 스크립트는 KEYS[1] 에 임대 키, ARGV[1] 에 소유자 값을 받으므로 FENCE_CHECK 로 시작하고,
+     * 호출 측 keys/args 는 각각 KEYS[2], ARGV[2] 부터 전달됨
+     *
+     * @return 스크립트 결과 (임대를 잃었으면 FENCE_LOST)
+     */
+    public <T> T executeFenced(JobLease lease, RedisScript<T> script, List<String> keys, String... args) {
+        List<String> fencedKeys = new ArrayList<>(keys.size() + 1);
+        fencedKeys.add(lease.getKey());
+        fencedKeys.addAll(keys);
+
+        String[] fencedArgs = new String[args.length + 1];
+        fencedArgs[0] = lease.getValue();
+        System.arraycopy(args, 0, fencedArgs, 1, args.length);
+
+        return redisService.executeScript(script, fencedKeys, fencedArgs);
+    }
+
+    /**
+     * 작업 완료 표시 (retention 동안 같은 임대 이름으로 재실행되지 않음)
+     */
+    public void complete(JobLease lease, Duration retention) {
+        activeLeases.remove(lease.getKey());
+        Long result = redisService.executeScript(COMPLETE_SCRIPT,
+                List.of(lease.getKey()), lease.getValue(), String.valueOf(retention.toMillis()));
+        if (result == null || result == 0) {
+            log.warn("임대 완료 표시 실패 (이미 만료/인계됨): key={}, fencingToken={}",
+                    lease.getKey(), lease.getFencingToken());
+        }
+    }
+
+    /**
+     * 임대 반납 (실패 시 다른 노드가 즉시 재시도할 수 있도록)
+     */
+    public void release(JobLease lease) {
+        activeLeases.remove(lease.getKey());
+        try {
+            redisService.executeScript(RELEASE_SCRIPT, List.of(lease.getKey()), lease.getValue());
+        } catch (Exception e) {
+            log.error("임대 반납 실패 (TTL 만료로 해제됨): key={}", lease.getKey(), e);
+        }
+    }
+
+    private void renewAll() {
+        for (JobLease lease : activeLeases.values()) {
+            try {
+                Long renewed = redisService.executeScript(RENEW_SCRIPT,
+                        List.of(lease.getKey()), lease.getValue(), String.valueOf(lease.getTtlMillis()));
+                if (renewed == null || renewed == 0) {
+                    lease.markLost();
+                    activeLeases.remove(lease.getKey());
+                    log.warn("임대 상실: key={}, fencingToken={}", lease.getKey(), lease.getFencingToken());
+                }
+            } catch (Exception e) {
+                log.error("임대 갱신 실패: key={}", lease.getKey(), e);
+            }
+        }
+    }
+
+    private String leaseKey(String name) {
+        return "job:lease:" + name;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+        activeLeases.values().forEach(this::release);
+    }
+
+    /**
+     * 임대 획득 결과
+     */
+    public static final class AcquireResult {
+
+        private final JobLease lease;
+        private final boolean done;
+
+        private AcquireResult(JobLease lease, boolean done) {
+            this.lease = lease;
+            this.done = done;
+        }
+
+        static AcquireResult acquired(JobLease lease) {
+            return new AcquireResult(lease, false);
+        }
+
+        static AcquireResult held() {
+            return new AcquireResult(null, false);
+        }
+
+        static AcquireResult done() {
+            return new AcquireResult(null, true);
+        }
+
+        public Optional<JobLease> getLease() {
+            return Optional.ofNullable(lease);
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+    }
+}
@@ -9,10 +9,14 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
 @Slf4j
 @Component
 public class NaverShoppingApiClient {
@@ -76,4 +80,15 @@ public class NaverShoppingApiClient {
             throw new UnprocessableEntityException(ErrorCode.EXTERNAL_API_ERROR, "네이버 쇼핑 API 호출에 실패했습니다");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 네이버 쇼핑 API 상품 검색 (외부 API 실행기에서 실행)
+     * 실행기가 가득 차면 TaskRejectedException 으로 즉시 거부됨
+     * Future 로 반환하여 호출 측이 cancel(true) 로 실행 중인 스레드를 인터럽트할 수 있음
+     * (CompletableFuture 는 취소해도 실행 중인 작업을 인터럽트하지 않음)
+     */
+    @Async("externalApiExecutor")
+    public Future<NaverProductSearchResponse> searchProductsAsync(String keyword, Integer display, Integer start) {
+        return CompletableFuture.completedFuture(searchProducts(keyword, display, start));
+    }
+}
@@ -0,0 +1,240 @@
+package ecommerce.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.infrastructure.job.ClusterJobExecutor;
+import ecommerce.infrastructure.job.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 디스패처
+ *
+ * - 커밋된 이벤트를 배치로 선점(FOR UPDATE SKIP LOCKED)하여 핸들러로 전달
+ * - 커밋 직후 깨우기 + 주기적 폴링 (깨우기가 유실되거나 재시도 대기 중인 이벤트 처리)
+ * - 실패 시 지수 백오프(+지터)로 재시도, 최대 횟수 초과 시 DEAD 로 전환
+ * - 선점 만료된 이벤트는 다른 노드가 다시 가져감 (처리 중 노드 장애 대비)
+ * - 처리 완료 이벤트는 보관 기간 후 매일 정리
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, OutboxEventHandler<?>> handlers = new HashMap<>();
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLeaseManager jobLeaseManager;
+    private final ClusterJobExecutor clusterJobExecutor;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long lockTimeoutMs;
+    private final int retentionDays;
+
+    // 같은 노드 안에서 디스패치가 겹치지 않도록 함
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+    // 전달은 전용 실행기에서 수행 (요청 스레드에서 실행되지 않음, 종료 시 진행 중인 전달이 끝날 때까지 대기)
+    private final Executor dispatchExecutor;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler<?>> handlerList,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            JobLeaseManager jobLeaseManager,
+                            ClusterJobExecutor clusterJobExecutor,
+                            @Qualifier("outboxDispatchExecutor") Executor dispatchExecutor,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.backoff.initial-ms:1000}") long initialBackoffMs,
+                            @Value("${outbox.backoff.max-ms:600000}") long maxBackoffMs,
+                            @Value("${outbox.lock-timeout-ms:300000}") long lockTimeoutMs,
+                            @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobLeaseManager = jobLeaseManager;
+        this.clusterJobExecutor = clusterJobExecutor;
+        this.dispatchExecutor = dispatchExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.retentionDays = retentionDays;
+
+        for (OutboxEventHandler<?> handler : handlerList) {
+            OutboxEventHandler<?> previous = handlers.put(handler.payloadType().getSimpleName(), handler);
+            if (previous != null) {
+                throw new IllegalStateException("아웃박스 핸들러 중복: " + handler.payloadType().getSimpleName());
+            }
+        }
+        log.info("아웃박스 핸들러 등록: {}", handlers.keySet());
+    }
+
+    /**
+     * 커밋 직후 호출: 폴링 주기를 기다리지 않고 디스패치 (이미 요청되어 있으면 합쳐짐)
+     * 실행기가 가득 차 깨우기가 버려져도 다음 poll() 에서 처리됨
+     */
+    public void requestDispatch() {
+        if (wakeUpRequested.compareAndSet(false, true)) {
+            dispatchExecutor.execute(() -> {
+                wakeUpRequested.set(false);
+                dispatchPending();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        // 버려진 깨우기로 플래그가 남아 있어도 폴링 주기마다 다시 요청 (대기 중인 깨우기가 있으면 버려짐)
+        wakeUpRequested.set(false);
+        requestDispatch();
+    }
+
+    /**
+     * 처리 가능한 이벤트가 없을 때까지 배치 단위로 선점 → 전달
+     */
+    void dispatchPending() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+
+        try {
+            while (true) {
+                List<OutboxEvent> claimed = claim();
+                if (claimed.isEmpty()) {
+                    return;
+                }
+
+                for (OutboxEvent event : claimed) {
+                    deliver(event);
+                }
+
+                if (claimed.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 디스패치 오류", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * 배치 선점: 짧은 트랜잭션에서 행 잠금 후 PROCESSING + 선점 만료 시각 기록
+     */
+    private List<OutboxEvent> claim() {
+        String owner = jobLeaseManager.getNodeId();
+
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(
+                    OutboxStatus.PENDING, OutboxStatus.PROCESSING, now, PageRequest.of(0, batchSize));
+
+            for (OutboxEvent event : events) {
+                event.setStatus(OutboxStatus.PROCESSING);
+                event.setLockedBy(owner);
+                event.setLockedUntil(now.plus(Duration.ofMillis(lockTimeoutMs)));
+            }
+            return events;
+        });
+    }
+
+    private void deliver(OutboxEvent event) {
+        OutboxEventHandler<?> handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            log.error("아웃박스 핸들러 없음, DEAD 처리: id={}, type={}", event.getId(), event.getEventType());
+            markFailed(event, "핸들러 없음: " + event.getEventType(), true);
+            return;
+        }
+
+        try {
+            invoke(handler, event.getPayload());
+
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(
+                    event.getId(), event.getLockedBy(), LocalDateTime.now(),
+                    OutboxStatus.PUBLISHED, OutboxStatus.PROCESSING));
+
+            log.debug("아웃박스 이벤트 처리 완료: id={}, type={}", event.getId(), event.getEventType());
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 처리 실패: id={}, type={}, 시도={}회, 에러={}",
+                    event.getId(), event.getEventType(), event.getAttempts() + 1, e.getMessage(), e);
+            markFailed(event, e.getClass().getSimpleName() + ": " + e.getMessage(), false);
+        }
+    }
+
+    private <T> void invoke(OutboxEventHandler<T> handler, String payload) throws IOException {
+        handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+    }
+
+    private void markFailed(OutboxEvent event, String error, boolean permanent) {
+        int attempts = event.getAttempts() + 1;
+        boolean dead = permanent || attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(attempts)));
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markFailed(
+                event.getId(), event.getLockedBy(),
+                dead ? OutboxStatus.DEAD : OutboxStatus.PENDING,
+                attempts, nextAttemptAt, truncated, OutboxStatus.PROCESSING));
+
+        if (dead) {
+            log.error("아웃박스 이벤트 DEAD 전환: id={}, type={}, 시도={}회, 에러={}",
+                    event.getId(), event.getEventType(), attempts, truncated);
+        }
+    }
+
+    /**
+     * 지수 백오프 (initial * 2^(attempts-1), 최대값 제한) + 최대 20% 지터
+     */
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs * (1L << exponent));
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 정리 (클러스터에서 하루 한 번)
+     */
+    @Scheduled(cron = "0 15 4 * * ?") // 매일 새벽 4시 15분
+    public void cleanupPublished() {
+        clusterJobExecutor.runOnce("outbox-cleanup", LocalDate.now().toString(), Duration.ofMinutes(5), lease -> {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            long deleted = 0;
+            int batch;
+
+            do {
+                batch = transactionTemplate.execute(status ->
+                        outboxEventRepository.deletePublishedBefore(before, CLEANUP_BATCH_SIZE));
+                deleted += batch;
+            } while (batch == CLEANUP_BATCH_SIZE);
+
+            log.info("아웃박스 정리 완료: 삭제={}건, 기준={}", deleted, before);
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package ecommerce.infrastructure.outbox;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * 이벤트 타입은 payload 클래스의 단순 이름으로 매칭
+ *
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 (처리 후 완료 표시 전 장애 등) 멱등하게 구현해야 함
+ * 예외를 던지면 백오프 후 재시도, 최대 횟수 초과 시 DEAD 로 전환
+ */
+public interface OutboxEventHandler<T> {
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+}
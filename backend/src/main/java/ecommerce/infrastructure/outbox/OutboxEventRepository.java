@@ -0,0 +1,78 @@
+package ecommerce.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 처리 가능한 이벤트 선점 조회 (FOR UPDATE SKIP LOCKED)
+     * 재시도 시각이 지난 대기 이벤트 + 선점 만료된 처리 중 이벤트 (선점 노드 장애)
+     * 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 가져가도 겹치지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE (e.status = :pending AND e.nextAttemptAt <= :now) " +
+            "OR (e.status = :processing AND e.lockedUntil < :now) " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findClaimable(
+            @Param("pending") OutboxStatus pending,
+            @Param("processing") OutboxStatus processing,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 처리 완료 표시 (선점한 노드일 때만)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :published, e.publishedAt = :now, " +
+            "e.lockedBy = null, e.lockedUntil = null " +
+            "WHERE e.id = :id AND e.status = :processing AND e.lockedBy = :owner")
+    int markPublished(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("published") OutboxStatus published,
+            @Param("processing") OutboxStatus processing
+    );
+
+    /**
+     * 실패 기록 (재시도 대기 또는 DEAD, 선점한 노드일 때만)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error, " +
+            "e.lockedBy = null, e.lockedUntil = null " +
+            "WHERE e.id = :id AND e.status = :processing AND e.lockedBy = :owner")
+    int markFailed(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("status") OutboxStatus status,
+            @Param("attempts") Integer attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error,
+            @Param("processing") OutboxStatus processing
+    );
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 삭제 (LIMIT 단위)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE status = 'PUBLISHED' AND published_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deletePublishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,55 @@
+package ecommerce.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출한 트랜잭션 안에서 outbox_events 에 INSERT 하므로 비즈니스 변경과 함께 커밋/롤백됨
+ * 커밋 직후 디스패처를 깨워 폴링 주기를 기다리지 않고 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Long aggregateId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+
+        OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getSimpleName())
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        log.info("아웃박스 이벤트 기록: id={}, type={}, aggregateId={}",
+                outboxEvent.getId(), outboxEvent.getEventType(), aggregateId);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.requestDispatch();
+            }
+        });
+    }
+}
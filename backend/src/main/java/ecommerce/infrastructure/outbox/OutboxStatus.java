@@ -0,0 +1,8 @@
+package ecommerce.infrastructure.outbox;
+
+public enum OutboxStatus {
+    PENDING,     // 발행 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 선점하여 처리 중
+    PUBLISHED,   // 처리 완료 (보관 기간 후 정리)
+    DEAD         // 최대 재시도 초과 (수동 확인 필요)
+}
@@ -2,12 +2,21 @@ package ecommerce.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -53,6 +62,17 @@ public class RedisService {
         }
     }
 
+    /**
+     * String 값 저장 (만료 시간 포함, JSON 직렬화 없이 원문 그대로 저장)
+     */
+    public void setStringValue(String key, String value, long timeoutSeconds) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, value, Duration.ofSeconds(timeoutSeconds));
+        } catch (Exception e) {
+            log.error("Redis set error: key={}", key, e);
+        }
+    }
+
     /**
      * String 값 조회
      */
@@ -65,6 +85,19 @@ public class RedisService {
         }
     }
 
+    /**
+     * String 다중 조회 (MGET, 없는 키는 null)
+     */
+    public List<String> getStringValues(Collection<String> keys) {
+        try {
+            List<String> result = stringRedisTemplate.opsForValue().multiGet(keys);
+            return result != null ? result : List.of();
+        } catch (Exception e) {
+            log.error("Redis mget error: keys={}", keys.size(), e);
+            return List.of();
+        }
+    }
+
     /**
      * 값 증가 (INCR)
      */
@@ -148,4 +181,175 @@ public class RedisService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 파이프라인 실행 (여러 명령을 한 번의 왕복으로 전송)
+     * 명령은 StringRedisConnection 으로 작성하며, 결과는 명령 순서대로 반환
+     */
+    public List<Object> executePipelined(Consumer<StringRedisConnection> commands) {
+        try {
+            return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                commands.accept((StringRedisConnection) connection);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Redis pipeline error", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Sorted Set 상위 N개 조회 (점수 내림차순, ZREVRANGE WITHSCORES)
+     */
+    public Set<ZSetOperations.TypedTuple<String>> getTopByScore(String key, long count) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> result =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1);
+            return result != null ? result : Set.of();
+        } catch (Exception e) {
+            log.error("Redis zrevrange error: key={}", key, e);
+            return Set.of();
+        }
+    }
+
+    /**
+     * Hash 다중 필드 조회 (HMGET)
+     */
+    public List<Object> getHashValues(String key, Collection<Object> fields) {
+        try {
+            return stringRedisTemplate.opsForHash().multiGet(key, fields);
+        } catch (Exception e) {
+            log.error("Redis hmget error: key={}", key, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Lua 스크립트 실행 (EVALSHA, 인자는 모두 문자열로 전달)
+     * 원자성이 필요한 연산에 사용하며, 실패 시 예외를 그대로 던짐
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return stringRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    /**
+     * Hash 필드 조회 (HGET)
+     */
+    public String getHashValue(String key, String field) {
+        try {
+            Object value = stringRedisTemplate.opsForHash().get(key, field);
+            return value != null ? value.toString() : null;
+        } catch (Exception e) {
+            log.error("Redis hget error: key={}, field={}", key, field, e);
+            return null;
+        }
+    }
+
+    /**
+     * Hash 필드 저장 (HSET)
+     */
+    public void putHashValue(String key, String field, String value) {
+        try {
+            stringRedisTemplate.opsForHash().put(key, field, value);
+        } catch (Exception e) {
+            log.error("Redis hset error: key={}, field={}", key, field, e);
+        }
+    }
+
+    /**
+     * List 구간 조회 (LRANGE, end 포함)
+     */
+    public List<String> getListRange(String key, long start, long end) {
+        try {
+            List<String> result = stringRedisTemplate.opsForList().range(key, start, end);
+            return result != null ? result : List.of();
+        } catch (Exception e) {
+            log.error("Redis lrange error: key={}", key, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * List 앞쪽 count 개 제거 (LTRIM count -1)
+     */
+    public void trimListHead(String key, long count) {
+        try {
+            stringRedisTemplate.opsForList().trim(key, count, -1);
+        } catch (Exception e) {
+            log.error("Redis ltrim error: key={}, count={}", key, count, e);
+        }
+    }
+
+    /**
+     * List 길이 조회 (LLEN)
+     */
+    public long getListSize(String key) {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(key);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.error("Redis llen error: key={}", key, e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Hash 전체 조회 (HGETALL, 없거나 실패하면 빈 Map)
+     */
+    public Map<String, String> getHashEntries(String key) {
+        try {
+            Map<String, String> result = new HashMap<>();
+            stringRedisTemplate.<String, String>opsForHash().entries(key).forEach(result::put);
+            return result;
+        } catch (Exception e) {
+            log.error("Redis hgetall error: key={}", key, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Set 멤버 추가 (SADD)
+     */
+    public void addSetMembers(String key, String... members) {
+        try {
+            stringRedisTemplate.opsForSet().add(key, members);
+        } catch (Exception e) {
+            log.error("Redis sadd error: key={}", key, e);
+        }
+    }
+
+    /**
+     * Set 에서 임의 멤버 최대 count 개 꺼내기 (SPOP count)
+     */
+    public List<String> popSetMembers(String key, long count) {
+        try {
+            List<String> result = stringRedisTemplate.opsForSet().pop(key, count);
+            return result != null ? result : List.of();
+        } catch (Exception e) {
+            log.error("Redis spop error: key={}", key, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Hash 필드 삭제 (HDEL)
+     */
+    public void deleteHashField(String key, String field) {
+        try {
+            stringRedisTemplate.opsForHash().delete(key, field);
+        } catch (Exception e) {
+            log.error("Redis hdel error: key={}, field={}", key, field, e);
+        }
+    }
+
+    /**
+     * 채널 발행 (PUBLISH)
+     */
+    public void publish(String channel, String message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.error("Redis publish error: channel={}", channel, e);
+        }
+    }
+}
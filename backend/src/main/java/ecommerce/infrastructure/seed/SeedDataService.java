@@ -11,19 +11,25 @@ import ecommerce.domain.seller.entity.Seller;
 import ecommerce.domain.seller.repository.SellerRepository;
 import ecommerce.domain.user.entity.User;
 import ecommerce.domain.user.repository.UserRepository;
+import ecommerce.infrastructure.batch.ChunkJob;
+import ecommerce.infrastructure.batch.ChunkJobRunner;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 /**
  * JSON 파일 기반 시드 데이터 생성 서비스
@@ -40,11 +46,17 @@ public class SeedDataService {
     private final ProductRepository productRepository;
     private final PasswordEncoder passwordEncoder;
     private final ObjectMapper objectMapper;
+    private final ChunkJobRunner chunkJobRunner;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final String PRODUCT_JOB_NAME = "seed-products";
+    private static final String PRODUCT_RUN_ID = "naver_products";
+    private static final int PRODUCT_CHUNK_SIZE = 100;
 
     /**
      * JSON 파일에서 시드 데이터 로드 및 생성
+     * 사용자/카테고리/판매자는 단계별 트랜잭션, 상품은 청크 작업으로 청크별 커밋 (중단 시 이어서 생성)
      */
-    @Transactional
     public void generateSeedData() {
         // 이미 충분한 데이터가 있으면 스킵
         long productCount = productRepository.count();
@@ -68,16 +80,18 @@ public class SeedDataService {
                     seedData.getSellers().size(),
                     seedData.getProducts().size());
 
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
             // 1. Users 생성
-            List<User> users = createUsers(seedData.getUsers());
+            List<User> users = transaction.execute(status -> createUsers(seedData.getUsers()));
             log.info("✅ 사용자 {}개 생성 완료", users.size());
 
             // 2. Categories 생성
-            List<Category> categories = createCategories(seedData.getCategories());
+            List<Category> categories = transaction.execute(status -> createCategories(seedData.getCategories()));
             log.info("✅ 카테고리 {}개 생성 완료", categories.size());
 
             // 3. Sellers 생성
-            List<Seller> sellers = createSellers(seedData.getSellers(), users);
+            List<Seller> sellers = transaction.execute(status -> createSellers(seedData.getSellers(), users));
             log.info("✅ 판매자 {}개 생성 완료", sellers.size());
 
             // 4. Products 생성
@@ -134,14 +148,17 @@ public class SeedDataService {
     private List<Category> createCategories(List<CategoryDto> categoryDtos) {
         List<Category> categories = new ArrayList<>();
 
+        // 기존 카테고리는 한 번만 조회
+        Map<String, Category> existingByName = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            existingByName.putIfAbsent(category.getName(), category);
+        }
+
         for (CategoryDto dto : categoryDtos) {
             // 이미 존재하는 카테고리면 스킵
-            List<Category> existing = categoryRepository.findAll().stream()
-                    .filter(c -> c.getName().equals(dto.getName()))
-                    .toList();
-
-            if (!existing.isEmpty()) {
-                categories.add(existing.get(0));
+            Category existing = existingByName.get(dto.getName());
+            if (existing != null) {
+                categories.add(existing);
                 continue;
             }
 
@@ -184,38 +201,48 @@ public class SeedDataService {
     }
 
     /**
-     * Products 생성
+     * Products 생성 (청크 단위 saveAll, JSON 내 순번을 키로 체크포인트)
      */
     private int createProducts(List<ProductDto> productDtos, List<Seller> sellers, List<Category> categories) {
-        int created = 0;
-
-        for (ProductDto dto : productDtos) {
-            try {
-                Seller seller = sellers.get(dto.getSellerIndex());
-                Category category = categories.get(dto.getCategoryIndex());
-
-                Product product = Product.builder()
-                        .seller(seller)
-                        .category(category)
-                        .name(dto.getName())
-                        .description(dto.getDescription())
-                        .price(BigDecimal.valueOf(dto.getPrice()))
-                        .stock(dto.getStock())
-                        .imageUrl(dto.getImageUrl())
-                        .naverProductId(dto.getNaverProductId())
-                        .status(ProductStatus.valueOf(dto.getStatus()))
-                        .salesCount(dto.getSalesCount())
-                        .build();
-
-                productRepository.save(product);
-                created++;
-
-            } catch (Exception e) {
-                log.warn("상품 생성 실패: {}", e.getMessage());
-            }
-        }
+        ChunkJob<Integer, Product> job = ChunkJob.<Integer, Product>builder()
+                .name(PRODUCT_JOB_NAME)
+                .runId(PRODUCT_RUN_ID)
+                .minId(1L)
+                .maxId(productDtos.size())
+                .chunkSize(PRODUCT_CHUNK_SIZE)
+                .reader((afterId, toId, limit) -> LongStream.rangeClosed(afterId + 1, Math.min(afterId + limit, toId))
+                        .mapToObj(seq -> (int) seq)
+                        .toList())
+                .keyExtractor(Integer::longValue)
+                .processor(seq -> toProduct(productDtos.get(seq - 1), sellers, categories))
+                .writer(productRepository::saveAll)
+                .build();
+
+        return (int) chunkJobRunner.run(job).getWriteCount();
+    }
 
-        return created;
+    private Product toProduct(ProductDto dto, List<Seller> sellers, List<Category> categories) {
+        try {
+            Seller seller = sellers.get(dto.getSellerIndex());
+            Category category = categories.get(dto.getCategoryIndex());
+
+            return Product.builder()
+                    .seller(seller)
+                    .category(category)
+                    .name(dto.getName())
+                    .description(dto.getDescription())
+                    .price(BigDecimal.valueOf(dto.getPrice()))
+                    .stock(dto.getStock())
+                    .imageUrl(dto.getImageUrl())
+                    .naverProductId(dto.getNaverProductId())
+                    .status(ProductStatus.valueOf(dto.getStatus()))
+                    .salesCount(dto.getSalesCount())
+                    .build();
+
+        } catch (Exception e) {
+            log.warn("상품 생성 실패: {}", e.getMessage());
+            return null;
+        }
     }
 
     // ========== DTO 클래스들 ==========
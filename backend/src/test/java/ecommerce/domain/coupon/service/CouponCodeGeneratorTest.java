@@ -0,0 +1,116 @@
+package ecommerce.domain.coupon.service;
+
+import ecommerce.domain.coupon.repository.CouponCodeSequenceJdbcRepository;
+import ecommerce.infrastructure.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouponCodeGeneratorTest {
+
+    private static final String SECRET = "test-secret-key-for-coupon-code-generator";
+    private static final String JWT_SECRET = "test-jwt-secret-key-minimum-256-bits-long";
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    private CouponCodeSequenceJdbcRepository sequenceRepository;
+    private RedisService redisService;
+    private CouponCodeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        sequenceRepository = mock(CouponCodeSequenceJdbcRepository.class);
+        redisService = mock(RedisService.class);
+        when(sequenceRepository.next("coupon-code-generator")).thenReturn(1L, 2L, 3L);
+        generator = new CouponCodeGenerator(sequenceRepository, redisService, SECRET, JWT_SECRET);
+    }
+
+    @Test
+    void 서로_다른_입력은_서로_다른_코드를_생성한다() {
+        List<String> codes = generator.generate(10_000);
+
+        assertThat(new HashSet<>(codes)).hasSize(codes.size());
+    }
+
+    @Test
+    void 생성기_ID가_달라도_코드가_겹치지_않는다() {
+        CouponCodeGenerator other = new CouponCodeGenerator(sequenceRepository, redisService, SECRET, JWT_SECRET);
+
+        Set<String> codes = new HashSet<>(generator.generate(1_000));
+        codes.addAll(other.generate(1_000));
+
+        assertThat(codes).hasSize(2_000);
+    }
+
+    @Test
+    void 코드는_XXXXX_XXXXX_XXXX_형식이다() {
+        for (String code : generator.generate(1_000)) {
+            assertThat(code).matches("[0-9A-HJKMNP-TV-Z]{5}-[0-9A-HJKMNP-TV-Z]{5}-[0-9A-HJKMNP-TV-Z]{4}");
+        }
+    }
+
+    @Test
+    void 생성된_코드는_유효하다() {
+        for (String code : generator.generate(1_000)) {
+            assertThat(generator.isValid(code)).isTrue();
+            assertThat(generator.isValid(code.toLowerCase())).isTrue();
+        }
+    }
+
+    @Test
+    void 한_글자만_바뀌어도_유효하지_않다() {
+        for (String code : generator.generate(100)) {
+            for (int i = 0; i < code.length(); i++) {
+                if (code.charAt(i) == '-') {
+                    continue;
+                }
+                for (char replacement : ALPHABET.toCharArray()) {
+                    if (replacement == code.charAt(i)) {
+                        continue;
+                    }
+                    String changed = code.substring(0, i) + replacement + code.substring(i + 1);
+                    assertThat(generator.isValid(changed)).as("%s -> %s", code, changed).isFalse();
+                }
+            }
+        }
+    }
+
+    @Test
+    void 형식이_다른_코드는_유효하지_않다() {
+        String code = generator.generate();
+
+        assertThat(generator.isValid(null)).isFalse();
+        assertThat(generator.isValid(code.substring(0, code.length() - 1))).isFalse();
+        assertThat(generator.isValid(code.replace(code.charAt(0), 'U'))).isFalse();
+    }
+
+    @Test
+    void DB_카운터가_없으면_이전_Redis_카운터_다음_ID부터_할당한다() {
+        CouponCodeSequenceJdbcRepository emptyRepository = mock(CouponCodeSequenceJdbcRepository.class);
+        when(emptyRepository.next("coupon-code-generator")).thenReturn(null, 8L);
+        when(redisService.getStringValue("coupon:code:generator-seq")).thenReturn("7");
+
+        CouponCodeGenerator seeded = new CouponCodeGenerator(emptyRepository, redisService, SECRET, JWT_SECRET);
+        seeded.generate();
+
+        verify(emptyRepository).seedIfAbsent("coupon-code-generator", 7L);
+    }
+
+    @Test
+    void 순열_키가_없거나_JWT_키와_같으면_생성할_수_없다() {
+        assertThatThrownBy(() -> new CouponCodeGenerator(sequenceRepository, redisService, "", JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CouponCodeGenerator(sequenceRepository, redisService, JWT_SECRET, JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CouponCodeGenerator(sequenceRepository, redisService, "short", JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}